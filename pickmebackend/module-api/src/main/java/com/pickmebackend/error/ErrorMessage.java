@@ -16,7 +16,9 @@ public enum ErrorMessage {
     INVALID_IMAGE("적합한 이미지가 아닙니다."),
     CANNOT_READABLE_IMAGE("이지지를 읽을 수 없습니다."),
     UNVERIFIED_USER("이메일 인증이 되지 않은 사용자입니다."),
-    INVALID_LOGIN("이메일 또는 비밀번호가 맞지 않습니다.");
+    INVALID_LOGIN("이메일 또는 비밀번호가 맞지 않습니다."),
+    INVALID_CURSOR("유효하지 않은 커서입니다."),
+    TOO_MANY_VERIFICATION_REQUESTS("인증 번호 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
 
     private String value;
 }
@@ -3,34 +3,44 @@ package com.pickmebackend.service;
 import com.pickmebackend.common.ErrorsFormatter;
 import com.pickmebackend.config.jwt.JwtProvider;
 import com.pickmebackend.domain.Account;
+import com.pickmebackend.domain.dto.account.AccountResponseDto;
+import com.pickmebackend.domain.enums.ImageSize;
 import com.pickmebackend.error.ErrorMessage;
 import com.pickmebackend.exception.AccountImageException;
 import com.pickmebackend.exception.UserNotFoundException;
+import com.pickmebackend.image.ImageBlob;
+import com.pickmebackend.image.ImageBlobStore;
+import com.pickmebackend.image.ImageDerivativeGenerator;
+import com.pickmebackend.image.ImageMetadata;
+import com.pickmebackend.image.ImageMetadataCache;
 import com.pickmebackend.properties.AccountImageProperties;
+import com.pickmebackend.repository.account.AccountProfileCache;
 import com.pickmebackend.repository.account.AccountRepository;
-import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
 import org.apache.commons.io.FilenameUtils;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
+import org.springframework.http.HttpRange;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.util.UriComponentsBuilder;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.MalformedURLException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 import static com.pickmebackend.error.ErrorMessage.*;
 
@@ -39,87 +49,177 @@ import static com.pickmebackend.error.ErrorMessage.*;
  * https://github.com/spring-guides/gs-uploading-files
  */
 @Service
-@Slf4j
+@RequiredArgsConstructor
 public class AccountImageService {
 
-    private final Path rootLocation;
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+
+    private static final long SENDFILE_THRESHOLD = 48 * 1024;
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
 
     private final JwtProvider jwtProvider;
 
     private final AccountRepository accountRepository;
 
+    private final AccountProfileCache accountProfileCache;
+
     private final ErrorsFormatter errorsFormatter;
 
-    public AccountImageService(AccountImageProperties accountImageProperties, JwtProvider jwtProvider, AccountRepository accountRepository,
-                               ErrorsFormatter errorsFormatter) {
-        this.rootLocation = Paths.get(accountImageProperties.getLocation()).toAbsolutePath().normalize();
-        try {
-            Files.createDirectories(this.rootLocation);
-        }catch(Exception e) {
-            log.warn(e.getMessage());
-        }
-        this.jwtProvider = jwtProvider;
-        this.accountRepository = accountRepository;
-        this.errorsFormatter = errorsFormatter;
-    }
+    private final ImageDerivativeGenerator imageDerivativeGenerator;
+
+    private final ImageMetadataCache imageMetadataCache;
 
+    private final ImageBlobStore imageBlobStore;
+
+    private final AccountImageProperties accountImageProperties;
+
+    /**
+     * 같은 내용이 이미 저장되어 있으면 디코딩과 썸네일 생성 없이 기존 파일을 가리킨다.
+     * 파일 이름은 올린 내용의 해시지만, 원본으로는 메타데이터를 지우려고 다시 인코딩한 이미지를 저장한다.
+     */
     public ResponseEntity<?> saveImage(MultipartFile image, HttpServletRequest request) throws UserNotFoundException {
-        String imageName = UUID.randomUUID().toString() + "_" +  StringUtils.cleanPath(image.getOriginalFilename());
-        String extension = FilenameUtils.getExtension(imageName);
-        try {
-            if (image.isEmpty() || (imageName.contains(".."))
-                    || (!"jpg".equals(extension) && !"jpeg".equals(extension) && !"png".equals(extension))) {
-                return errorsFormatter.badRequest(INVALID_IMAGE.getValue());
-            }
+        String originalName = StringUtils.cleanPath(image.getOriginalFilename());
+        String extension = FilenameUtils.getExtension(originalName);
+        if (image.isEmpty() || (originalName.contains(".."))
+                || (!"jpg".equals(extension) && !"jpeg".equals(extension) && !"png".equals(extension))) {
+            return errorsFormatter.badRequest(INVALID_IMAGE.getValue());
+        }
 
-            try (InputStream inputStream = image.getInputStream()) {
-                Path targetLocation = this.rootLocation.resolve(imageName);
-                Files.copy(inputStream, targetLocation, StandardCopyOption.REPLACE_EXISTING);
+        String imageName;
+        try (InputStream inputStream = image.getInputStream()) {
+            ImageBlob imageBlob = imageBlobStore.stage(inputStream, extension);
+            try {
+                if (!imageBlob.isStored()) {
+                    Optional<BufferedImage> decoded;
+                    try (InputStream stagedInputStream = Files.newInputStream(imageBlob.getStagedPath())) {
+                        decoded = imageDerivativeGenerator.decode(stagedInputStream);
+                    }
+                    if (!decoded.isPresent()) {
+                        return errorsFormatter.badRequest(INVALID_IMAGE.getValue());
+                    }
+                    imageDerivativeGenerator.writeOriginal(decoded.get(), imageBlob.getStagedPath(), extension);
+                    imageDerivativeGenerator.writeDerivatives(decoded.get(), imageBlob.getPath(), extension);
+                    imageBlobStore.commit(imageBlob);
+                }
+            } finally {
+                imageBlobStore.discard(imageBlob);
             }
+            imageName = imageBlob.getName();
         } catch (IOException e) {
-            throw new AccountImageException("Failed to store file " + imageName, e);
+            throw new AccountImageException("Failed to store file " + originalName, e);
         }
         String email = jwtProvider.getUsernameFromToken(request.getHeader(HttpHeaders.AUTHORIZATION).substring(7));
         Optional<Account> accountOptional = accountRepository.findByEmail(email);
         Account account = accountOptional.orElseThrow(UserNotFoundException::new);
-        String newImagePath = UriComponentsBuilder
-                .fromUriString("https://pickme-back.ga:8083")
-                .path("/api/images/")
-                .path(imageName)
-                .toUriString();
-
-        account.setImage(newImagePath);
-        return new ResponseEntity<>(accountRepository.save(account), HttpStatus.CREATED);
+
+        account.setImage(accountImageProperties.getUrlPrefix() + imageName);
+        Account savedAccount = accountRepository.save(account);
+        accountProfileCache.evict(savedAccount.getId());
+        return new ResponseEntity<>(new AccountResponseDto(savedAccount), HttpStatus.CREATED);
     }
 
-    public ResponseEntity<?> loadAsResource(String imageName, HttpServletRequest request) {
-        try {
-            Path imagePath = load(imageName);
-            Resource resource = new UrlResource(imagePath.toUri());
-            if (resource.exists() || resource.isReadable()) {
-                String contentType = null;
-                try {
-                    contentType = request.getServletContext().getMimeType(resource.getFile().getAbsolutePath());
-                } catch (IOException e) {
-                    return errorsFormatter.badRequest(INVALID_IMAGE.getValue());
-                }
-                if (contentType == null) {
-                    contentType = "application/octet-stream";
+    /**
+     * 썸네일이 없는 예전 이미지는 원본을 내려준다.
+     * 본문은 응답에 직접 쓰고 null 을 반환한다. 파일 이름이 바뀌지 않으므로 ETag 와 함께 immutable 로 캐시하게 하고,
+     * If-None-Match 가 맞으면 304, Range 가 하나면 그 구간만 206 으로 보낸다.
+     */
+    public ResponseEntity<?> serveImage(String imageName, String size, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Optional<ImageSize> imageSize = ImageSize.of(size);
+        if (!imageSize.isPresent()) {
+            return errorsFormatter.badRequest(INVALID_IMAGE.getValue());
+        }
+        Path originalPath = imageBlobStore.resolve(imageName);
+        if (!originalPath.startsWith(imageBlobStore.getRootLocation())) {
+            return errorsFormatter.badRequest(INVALID_IMAGE.getValue());
+        }
+        Optional<ImageMetadata> metadataOptional = imageMetadataCache.get(originalPath.resolveSibling(imageSize.get().resolve(originalPath.getFileName().toString())));
+        if (!metadataOptional.isPresent()) {
+            metadataOptional = imageMetadataCache.get(originalPath);
+        }
+        if (!metadataOptional.isPresent()) {
+            return errorsFormatter.badRequest(CANNOT_READABLE_IMAGE.getValue());
+        }
+        ImageMetadata metadata = metadataOptional.get();
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE);
+        if (new ServletWebRequest(request, response).checkNotModified(metadata.getETag())) {
+            return null;
+        }
+
+        long length = metadata.getContentLength();
+        long start = 0;
+        long end = length - 1;
+        boolean partial = false;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.equals(metadata.getETag()))) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(range);
+            } catch (IllegalArgumentException e) {
+                return rangeNotSatisfiable(response, length);
+            }
+            if (ranges.size() == 1) {
+                start = ranges.get(0).getRangeStart(length);
+                end = ranges.get(0).getRangeEnd(length);
+                if (start >= length || start > end) {
+                    return rangeNotSatisfiable(response, length);
                 }
+                partial = true;
+            }
+        }
 
-                return ResponseEntity.ok()
-                        .contentType(MediaType.parseMediaType(contentType))
-                        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + resource.getFilename() + "\"")
-                        .body(resource);
-            } else {
-                return errorsFormatter.badRequest(CANNOT_READABLE_IMAGE.getValue());
+        try (FileChannel channel = FileChannel.open(metadata.getPath(), StandardOpenOption.READ)) {
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+            response.setContentType(metadata.getContentType().toString());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + metadata.getPath().getFileName() + "\"");
+            long count = end - start + 1;
+            if (partial) {
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
             }
-        } catch (MalformedURLException e) {
-            return errorsFormatter.badRequest(INVALID_IMAGE.getValue());
+            response.setContentLengthLong(count);
+            transfer(channel, metadata.getPath(), start, count, request, response);
+        } catch (NoSuchFileException e) {
+            imageMetadataCache.evict(metadata.getPath());
+            response.reset();
+            return errorsFormatter.badRequest(CANNOT_READABLE_IMAGE.getValue());
         }
+        return null;
     }
 
-    private Path load(String imageName) {
-        return this.rootLocation.resolve(imageName).normalize();
+    private ResponseEntity<?> rangeNotSatisfiable(HttpServletResponse response, long length) {
+        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+        response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+        return null;
+    }
+
+    /**
+     * 컨테이너가 sendfile 을 지원하면 파일 경로만 넘겨 커널이 바로 소켓으로 보내게 한다.
+     * 작은 파일은 sendfile 을 준비하는 비용이 더 크므로 FileChannel.transferTo 로 응답 스트림에 옮긴다.
+     */
+    private void transfer(FileChannel channel, Path path, long start, long count,
+                          HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (count >= SENDFILE_THRESHOLD && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+        WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+        long position = start;
+        long remaining = count;
+        while (remaining > 0) {
+            long transferred = channel.transferTo(position, remaining, target);
+            position += transferred;
+            remaining -= transferred;
+        }
     }
 }
@@ -3,40 +3,48 @@ package com.pickmebackend.service;
 import com.pickmebackend.common.ErrorsFormatter;
 import com.pickmebackend.domain.Account;
 import com.pickmebackend.domain.AccountTech;
-import com.pickmebackend.domain.VerificationCode;
+import com.pickmebackend.domain.Favorite;
+import com.pickmebackend.domain.Technology;
 import com.pickmebackend.domain.dto.account.*;
 import com.pickmebackend.domain.dto.verificationCode.SendCodeResponseDto;
 import com.pickmebackend.domain.dto.verificationCode.VerifyCodeRequestDto;
 import com.pickmebackend.domain.dto.verificationCode.VerifyCodeResponseDto;
 import com.pickmebackend.exception.CodeNotExist;
 import com.pickmebackend.exception.UserNotFoundException;
-import com.pickmebackend.repository.VerificationCodeRepository;
+import com.pickmebackend.impl.AccountPrincipalCache;
+import com.pickmebackend.mail.MailOutboxService;
+import com.pickmebackend.mail.MailTemplateRenderer;
+import com.pickmebackend.properties.VerificationCodeProperties;
+import com.pickmebackend.repository.FavoriteRepository;
+import com.pickmebackend.repository.FilterCountCache;
+import com.pickmebackend.repository.account.AccountHitsCounter;
+import com.pickmebackend.repository.account.AccountProfileCache;
 import com.pickmebackend.repository.account.AccountRepository;
 import com.pickmebackend.repository.account.AccountTechRepository;
+import com.pickmebackend.repository.account.AccountViewDeduplicator;
+import com.pickmebackend.verification.VerificationCodeRateLimiter;
+import com.pickmebackend.verification.VerificationCodeStore;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.mail.javamail.MimeMessagePreparator;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import javax.servlet.http.Cookie;
-import javax.servlet.http.HttpServletRequest;
-import javax.servlet.http.HttpServletResponse;
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import static com.pickmebackend.error.ErrorMessage.TOO_MANY_VERIFICATION_REQUESTS;
 import static com.pickmebackend.error.ErrorMessage.UNVERIFIED_USER;
 
 @Service
@@ -45,109 +53,129 @@ public class AccountService{
 
     private final AccountRepository accountRepository;
 
-    private final ModelMapper modelMapper;
-
     private final PasswordEncoder passwordEncoder;
 
     private final AccountTechRepository accountTechRepository;
 
     private final ErrorsFormatter errorsFormatter;
 
-    private final JavaMailSender javaMailSender;
+    private final MailOutboxService mailOutboxService;
+
+    private final MailTemplateRenderer mailTemplateRenderer;
+
+    private final VerificationCodeStore verificationCodeStore;
+
+    private final VerificationCodeRateLimiter verificationCodeRateLimiter;
+
+    private final VerificationCodeProperties verificationCodeProperties;
+
+    private final AccountPrincipalCache accountPrincipalCache;
+
+    private final FilterCountCache filterCountCache;
+
+    private final AccountHitsCounter accountHitsCounter;
 
-    private final TemplateEngine templateEngine;
+    private final AccountViewDeduplicator accountViewDeduplicator;
 
-    private final VerificationCodeRepository verificationCodeRepository;
+    private final FavoriteRepository favoriteRepository;
+
+    private final AccountProfileCache accountProfileCache;
+
+    private final TransactionTemplate transactionTemplate;
 
     public AccountResponseDto loadProfile(Account account) {
         return new AccountResponseDto(account);
     }
 
-    @Transactional
-    public AccountFavoriteFlagResponseDto loadAccount(Long accountId, Account account, HttpServletRequest request, HttpServletResponse response, Account currentUser) {
-        Cookie[] cookies = request.getCookies();
-        Cookie checkCookie = null;
-
-        if (cookies != null && cookies.length > 0) {
-            for (Cookie newCookie : cookies) {
-                if (newCookie.getName().equals("cookie" + accountId)) {
-                    checkCookie = newCookie;
-                }
-            }
-        }
-
-        if (checkCookie == null) {
-            Cookie cookie = new Cookie("cookie" + accountId, "|" + accountId + "|");
-            response.addCookie(cookie);
-            account.setHits(account.getHits() + 1L);
-            accountRepository.save(account);
+    /**
+     * 프로필은 캐시된 JSON 을 쓰고, 캐시에 없을 때만 하위 항목까지 읽는다.
+     * favoriteCount 와 hits 는 매 요청 읽은 유저에서, favoriteFlag 는 보는 사람 기준으로 채운다.
+     */
+    @Transactional(readOnly = true)
+    public CachedAccountResponseDto loadAccount(Long accountId, Account account, Account currentUser) {
+        Long viewerId = currentUser.getId();
+        if (accountViewDeduplicator.isFirstView(viewerId, accountId)) {
+            accountHitsCounter.increment(accountId);
         }
 
-        return new AccountFavoriteFlagResponseDto(account, currentUser);
+        String profile = accountProfileCache.get(accountId, () -> new AccountResponseDto(
+                accountRepository.findWithProfileById(accountId).orElse(account)));
+        boolean favoriteFlag = favoriteRepository.existsByFromAccount_IdAndToAccount_Id(viewerId, accountId);
+        return new CachedAccountResponseDto(accountId, profile, favoriteFlag,
+                account.getFavoriteCount(), account.getHits() + accountHitsCounter.pending(accountId));
     }
 
-    public Page<Account> loadAccountsWithFilter(AccountFilteringRequestDto requestDto, Pageable pageable) {
+    public Page<AccountCardResponseDto> loadAccountsWithFilter(AccountFilteringRequestDto requestDto, Pageable pageable) {
         return this.accountRepository.filterAccount(requestDto, pageable);
     }
 
-    public ResponseEntity<?> sendVerificationCode(String email) {
+    public Slice<AccountCardResponseDto> loadAccountsWithCursor(AccountFilteringRequestDto requestDto, AccountCursor cursor, int size) {
+        return this.accountRepository.filterAccountByCursor(requestDto, cursor, size);
+    }
+
+    public long countAccountsWithFilter(AccountFilteringRequestDto requestDto) {
+        return this.accountRepository.countFilteredAccount(requestDto);
+    }
+
+    @Transactional
+    public ResponseEntity<?> sendVerificationCode(String email, String remoteAddress) {
+        String normalizedEmail = VerificationCodeStore.normalize(email);
+        if (!verificationCodeRateLimiter.tryAcquire(normalizedEmail, remoteAddress)) {
+            return errorsFormatter.tooManyRequests(TOO_MANY_VERIFICATION_REQUESTS.getValue());
+        }
         Random random = new Random();
         StringBuilder code = new StringBuilder();
         for(int i = 0; i < 6; i++)  {
             code.append(random.nextInt(10));
         }
-        String content = this.build(code.toString());
-
-        MimeMessagePreparator mimeMessagePreparator = mimeMessage -> {
-            MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage);
-            mimeMessageHelper.setTo(email);
-            mimeMessageHelper.setSubject("[PickMe] 인증 번호가 도착했습니다!");
-            mimeMessageHelper.setText(content, true);
-        };
-        this.javaMailSender.send(mimeMessagePreparator);
+        String content = this.mailTemplateRenderer.renderVerificationCode(code.toString());
+        this.mailOutboxService.enqueue(email, "[PickMe] 인증 번호가 도착했습니다!", content);
 
         SendCodeResponseDto sendCodeResponseDto = SendCodeResponseDto.builder()
                 .email(email)
                 .code(code.toString())
                 .build();
 
-        VerificationCode verificationCode = modelMapper.map(sendCodeResponseDto, VerificationCode.class);
-        this.verificationCodeRepository.save(verificationCode);
+        this.verificationCodeStore.save(normalizedEmail, code.toString(), verificationCodeProperties.getTtl());
 
-        return new ResponseEntity<>(sendCodeResponseDto, HttpStatus.CREATED);
+        return new ResponseEntity<>(sendCodeResponseDto, HttpStatus.ACCEPTED);
     }
 
     public ResponseEntity<?> verifyCode(VerifyCodeRequestDto verifyCodeRequestDto) throws CodeNotExist {
-        Optional<VerificationCode> optionalVerificationCode = this.verificationCodeRepository.findByEmail(verifyCodeRequestDto.getEmail());
-        VerificationCode verificationCode = optionalVerificationCode.orElseThrow(CodeNotExist::new);
-        if(!verifyCodeRequestDto.getCode().trim().equals(verificationCode.getCode())) {
-            verificationCodeRepository.delete(verificationCode);
+        String code = this.verificationCodeStore.consume(VerificationCodeStore.normalize(verifyCodeRequestDto.getEmail())).orElseThrow(CodeNotExist::new);
+        if(!verifyCodeRequestDto.getCode().trim().equals(code)) {
             return errorsFormatter.badRequest(UNVERIFIED_USER.getValue());
         }
-        verificationCodeRepository.delete(verificationCode);
-        verificationCode.setVerified(true);
+        VerifyCodeResponseDto verifyCodeResponseDto = VerifyCodeResponseDto.builder()
+                .email(verifyCodeRequestDto.getEmail())
+                .code(code)
+                .isVerified(true)
+                .build();
 
-        return new ResponseEntity<>(modelMapper.map(verificationCode, VerifyCodeResponseDto.class), HttpStatus.OK);
+        return new ResponseEntity<>(verifyCodeResponseDto, HttpStatus.OK);
     }
 
     @Transactional
     public AccountResponseDto saveAccount(AccountInitialRequestDto accountDto) {
-        Account account = modelMapper.map(accountDto, Account.class);
+        Account account = accountDto.toEntity();
         account.setPassword(this.passwordEncoder.encode(account.getPassword()));
         account.setValue();
         Account savedAccount = this.accountRepository.save(account);
         return new AccountResponseDto(savedAccount);
     }
 
+    @Transactional
     public AccountResponseDto updateAccount(Account account, AccountRequestDto accountDto) {
-        modelMapper.map(accountDto, account);
+        accountPrincipalCache.evict(account.getEmail());
+        accountDto.applyTo(account);
 
         updateTechnologies(account, accountDto);
         updatePositions(account, accountDto);
 
-        List<AccountTech> allAccount = accountTechRepository.findAllByAccount_Id(account.getId());
-        account.setAccountTechSet(new HashSet<>(allAccount));
         Account modifiedAccount = this.accountRepository.save(account);
+        accountPrincipalCache.evict(modifiedAccount.getEmail());
+        filterCountCache.evictAccountCounts();
+        accountProfileCache.evict(modifiedAccount.getId());
 
         return new AccountResponseDto(modifiedAccount);
     }
@@ -162,51 +190,91 @@ public class AccountService{
         }
     }
 
+    /**
+     * 요청된 기술스택과 비교해서 빠진 것은 한 번의 delete 로 지우고, 추가된 것만 insert 한다.
+     * 식별자는 기존 테이블과 같이 IDENTITY 로 받으므로 insert 는 batch 로 묶이지 않지만, 유저당 기술스택은 수십 개를 넘지 않는다.
+     */
     private void updateTechnologies(Account account, AccountRequestDto accountDto) {
-        if (account.getAccountTechSet() != null) {
-            account.getAccountTechSet().forEach(e -> accountTechRepository.deleteById(e.getId()));
-            account.getAccountTechSet().clear();
+        Set<Long> requestedTechIds = accountDto.getTechnologies() == null ? new HashSet<>() : accountDto.getTechnologies().stream()
+                .map(Technology::getId)
+                .collect(Collectors.toSet());
+
+        List<AccountTech> removedAccountTechs = account.getAccountTechSet().stream()
+                .filter(e -> !requestedTechIds.contains(e.getTechnology().getId()))
+                .collect(Collectors.toList());
+        if (!removedAccountTechs.isEmpty()) {
+            accountTechRepository.deleteAllByIdIn(removedAccountTechs.stream().map(AccountTech::getId).collect(Collectors.toList()));
+            account.getAccountTechSet().removeAll(removedAccountTechs);
         }
+
         if (accountDto.getTechnologies() != null) {
-            accountDto.getTechnologies()
-                    .forEach(tech -> account.getAccountTechSet().add(accountTechRepository.save(
-                            AccountTech.builder()
-                                    .account(account)
-                                    .technology(tech)
-                                    .build())));
+            Set<Long> existingTechIds = account.getAccountTechSet().stream()
+                    .map(e -> e.getTechnology().getId())
+                    .collect(Collectors.toSet());
+            List<AccountTech> addedAccountTechs = accountDto.getTechnologies().stream()
+                    .filter(tech -> existingTechIds.add(tech.getId()))
+                    .map(tech -> AccountTech.builder()
+                            .account(account)
+                            .technology(tech)
+                            .build())
+                    .collect(Collectors.toList());
+            account.getAccountTechSet().addAll(accountTechRepository.saveAll(addedAccountTechs));
         }
     }
 
+    @Transactional
     public AccountResponseDto deleteAccount(Account account) {
+        AccountResponseDto accountResponseDto = new AccountResponseDto(account);
+        favoriteRepository.decrementFavoritedBy(account.getId());
+        favoriteRepository.deleteAllOf(account.getId());
         accountRepository.delete(account);
-        return modelMapper.map(account, AccountResponseDto.class);
+        accountPrincipalCache.evict(account.getEmail());
+        accountProfileCache.evict(account.getId());
+        return accountResponseDto;
     }
 
     public boolean isDuplicatedAccount(String email) {
         return accountRepository.findByEmail(email).isPresent();
     }
 
-    @Transactional
+    /**
+     * 좋아요가 있으면 지우고 없으면 넣는다. 좋아요 수는 읽어서 다시 쓰지 않고 UPDATE 한 번으로 증감한다.
+     * 같은 사람이 처음 누른 요청 둘이 겹치면 둘 다 지운 것이 없어 넣으려 하고, 늦은 쪽은 유니크 제약에 걸린다.
+     * 이때는 먼저 넣은 요청이 커밋된 것이므로 롤백하고 이미 좋아요를 누른 상태로 응답한다.
+     */
     public ResponseEntity<?> favorite(Long accountId, Account currentUser) throws UserNotFoundException {
         Optional<Account> accountOptional = accountRepository.findById(accountId);
         Account favoritedAccount = accountOptional.orElseThrow(UserNotFoundException::new);
-        favoritedAccount.addFavorite(currentUser);
 
-        return new ResponseEntity<>(new AccountFavoriteFlagResponseDto(favoritedAccount, currentUser), HttpStatus.OK);
+        AccountFavoriteFlagResponseDto accountFavoriteFlagResponseDto;
+        try {
+            accountFavoriteFlagResponseDto = transactionTemplate.execute(status -> toggleFavorite(favoritedAccount, currentUser));
+        } catch (DataIntegrityViolationException e) {
+            Account reloadedAccount = accountRepository.findById(accountId).orElseThrow(UserNotFoundException::new);
+            accountFavoriteFlagResponseDto = new AccountFavoriteFlagResponseDto(reloadedAccount, true,
+                    reloadedAccount.getFavoriteCount(), reloadedAccount.getHits() + accountHitsCounter.pending(accountId));
+        }
+        return new ResponseEntity<>(accountFavoriteFlagResponseDto, HttpStatus.OK);
     }
 
-    public ResponseEntity<?> getFavoriteUsers(Long accountId) throws UserNotFoundException {
-        Optional<Account> accountOptional = accountRepository.findById(accountId);
-        Account account = accountOptional.orElseThrow(UserNotFoundException::new);
-        List<AccountListResponseDto> accountList = account.getFavorite().stream()
-                .map(AccountListResponseDto::new)
-                .collect(Collectors.toList());
-        return new ResponseEntity<>(accountList, HttpStatus.OK);
+    private AccountFavoriteFlagResponseDto toggleFavorite(Account favoritedAccount, Account currentUser) {
+        Long accountId = favoritedAccount.getId();
+        boolean favoriteFlag = favoriteRepository.deleteByFromAndTo(currentUser.getId(), accountId) == 0;
+        if (favoriteFlag) {
+            favoriteRepository.saveAndFlush(Favorite.builder()
+                    .fromAccount(accountRepository.getOne(currentUser.getId()))
+                    .toAccount(favoritedAccount)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        long delta = favoriteFlag ? 1L : -1L;
+        accountRepository.addFavoriteCount(accountId, delta);
+
+        return new AccountFavoriteFlagResponseDto(favoritedAccount, favoriteFlag,
+                favoritedAccount.getFavoriteCount() + delta, favoritedAccount.getHits() + accountHitsCounter.pending(accountId));
     }
 
-    private String build(String code) {
-        Context context = new Context();
-        context.setVariable("code", code);
-        return templateEngine.process("html/code.html", context);
+    public Slice<AccountListResponseDto> getFavoriteUsers(Long accountId, Long cursor, int size) throws UserNotFoundException {
+        return favoriteRepository.findFavoriters(accountId, cursor, size).orElseThrow(UserNotFoundException::new);
     }
 }
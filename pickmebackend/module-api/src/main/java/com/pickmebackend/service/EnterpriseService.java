@@ -6,27 +6,33 @@ import com.pickmebackend.domain.Enterprise;
 import com.pickmebackend.domain.dto.enterprise.EnterpriseFilterRequestDto;
 import com.pickmebackend.domain.dto.enterprise.EnterpriseRequestDto;
 import com.pickmebackend.domain.dto.enterprise.EnterpriseResponseDto;
-import com.pickmebackend.domain.dto.enterprise.SuggestionDto;
 import com.pickmebackend.domain.enums.UserRole;
 import com.pickmebackend.exception.UserNotFoundException;
+import com.pickmebackend.impl.AccountPrincipalCache;
+import com.pickmebackend.domain.MailOutbox;
+import com.pickmebackend.mail.MailOutboxService;
+import com.pickmebackend.mail.MailTemplateRenderer;
+import com.pickmebackend.repository.FavoriteRepository;
+import com.pickmebackend.repository.FilterCountCache;
+import com.pickmebackend.repository.account.AccountProfileCache;
 import com.pickmebackend.repository.account.AccountRepository;
 import com.pickmebackend.repository.enterprise.EnterpriseRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.mail.javamail.MimeMessagePreparator;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -36,30 +42,30 @@ public class EnterpriseService {
 
     private final AccountRepository accountRepository;
 
-    private final ModelMapper modelMapper;
-
     private final PasswordEncoder passwordEncoder;
 
-    private final JavaMailSender javaMailSender;
+    private final MailOutboxService mailOutboxService;
 
-    private final TemplateEngine templateEngine;
+    private final MailTemplateRenderer mailTemplateRenderer;
 
     private final ErrorsFormatter errorsFormatter;
 
+    private final AccountPrincipalCache accountPrincipalCache;
+
+    private final FilterCountCache filterCountCache;
+
+    private final FavoriteRepository favoriteRepository;
+
+    private final AccountProfileCache accountProfileCache;
+
     public EnterpriseResponseDto loadProfile(Account account) {
         Enterprise enterprise = account.getEnterprise();
-        EnterpriseResponseDto enterpriseResponseDto = modelMapper.map(enterprise, EnterpriseResponseDto.class);
-        enterpriseResponseDto.setEmail(account.getEmail());
-
-        return enterpriseResponseDto;
+        return new EnterpriseResponseDto(enterprise, account);
     }
 
     public EnterpriseResponseDto loadEnterprise(Account account) {
         Enterprise enterprise = account.getEnterprise();
-        EnterpriseResponseDto enterpriseResponseDto = modelMapper.map(enterprise, EnterpriseResponseDto.class);
-        enterpriseResponseDto.setEmail(account.getEmail());
-
-        return enterpriseResponseDto;
+        return new EnterpriseResponseDto(enterprise, account);
     }
 
     public Page<Enterprise> loadEnterprisesWithFilter(EnterpriseFilterRequestDto enterpriseFilterRequestDto, Pageable pageable) {
@@ -67,48 +73,52 @@ public class EnterpriseService {
     }
 
     public EnterpriseResponseDto saveEnterprise(EnterpriseRequestDto enterpriseRequestDto) {
-        Account account = modelMapper.map(enterpriseRequestDto, Account.class);
+        Account account = enterpriseRequestDto.toAccount();
         account.setPassword(passwordEncoder.encode(enterpriseRequestDto.getPassword()));
-        account.setNickName(enterpriseRequestDto.getName());
         account.setCreatedAt(LocalDateTime.now());
         account.setUserRole(UserRole.ENTERPRISE);
 
-        Enterprise enterprise = modelMapper.map(enterpriseRequestDto, Enterprise.class);
+        Enterprise enterprise = enterpriseRequestDto.toEnterprise();
         Enterprise savedEnterprise = this.enterpriseRepository.save(enterprise);
 
         account.setEnterprise(savedEnterprise);
         Account savedAccount = this.accountRepository.save(account);
 
-        EnterpriseResponseDto enterpriseResponseDto = modelMapper.map(savedEnterprise, EnterpriseResponseDto.class);
-        enterpriseResponseDto.setEmail(savedAccount.getEmail());
-        enterpriseResponseDto.setAccount(savedAccount);
-
-        return enterpriseResponseDto;
+        return new EnterpriseResponseDto(savedEnterprise, savedAccount);
     }
 
+    /**
+     * 비밀번호가 바뀐 경우에만 버전을 올린다. 버전이 바뀌면 이미 발급된 토큰이 모두 거절되기 때문이다.
+     */
     public EnterpriseResponseDto updateEnterprise(Account account, EnterpriseRequestDto enterpriseRequestDto) {
-        modelMapper.map(enterpriseRequestDto, account);
-        account.setPassword(passwordEncoder.encode(enterpriseRequestDto.getPassword()));
-        account.setNickName(enterpriseRequestDto.getName());
+        accountPrincipalCache.evict(account.getEmail());
+        enterpriseRequestDto.applyTo(account);
+        if (!passwordEncoder.matches(enterpriseRequestDto.getPassword(), account.getPassword())) {
+            account.changePassword(passwordEncoder.encode(enterpriseRequestDto.getPassword()));
+        }
 
         Optional<Enterprise> enterpriseOptional = this.enterpriseRepository.findById(account.getEnterprise().getId());
         Enterprise enterprise = enterpriseOptional.get();
-        modelMapper.map(enterpriseRequestDto, enterprise);
+        enterpriseRequestDto.applyTo(enterprise);
         Enterprise modifiedEnterprise = this.enterpriseRepository.save(enterprise);
 
         account.setEnterprise(modifiedEnterprise);
         Account modifiedAccount = this.accountRepository.save(account);
+        accountPrincipalCache.evict(modifiedAccount.getEmail());
+        filterCountCache.evictEnterpriseCounts();
+        accountProfileCache.evict(modifiedAccount.getId());
 
-        EnterpriseResponseDto enterpriseResponseDto = modelMapper.map(modifiedEnterprise, EnterpriseResponseDto.class);
-        enterpriseResponseDto.setEmail(modifiedAccount.getEmail());
-        enterpriseResponseDto.setAccount(modifiedAccount);
-
-        return enterpriseResponseDto;
+        return new EnterpriseResponseDto(modifiedEnterprise, modifiedAccount);
     }
 
+    @Transactional
     public EnterpriseResponseDto deleteEnterprise(Account account) {
-        EnterpriseResponseDto enterpriseResponseDto = modelMapper.map(account, EnterpriseResponseDto.class);
+        EnterpriseResponseDto enterpriseResponseDto = EnterpriseResponseDto.ofDeleted(account);
+        this.favoriteRepository.decrementFavoritedBy(account.getId());
+        this.favoriteRepository.deleteAllOf(account.getId());
         this.accountRepository.delete(account);
+        accountPrincipalCache.evict(account.getEmail());
+        accountProfileCache.evict(account.getId());
 
         return enterpriseResponseDto;
     }
@@ -117,29 +127,49 @@ public class EnterpriseService {
         return this.accountRepository.findByEmail(enterpriseRequestDto.getEmail()).isPresent();
     }
 
-    public boolean isNonEnterprise(Long enterpriseId) {
-        return !this.accountRepository.findById(enterpriseId).isPresent();
-    }
-
     public ResponseEntity<?> sendSuggestion(Long accountId, Account currentUser) throws UserNotFoundException {
         Optional<Account> workerOptional = accountRepository.findById(accountId);
         Account worker = workerOptional.orElseThrow(UserNotFoundException::new);
-        Enterprise enterprise = currentUser.getEnterprise();
-        String content = this.build(enterprise, worker);
-
-        MimeMessagePreparator mimeMessagePreparator = mimeMessage -> {
-            MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage);
-            mimeMessageHelper.setTo(worker.getEmail());
-            mimeMessageHelper.setSubject("[PickMe] " + enterprise.getName() + "에서 채용 제안 메일이 도착했습니다!");
-            mimeMessageHelper.setText(content, true);
-        };
-        this.javaMailSender.send(mimeMessagePreparator);
-        return new ResponseEntity<>(HttpStatus.OK);
+        if (!isUser(worker)) {
+            throw new UserNotFoundException();
+        }
+        Optional<Account> enterpriseOptional = accountRepository.findWithEnterpriseById(currentUser.getId());
+        Enterprise enterprise = enterpriseOptional.orElseThrow(UserNotFoundException::new).getEnterprise();
+        String content = this.mailTemplateRenderer.renderSuggestion(enterprise, worker);
+        this.mailOutboxService.enqueue(worker.getEmail(), suggestionSubject(enterprise), content);
+        return new ResponseEntity<>(HttpStatus.ACCEPTED);
+    }
+
+    /**
+     * 여러 유저에게 한 번에 채용 제안을 보낸다. 유저는 한 번의 쿼리로 읽고, 본문은 요청 스레드에서 차례로 렌더링하여 outbox 에 한 번에 저장한다.
+     * 영속 엔티티를 다른 스레드에서 읽지 않도록 병렬로 렌더링하지 않는다. 받는 사람 중 유저가 아닌 계정이 있으면 아무 메일도 보내지 않는다.
+     */
+    @Transactional
+    public ResponseEntity<?> sendSuggestions(Collection<Long> accountIds, Account currentUser) throws UserNotFoundException {
+        Optional<Account> enterpriseOptional = accountRepository.findWithEnterpriseById(currentUser.getId());
+        Enterprise enterprise = enterpriseOptional.orElseThrow(UserNotFoundException::new).getEnterprise();
+        if (enterprise == null) {
+            throw new UserNotFoundException();
+        }
+        Set<Long> workerIds = new LinkedHashSet<>(accountIds);
+        List<Account> workers = accountRepository.findAllById(workerIds);
+        if (workers.size() != workerIds.size() || !workers.stream().allMatch(this::isUser)) {
+            throw new UserNotFoundException();
+        }
+
+        String subject = suggestionSubject(enterprise);
+        List<MailOutbox> mailOutboxes = workers.stream()
+                .map(worker -> MailOutbox.of(worker.getEmail(), subject, this.mailTemplateRenderer.renderSuggestion(enterprise, worker)))
+                .collect(Collectors.toList());
+        this.mailOutboxService.enqueueAll(mailOutboxes);
+        return new ResponseEntity<>(HttpStatus.ACCEPTED);
+    }
+
+    private boolean isUser(Account account) {
+        return account.getUserRole() == UserRole.USER;
     }
 
-    private String build(Enterprise enterprise, Account currentUser) {
-        Context context = new Context();
-        context.setVariable("enterprise", new SuggestionDto(enterprise, currentUser));
-        return templateEngine.process("html/email.html", context);
+    private String suggestionSubject(Enterprise enterprise) {
+        return "[PickMe] " + enterprise.getName() + "에서 채용 제안 메일이 도착했습니다!";
     }
 }
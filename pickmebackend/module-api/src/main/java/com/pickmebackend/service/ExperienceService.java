@@ -4,9 +4,11 @@ import com.pickmebackend.domain.Account;
 import com.pickmebackend.domain.Experience;
 import com.pickmebackend.domain.dto.experience.ExperienceRequestDto;
 import com.pickmebackend.domain.dto.experience.ExperienceResponseDto;
+import com.pickmebackend.exception.UserNotFoundException;
 import com.pickmebackend.repository.ExperienceRepository;
+import com.pickmebackend.repository.account.AccountProfileCache;
+import com.pickmebackend.repository.account.AccountRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -15,24 +17,30 @@ public class ExperienceService {
 
     private final ExperienceRepository experienceRepository;
 
-    private final ModelMapper modelMapper;
+    private final AccountRepository accountRepository;
 
-    public ExperienceResponseDto saveExperience(ExperienceRequestDto experienceRequestDto, Account currentUser) {
-        Experience experience = modelMapper.map(experienceRequestDto, Experience.class);
-        experience.mapAccount(currentUser);
+    private final AccountProfileCache accountProfileCache;
+
+    public ExperienceResponseDto saveExperience(ExperienceRequestDto experienceRequestDto, Account currentUser) throws UserNotFoundException {
+        Account account = accountRepository.findById(currentUser.getId()).orElseThrow(UserNotFoundException::new);
+        Experience experience = experienceRequestDto.toEntity();
+        experience.mapAccount(account);
         Experience savedExperience = this.experienceRepository.save(experience);
-        return modelMapper.map(savedExperience, ExperienceResponseDto.class);
+        accountProfileCache.evict(account.getId());
+        return new ExperienceResponseDto(savedExperience);
     }
 
     public ExperienceResponseDto updateExperience(Experience experience, ExperienceRequestDto experienceRequestDto) {
-        modelMapper.map(experienceRequestDto, experience);
+        experienceRequestDto.applyTo(experience);
         Experience modifiedExperience = this.experienceRepository.save(experience);
-        return modelMapper.map(modifiedExperience, ExperienceResponseDto.class);
+        accountProfileCache.evict(modifiedExperience.getAccount().getId());
+        return new ExperienceResponseDto(modifiedExperience);
     }
 
     public ExperienceResponseDto deleteExperience(Experience experience) {
         this.experienceRepository.delete(experience);
         experience.getAccount().getExperiences().remove(experience);
-        return modelMapper.map(experience, ExperienceResponseDto.class);
+        accountProfileCache.evict(experience.getAccount().getId());
+        return new ExperienceResponseDto(experience);
     }
 }
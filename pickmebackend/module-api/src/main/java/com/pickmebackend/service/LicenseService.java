@@ -4,9 +4,11 @@ import com.pickmebackend.domain.Account;
 import com.pickmebackend.domain.License;
 import com.pickmebackend.domain.dto.license.LicenseRequestDto;
 import com.pickmebackend.domain.dto.license.LicenseResponseDto;
+import com.pickmebackend.exception.UserNotFoundException;
 import com.pickmebackend.repository.LicenseRepository;
+import com.pickmebackend.repository.account.AccountProfileCache;
+import com.pickmebackend.repository.account.AccountRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -15,24 +17,30 @@ public class LicenseService {
 
     private final LicenseRepository licenseRepository;
 
-    private final ModelMapper modelMapper;
+    private final AccountRepository accountRepository;
 
-    public LicenseResponseDto saveLicense(LicenseRequestDto licenseRequestDto, Account currentUser) {
-        License license = modelMapper.map(licenseRequestDto, License.class);
-        license.mapAccount(currentUser);
+    private final AccountProfileCache accountProfileCache;
+
+    public LicenseResponseDto saveLicense(LicenseRequestDto licenseRequestDto, Account currentUser) throws UserNotFoundException {
+        Account account = accountRepository.findById(currentUser.getId()).orElseThrow(UserNotFoundException::new);
+        License license = licenseRequestDto.toEntity();
+        license.mapAccount(account);
         License savedLicense = this.licenseRepository.save(license);
-        return modelMapper.map(savedLicense, LicenseResponseDto.class);
+        accountProfileCache.evict(account.getId());
+        return new LicenseResponseDto(savedLicense);
     }
 
     public LicenseResponseDto updateLicense(License license, LicenseRequestDto licenseRequestDto) {
-        modelMapper.map(licenseRequestDto, license);
+        licenseRequestDto.applyTo(license);
         License modifiedLicense = this.licenseRepository.save(license);
-        return modelMapper.map(modifiedLicense, LicenseResponseDto.class);
+        accountProfileCache.evict(modifiedLicense.getAccount().getId());
+        return new LicenseResponseDto(modifiedLicense);
     }
 
     public LicenseResponseDto deleteLicense(License license) {
         this.licenseRepository.delete(license);
         license.getAccount().getLicenses().remove(license);
-        return modelMapper.map(license, LicenseResponseDto.class);
+        accountProfileCache.evict(license.getAccount().getId());
+        return new LicenseResponseDto(license);
     }
 }
@@ -4,9 +4,11 @@ import com.pickmebackend.domain.Account;
 import com.pickmebackend.domain.Prize;
 import com.pickmebackend.domain.dto.prize.PrizeRequestDto;
 import com.pickmebackend.domain.dto.prize.PrizeResponseDto;
+import com.pickmebackend.exception.UserNotFoundException;
 import com.pickmebackend.repository.PrizeRepository;
+import com.pickmebackend.repository.account.AccountProfileCache;
+import com.pickmebackend.repository.account.AccountRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -15,24 +17,30 @@ public class PrizeService {
 
     private final PrizeRepository prizeRepository;
 
-    private final ModelMapper modelMapper;
+    private final AccountRepository accountRepository;
 
-    public PrizeResponseDto savePrize(PrizeRequestDto prizeRequestDto, Account account) {
-        Prize prize = modelMapper.map(prizeRequestDto, Prize.class);
+    private final AccountProfileCache accountProfileCache;
+
+    public PrizeResponseDto savePrize(PrizeRequestDto prizeRequestDto, Account currentUser) throws UserNotFoundException {
+        Account account = accountRepository.findById(currentUser.getId()).orElseThrow(UserNotFoundException::new);
+        Prize prize = prizeRequestDto.toEntity();
         prize.mapAccount(account);
         Prize savedPrize = this.prizeRepository.save(prize);
-        return modelMapper.map(savedPrize, PrizeResponseDto.class);
+        accountProfileCache.evict(account.getId());
+        return new PrizeResponseDto(savedPrize);
     }
 
     public PrizeResponseDto updatePrize(Prize prize, PrizeRequestDto prizeRequestDto) {
-        modelMapper.map(prizeRequestDto, prize);
+        prizeRequestDto.applyTo(prize);
         Prize modifiedPrize = prizeRepository.save(prize);
-        return modelMapper.map(modifiedPrize, PrizeResponseDto.class);
+        accountProfileCache.evict(modifiedPrize.getAccount().getId());
+        return new PrizeResponseDto(modifiedPrize);
     }
 
     public PrizeResponseDto deletePrize(Prize prize) {
         this.prizeRepository.delete(prize);
         prize.getAccount().getPrizes().remove(prize);
-        return modelMapper.map(prize, PrizeResponseDto.class);
+        accountProfileCache.evict(prize.getAccount().getId());
+        return new PrizeResponseDto(prize);
     }
 }
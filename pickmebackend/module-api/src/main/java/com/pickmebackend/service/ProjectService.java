@@ -4,9 +4,11 @@ import com.pickmebackend.domain.Account;
 import com.pickmebackend.domain.Project;
 import com.pickmebackend.domain.dto.project.ProjectRequestDto;
 import com.pickmebackend.domain.dto.project.ProjectResponseDto;
+import com.pickmebackend.exception.UserNotFoundException;
 import com.pickmebackend.repository.ProjectRepository;
+import com.pickmebackend.repository.account.AccountProfileCache;
+import com.pickmebackend.repository.account.AccountRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -15,24 +17,30 @@ public class ProjectService {
 
     private final ProjectRepository projectRepository;
 
-    private final ModelMapper modelMapper;
+    private final AccountRepository accountRepository;
 
-    public ProjectResponseDto saveProject(ProjectRequestDto projectRequestDto, Account currentUser) {
-        Project project = modelMapper.map(projectRequestDto, Project.class);
-        project.mapAccount(currentUser);
+    private final AccountProfileCache accountProfileCache;
+
+    public ProjectResponseDto saveProject(ProjectRequestDto projectRequestDto, Account currentUser) throws UserNotFoundException {
+        Account account = accountRepository.findById(currentUser.getId()).orElseThrow(UserNotFoundException::new);
+        Project project = projectRequestDto.toEntity();
+        project.mapAccount(account);
         Project savedProject = this.projectRepository.save(project);
-        return modelMapper.map(savedProject, ProjectResponseDto.class);
+        accountProfileCache.evict(account.getId());
+        return new ProjectResponseDto(savedProject);
     }
 
     public ProjectResponseDto updateProject(Project project, ProjectRequestDto projectRequestDto) {
-        modelMapper.map(projectRequestDto, project);
+        projectRequestDto.applyTo(project);
         Project modifiedProject = this.projectRepository.save(project);
-        return modelMapper.map(modifiedProject, ProjectResponseDto.class);
+        accountProfileCache.evict(modifiedProject.getAccount().getId());
+        return new ProjectResponseDto(modifiedProject);
     }
 
     public ProjectResponseDto deleteProject(Project project) {
         this.projectRepository.delete(project);
         project.getAccount().getProjects().remove(project);
-        return modelMapper.map(project, ProjectResponseDto.class);
+        accountProfileCache.evict(project.getAccount().getId());
+        return new ProjectResponseDto(project);
     }
 }
@@ -4,9 +4,11 @@ import com.pickmebackend.domain.Account;
 import com.pickmebackend.domain.SelfInterview;
 import com.pickmebackend.domain.dto.selfInterview.SelfInterviewRequestDto;
 import com.pickmebackend.domain.dto.selfInterview.SelfInterviewResponseDto;
+import com.pickmebackend.exception.UserNotFoundException;
 import com.pickmebackend.repository.SelfInterviewRepository;
+import com.pickmebackend.repository.account.AccountProfileCache;
+import com.pickmebackend.repository.account.AccountRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -15,24 +17,30 @@ public class SelfInterviewService {
 
     private final SelfInterviewRepository selfInterviewRepository;
 
-    private final ModelMapper modelMapper;
+    private final AccountRepository accountRepository;
 
-    public SelfInterviewResponseDto saveSelfInterview(SelfInterviewRequestDto selfInterviewRequestDto, Account account) {
-        SelfInterview selfInterview = modelMapper.map(selfInterviewRequestDto, SelfInterview.class);
+    private final AccountProfileCache accountProfileCache;
+
+    public SelfInterviewResponseDto saveSelfInterview(SelfInterviewRequestDto selfInterviewRequestDto, Account currentUser) throws UserNotFoundException {
+        Account account = accountRepository.findById(currentUser.getId()).orElseThrow(UserNotFoundException::new);
+        SelfInterview selfInterview = selfInterviewRequestDto.toEntity();
         selfInterview.mapAccount(account);
         SelfInterview savedSelfInterview = this.selfInterviewRepository.save(selfInterview);
-        return modelMapper.map(savedSelfInterview, SelfInterviewResponseDto.class);
+        accountProfileCache.evict(account.getId());
+        return new SelfInterviewResponseDto(savedSelfInterview);
     }
 
     public SelfInterviewResponseDto updateSelfInterview(SelfInterview selfInterview, SelfInterviewRequestDto selfInterviewRequestDto) {
-        modelMapper.map(selfInterviewRequestDto, selfInterview);
+        selfInterviewRequestDto.applyTo(selfInterview);
         SelfInterview modifiedSelfInterview = this.selfInterviewRepository.save(selfInterview);
-        return modelMapper.map(modifiedSelfInterview, SelfInterviewResponseDto.class);
+        accountProfileCache.evict(modifiedSelfInterview.getAccount().getId());
+        return new SelfInterviewResponseDto(modifiedSelfInterview);
     }
 
     public SelfInterviewResponseDto deleteSelfInterview(SelfInterview selfInterview) {
         this.selfInterviewRepository.delete(selfInterview);
         selfInterview.getAccount().getSelfInterviews().remove(selfInterview);
-        return modelMapper.map(selfInterview, SelfInterviewResponseDto.class);
+        accountProfileCache.evict(selfInterview.getAccount().getId());
+        return new SelfInterviewResponseDto(selfInterview);
     }
 }
@@ -1,11 +1,12 @@
 package com.pickmebackend.service;
 
-import com.pickmebackend.domain.Technology;
-import com.pickmebackend.repository.TechnologyRepository;
+import com.pickmebackend.domain.dto.technology.TechnologyResponseDto;
+import com.pickmebackend.repository.TechnologyCatalog;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 import java.util.List;
 
@@ -13,10 +14,22 @@ import java.util.List;
 @Service
 public class SkillService {
 
-    private final TechnologyRepository technologyRepository;
+    private static final int MAX_LIMIT = 50;
 
-    public ResponseEntity<?> getTechnology() {
-        List<Technology> allTechs = technologyRepository.findAll();
-        return new ResponseEntity<>(allTechs, HttpStatus.OK);
+    private final TechnologyCatalog technologyCatalog;
+
+    /**
+     * 메모리의 스냅샷으로 응답하고, 클라이언트가 가진 ETag 와 같으면 304 를 반환한다.
+     * prefix 가 있으면 이름이 그 접두사로 시작하는 기술을 이름 순으로 limit 개까지 반환한다.
+     */
+    public ResponseEntity<?> getTechnology(String prefix, int limit) {
+        TechnologyCatalog.Snapshot snapshot = technologyCatalog.get();
+        List<TechnologyResponseDto> technologies = StringUtils.isEmpty(prefix)
+                ? snapshot.getTechnologies()
+                : snapshot.findByPrefix(prefix, Math.max(1, Math.min(limit, MAX_LIMIT)));
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(snapshot.getETag())
+                .body(technologies);
     }
 }
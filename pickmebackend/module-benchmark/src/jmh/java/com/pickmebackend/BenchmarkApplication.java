@@ -0,0 +1,35 @@
+package com.pickmebackend;
+
+import com.pickmebackend.config.SecurityConfig;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+
+/**
+ * 서비스 계층을 측정하는 벤치마크용 애플리케이션. 웹 서버와 보안 설정 없이 내장 H2 로 기동한다.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = SecurityAutoConfiguration.class)
+@ComponentScan(excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = SecurityConfig.class))
+public class BenchmarkApplication {
+
+    public static ConfigurableApplicationContext start() {
+        SpringApplication application = new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.open-in-view=false",
+                        "spring.mail.host=localhost",
+                        "image.location=" + System.getProperty("java.io.tmpdir") + "/pickme-benchmark",
+                        "logging.level.root=WARN")
+                .build();
+        return application.run();
+    }
+}
@@ -0,0 +1,100 @@
+package com.pickmebackend.benchmark;
+
+import com.pickmebackend.BenchmarkApplication;
+import com.pickmebackend.domain.dto.account.AccountCardResponseDto;
+import com.pickmebackend.domain.dto.account.AccountFilteringRequestDto;
+import com.pickmebackend.domain.enums.SearchField;
+import com.pickmebackend.domain.enums.UserRole;
+import com.pickmebackend.repository.FilterCountCache;
+import com.pickmebackend.repository.account.AccountRepository;
+import com.pickmebackend.search.NGramTokenizer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유저 accountCount 명의 닉네임, 한 줄 소개 검색 비용. 목록 한 페이지와 전체 개수를 함께 읽는다. (H2, 인메모리)
+ * rareNickName     : 한 명만 가진 닉네임 일부
+ * commonIntroduce  : 모든 유저가 가진 단어라 n-gram 으로 좁힐 수 없는 검색어
+ * mixedIntroduce   : 흔한 n-gram 과 드문 n-gram 이 섞인 검색어
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AccountSearchBenchmark {
+
+    private static final String[] WORDS = {"백엔드", "프론트엔드", "디자이너", "데이터", "인프라", "모바일", "게임", "보안"};
+
+    private static final int BATCH_SIZE = 5_000;
+
+    @Param({"100000"})
+    private int accountCount;
+
+    private ConfigurableApplicationContext context;
+
+    private AccountRepository accountRepository;
+
+    private FilterCountCache filterCountCache;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        accountRepository = context.getBean(AccountRepository.class);
+        filterCountCache = context.getBean(FilterCountCache.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> accounts = new ArrayList<>();
+        List<Object[]> tokens = new ArrayList<>();
+        for (long id = 1; id <= accountCount; id++) {
+            String nickName = "개발자" + id;
+            String oneLineIntroduce = WORDS[(int) (id % WORDS.length)] + " 개발자 " + WORDS[(int) (id / WORDS.length % WORDS.length)] + id % 997;
+            accounts.add(new Object[]{id, id + "@email.com", nickName, oneLineIntroduce, UserRole.USER.name(), createdAt});
+            for (String token : NGramTokenizer.tokenize(nickName)) {
+                tokens.add(new Object[]{SearchField.NICK_NAME.name(), id, token});
+            }
+            for (String token : NGramTokenizer.tokenize(oneLineIntroduce)) {
+                tokens.add(new Object[]{SearchField.ONE_LINE_INTRODUCE.name(), id, token});
+            }
+            if (accounts.size() >= BATCH_SIZE || id == accountCount) {
+                jdbcTemplate.batchUpdate("insert into account (id, email, nick_name, one_line_introduce, user_role, created_at, favorite_count, hits) " +
+                        "values (?, ?, ?, ?, ?, ?, 0, 0)", accounts);
+                jdbcTemplate.batchUpdate("insert into search_token (field, owner_id, token) values (?, ?, ?)", tokens);
+                accounts.clear();
+                tokens.clear();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<AccountCardResponseDto> rareNickName() {
+        return search(AccountFilteringRequestDto.builder().nickName("자" + (accountCount - 1)).build());
+    }
+
+    @Benchmark
+    public Page<AccountCardResponseDto> commonIntroduce() {
+        return search(AccountFilteringRequestDto.builder().oneLineIntroduce("개발자").build());
+    }
+
+    @Benchmark
+    public Page<AccountCardResponseDto> mixedIntroduce() {
+        return search(AccountFilteringRequestDto.builder().oneLineIntroduce("보안 개발자 데이").build());
+    }
+
+    private Page<AccountCardResponseDto> search(AccountFilteringRequestDto requestDto) {
+        filterCountCache.evictAccountCounts();
+        return accountRepository.filterAccount(requestDto, PageRequest.of(0, 20));
+    }
+}
@@ -0,0 +1,133 @@
+package com.pickmebackend.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pickmebackend.domain.*;
+import com.pickmebackend.domain.dto.account.AccountResponseDto;
+import com.pickmebackend.domain.enums.UserRole;
+import lombok.Getter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 하위 항목을 items 개씩 가진 유저 프로필을 JSON 으로 쓰는 비용 비교.
+ * entityGraph : 엔티티 Set 을 그대로 담고 Account 에 JsonIdentityInfo 를 붙여 쓰던 기존 응답
+ * flatDto     : 값만 복사한 AccountResponseDto 를 만들어 쓰는 현재 응답
+ * 응답 크기(items 1 / 10 / 50) : entityGraph 1709 / 12455 / 61015 bytes, flatDto 884 / 5933 / 28853 bytes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AccountSerializationBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int items;
+
+    private ObjectMapper entityGraphMapper;
+
+    private ObjectMapper objectMapper;
+
+    private Account account;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        entityGraphMapper = Jackson2ObjectMapperBuilder.json()
+                .mixIn(Account.class, IdentityMixIn.class)
+                .build();
+
+        account = Account.builder()
+                .id(1L)
+                .email("benchmark@email.com")
+                .nickName("benchmark")
+                .userRole(UserRole.USER)
+                .createdAt(LocalDateTime.now())
+                .positions(new HashSet<>())
+                .experiences(new HashSet<>())
+                .licenses(new HashSet<>())
+                .prizes(new HashSet<>())
+                .projects(new HashSet<>())
+                .selfInterviews(new HashSet<>())
+                .accountTechSet(new HashSet<>())
+                .build();
+        IntStream.range(0, items).forEach(i -> {
+            Long id = (long) i;
+            account.getExperiences().add(Experience.builder().id(id).companyName("company" + i).position("backend")
+                    .joinedAt(LocalDate.of(2019, 1, 1)).retiredAt(LocalDate.of(2020, 1, 1)).description("description").account(account).build());
+            account.getLicenses().add(License.builder().id(id).name("license" + i).institution("institution")
+                    .issuedDate(LocalDate.of(2019, 1, 1)).description("description").account(account).build());
+            account.getPrizes().add(Prize.builder().id(id).name("prize" + i).competition("competition")
+                    .issuedDate(LocalDate.of(2019, 1, 1)).description("description").account(account).build());
+            account.getProjects().add(Project.builder().id(id).name("project" + i).role("backend").description("description")
+                    .startedAt(LocalDate.of(2019, 1, 1)).endedAt(LocalDate.of(2020, 1, 1)).projectLink("https://github.com").account(account).build());
+            account.getSelfInterviews().add(SelfInterview.builder().id(id).title("title" + i).content("content").account(account).build());
+            account.getAccountTechSet().add(AccountTech.builder().id(id).account(account)
+                    .technology(Technology.builder().id(id).name("tech" + i).build()).build());
+        });
+    }
+
+    @Benchmark
+    public byte[] entityGraph() throws JsonProcessingException {
+        return entityGraphMapper.writeValueAsBytes(new EntityGraphResponse(account));
+    }
+
+    @Benchmark
+    public byte[] flatDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(new AccountResponseDto(account));
+    }
+
+    @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
+    private abstract static class IdentityMixIn {
+    }
+
+    /**
+     * 하위 항목으로 엔티티 Set 을 그대로 담던 기존 AccountResponseDto 의 모양.
+     */
+    @Getter
+    private static class EntityGraphResponse {
+
+        private final Long id;
+
+        private final String email;
+
+        private final String nickName;
+
+        private final UserRole userRole;
+
+        private final LocalDateTime createdAt;
+
+        private final Set<String> positions;
+
+        private final Set<Experience> experiences;
+
+        private final Set<License> licenses;
+
+        private final Set<Prize> prizes;
+
+        private final Set<Project> projects;
+
+        private final Set<SelfInterview> selfInterviews;
+
+        private EntityGraphResponse(Account account) {
+            this.id = account.getId();
+            this.email = account.getEmail();
+            this.nickName = account.getNickName();
+            this.userRole = account.getUserRole();
+            this.createdAt = account.getCreatedAt();
+            this.positions = account.getPositions();
+            this.experiences = account.getExperiences();
+            this.licenses = account.getLicenses();
+            this.prizes = account.getPrizes();
+            this.projects = account.getProjects();
+            this.selfInterviews = account.getSelfInterviews();
+        }
+    }
+}
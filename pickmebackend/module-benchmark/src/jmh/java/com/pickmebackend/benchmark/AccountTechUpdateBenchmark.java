@@ -0,0 +1,103 @@
+package com.pickmebackend.benchmark;
+
+import com.pickmebackend.BenchmarkApplication;
+import com.pickmebackend.domain.Account;
+import com.pickmebackend.domain.Technology;
+import com.pickmebackend.domain.dto.account.AccountRequestDto;
+import com.pickmebackend.domain.dto.account.AccountResponseDto;
+import com.pickmebackend.domain.enums.UserRole;
+import com.pickmebackend.repository.TechnologyRepository;
+import com.pickmebackend.repository.account.AccountRepository;
+import com.pickmebackend.service.AccountService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 기술스택 30개를 가진 유저의 프로필 수정 비용.
+ * replaceHalf : 매번 15개를 빼고 15개를 추가
+ * replaceAll  : 매번 30개를 모두 교체
+ * unchanged   : 같은 기술스택으로 수정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AccountTechUpdateBenchmark {
+
+    private static final int TECHNOLOGY_COUNT = 30;
+
+    private ConfigurableApplicationContext context;
+
+    private AccountService accountService;
+
+    private AccountRepository accountRepository;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Long accountId;
+
+    private List<Technology> technologies;
+
+    private boolean flip;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        accountService = context.getBean(AccountService.class);
+        accountRepository = context.getBean(AccountRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        technologies = context.getBean(TechnologyRepository.class).saveAll(IntStream.range(0, TECHNOLOGY_COUNT * 2)
+                .mapToObj(i -> Technology.builder().name("tech" + i).build())
+                .collect(Collectors.toList()));
+        accountId = accountRepository.save(Account.builder()
+                .email("benchmark@email.com")
+                .password("password")
+                .nickName("benchmark")
+                .createdAt(LocalDateTime.now())
+                .userRole(UserRole.USER)
+                .build()).getId();
+        update(technologies.subList(0, TECHNOLOGY_COUNT));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public AccountResponseDto replaceHalf() {
+        flip = !flip;
+        int from = flip ? TECHNOLOGY_COUNT / 2 : 0;
+        return update(technologies.subList(from, from + TECHNOLOGY_COUNT));
+    }
+
+    @Benchmark
+    public AccountResponseDto replaceAll() {
+        flip = !flip;
+        int from = flip ? TECHNOLOGY_COUNT : 0;
+        return update(technologies.subList(from, from + TECHNOLOGY_COUNT));
+    }
+
+    @Benchmark
+    public AccountResponseDto unchanged() {
+        return update(technologies.subList(0, TECHNOLOGY_COUNT));
+    }
+
+    private AccountResponseDto update(List<Technology> requestedTechnologies) {
+        return transactionTemplate.execute(status -> {
+            Account account = accountRepository.findWithProfileById(accountId).orElseThrow(IllegalStateException::new);
+            AccountRequestDto accountRequestDto = AccountRequestDto.builder()
+                    .email(account.getEmail())
+                    .nickName(account.getNickName())
+                    .technologies(requestedTechnologies)
+                    .build();
+            return accountService.updateAccount(account, accountRequestDto);
+        });
+    }
+}
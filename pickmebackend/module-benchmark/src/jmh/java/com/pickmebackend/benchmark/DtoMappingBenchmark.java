@@ -0,0 +1,121 @@
+package com.pickmebackend.benchmark;
+
+import com.pickmebackend.domain.Account;
+import com.pickmebackend.domain.Experience;
+import com.pickmebackend.domain.dto.account.AccountRequestDto;
+import com.pickmebackend.domain.dto.experience.ExperienceRequestDto;
+import com.pickmebackend.domain.dto.experience.ExperienceResponseDto;
+import com.pickmebackend.domain.enums.UserRole;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쓰기 경로에서 DTO 와 엔티티를 오가는 매핑 비용 비교. 호출당 할당량은 gc 프로파일러의 gc.alloc.rate.norm 으로 본다.
+ * modelMapper* : 기존 BeanConfig 의 ModelMapper 로 매핑
+ * direct*      : DTO 의 toEntity / applyTo / 생성자로 매핑
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoMappingBenchmark {
+
+    private ModelMapper modelMapper;
+
+    private ExperienceRequestDto experienceRequestDto;
+
+    private AccountRequestDto accountRequestDto;
+
+    private Experience experience;
+
+    private Account account;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        account = Account.builder()
+                .id(1L)
+                .email("benchmark@email.com")
+                .nickName("benchmark")
+                .userRole(UserRole.USER)
+                .createdAt(LocalDateTime.now())
+                .positions(Collections.singleton("개발자"))
+                .experiences(Collections.emptySet())
+                .licenses(Collections.emptySet())
+                .prizes(Collections.emptySet())
+                .projects(Collections.emptySet())
+                .selfInterviews(Collections.emptySet())
+                .accountTechSet(Collections.emptySet())
+                .build();
+        experience = Experience.builder()
+                .id(1L)
+                .companyName("pickme")
+                .position("backend")
+                .joinedAt(LocalDate.of(2019, 1, 1))
+                .retiredAt(LocalDate.of(2020, 1, 1))
+                .description("description")
+                .account(account)
+                .build();
+        experienceRequestDto = ExperienceRequestDto.builder()
+                .companyName("pickme")
+                .position("frontend")
+                .joinedAt(LocalDate.of(2019, 1, 1))
+                .retiredAt(LocalDate.of(2020, 1, 1))
+                .description("updated description")
+                .build();
+        accountRequestDto = AccountRequestDto.builder()
+                .email("benchmark@email.com")
+                .nickName("updated")
+                .oneLineIntroduce("updated introduce")
+                .socialLink("https://github.com")
+                .career("신입")
+                .build();
+    }
+
+    @Benchmark
+    public Experience modelMapperCreate() {
+        return modelMapper.map(experienceRequestDto, Experience.class);
+    }
+
+    @Benchmark
+    public Experience directCreate() {
+        return experienceRequestDto.toEntity();
+    }
+
+    @Benchmark
+    public Experience modelMapperUpdate() {
+        modelMapper.map(experienceRequestDto, experience);
+        return experience;
+    }
+
+    @Benchmark
+    public Experience directUpdate() {
+        experienceRequestDto.applyTo(experience);
+        return experience;
+    }
+
+    @Benchmark
+    public ExperienceResponseDto modelMapperResponse() {
+        return modelMapper.map(experience, ExperienceResponseDto.class);
+    }
+
+    @Benchmark
+    public ExperienceResponseDto directResponse() {
+        return new ExperienceResponseDto(experience);
+    }
+
+    @Benchmark
+    public Account modelMapperAccountUpdate() {
+        modelMapper.map(accountRequestDto, account);
+        return account;
+    }
+
+    @Benchmark
+    public Account directAccountUpdate() {
+        accountRequestDto.applyTo(account);
+        return account;
+    }
+}
@@ -0,0 +1,99 @@
+package com.pickmebackend.benchmark;
+
+import com.pickmebackend.domain.dto.account.AccountCardResponseDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+/**
+ * 유저 목록 한 페이지(size 개)의 HATEOAS 링크를 만드는 비용 비교.
+ * linkToPerItem : 항목마다 linkTo 로 self 링크를 만들고, 프로필 링크도 매번 새로 만들던 기존 방식
+ * itemTemplate  : 요청마다 linkTo 를 한 번만 호출해 만든 접두어에 식별자를 붙이는 ItemLinkTemplate 방식
+ * compact       : Accept 에 view=compact 를 붙여 항목 링크를 빼는 경우
+ * module-web 은 이 모듈의 의존성이 아니므로 AccountController 와 같은 매핑의 컨트롤러를 두고 측정한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HateoasLinkBenchmark {
+
+    private static final String PROFILE = "/docs/index.html#resources-accounts-load";
+
+    @Param({"100"})
+    private int size;
+
+    private List<AccountCardResponseDto> page;
+
+    private Link profileLink;
+
+    @Setup
+    public void setUp() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/accounts");
+        request.setServerName("pickme-back.ga");
+        request.setServerPort(8083);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        page = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> new AccountCardResponseDto(id, "nickName" + id, null, "introduce", "신입", id, id, LocalDateTime.now()))
+                .collect(Collectors.toList());
+        profileLink = new Link(PROFILE).withRel("profile");
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public CollectionModel<EntityModel<AccountCardResponseDto>> linkToPerItem() {
+        List<EntityModel<AccountCardResponseDto>> resources = new ArrayList<>(page.size());
+        for (AccountCardResponseDto card : page) {
+            resources.add(new EntityModel<>(card, linkTo(AccountsEndpoint.class).slash(card.getId()).withSelfRel()));
+        }
+        CollectionModel<EntityModel<AccountCardResponseDto>> model = new CollectionModel<>(resources);
+        model.add(new Link(PROFILE).withRel("profile"));
+        return model;
+    }
+
+    @Benchmark
+    public CollectionModel<EntityModel<AccountCardResponseDto>> itemTemplate() {
+        String prefix = linkTo(AccountsEndpoint.class).toUri().toString() + "/";
+        List<EntityModel<AccountCardResponseDto>> resources = new ArrayList<>(page.size());
+        for (AccountCardResponseDto card : page) {
+            resources.add(new EntityModel<>(card, Collections.singletonList(new Link(prefix + card.getId()))));
+        }
+        CollectionModel<EntityModel<AccountCardResponseDto>> model = new CollectionModel<>(resources);
+        model.add(profileLink);
+        return model;
+    }
+
+    @Benchmark
+    public CollectionModel<EntityModel<AccountCardResponseDto>> compact() {
+        List<EntityModel<AccountCardResponseDto>> resources = new ArrayList<>(page.size());
+        for (AccountCardResponseDto card : page) {
+            resources.add(new EntityModel<>(card, Collections.<Link>emptyList()));
+        }
+        CollectionModel<EntityModel<AccountCardResponseDto>> model = new CollectionModel<>(resources);
+        model.add(profileLink);
+        return model;
+    }
+
+    @RequestMapping("/api/accounts")
+    static class AccountsEndpoint {
+    }
+}
@@ -0,0 +1,59 @@
+package com.pickmebackend.benchmark;
+
+import com.pickmebackend.config.jwt.JwtClaims;
+import com.pickmebackend.config.jwt.JwtProvider;
+import com.pickmebackend.domain.Account;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import static com.pickmebackend.properties.JwtConstants.SECRET;
+
+/**
+ * 요청 한 건을 인증할 때 드는 HS512 검증 비용 비교.
+ * before : JwtFilter 에서 한 번, validateToken 에서 username / 만료 확인으로 두 번 더 파싱하던 기존 경로
+ * parse  : 캐시 없이 한 번만 파싱
+ * verify : 검증된 토큰 캐시를 거치는 현재 경로
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerifyBenchmark {
+
+    private JwtProvider jwtProvider;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = new JwtProvider();
+        token = jwtProvider.generateToken(Account.builder()
+                .id(1L)
+                .email("benchmark@email.com")
+                .build());
+    }
+
+    @Benchmark
+    public void before(Blackhole blackhole) {
+        String username = parseClaims(token).getSubject();
+        String usernameToValidate = parseClaims(token).getSubject();
+        Date expiration = parseClaims(token).getExpiration();
+        blackhole.consume(username.equals(usernameToValidate) && !expiration.before(new Date()));
+    }
+
+    @Benchmark
+    public JwtClaims parse() {
+        return jwtProvider.parse(token);
+    }
+
+    @Benchmark
+    public JwtClaims verify() {
+        return jwtProvider.verify(token);
+    }
+
+    private Claims parseClaims(String token) {
+        return Jwts.parser().setSigningKey(SECRET).parseClaimsJws(token).getBody();
+    }
+}
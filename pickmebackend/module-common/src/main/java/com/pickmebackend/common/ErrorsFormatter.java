@@ -19,6 +19,10 @@ public class ErrorsFormatter {
         return new ResponseEntity<>(formatErrors(errors), HttpStatus.BAD_REQUEST);
     }
 
+    public ResponseEntity<?> tooManyRequests(String message) {
+        return new ResponseEntity<>(formatAnError(message), HttpStatus.TOO_MANY_REQUESTS);
+    }
+
     private List<String> formatAnError(String message) {
         return Arrays.asList(message);
     }
@@ -0,0 +1,66 @@
+package com.pickmebackend.common;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 최대 maxSize 개까지 LRU 로 유지하고, 항목마다 지정된 만료 시각이 지나면 조회되지 않는 캐시.
+ */
+public class ExpiringLruCache<K, V> {
+
+    private final Map<K, Entry<V>> cache;
+
+    public ExpiringLruCache(int maxSize) {
+        this.cache = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public V get(K key) {
+        long now = System.currentTimeMillis();
+        synchronized (cache) {
+            Entry<V> entry = cache.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt <= now) {
+                cache.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+    }
+
+    public void put(K key, V value, long expiresAt) {
+        synchronized (cache) {
+            cache.put(key, new Entry<>(value, expiresAt));
+        }
+    }
+
+    public void evict(K key) {
+        synchronized (cache) {
+            cache.remove(key);
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    private static class Entry<V> {
+
+        private final V value;
+
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
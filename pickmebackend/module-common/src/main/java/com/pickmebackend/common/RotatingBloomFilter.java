@@ -0,0 +1,128 @@
+package com.pickmebackend.common;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * window 마다 새 세대로 교체되는 두 세대짜리 Bloom filter.
+ * 한 번 본 키는 최소 window, 최대 2 * window 동안 다시 본 것으로 판단한다.
+ * 메모리는 세대당 expectedInsertions, falsePositiveRate 로 정해지는 비트 수로 고정되고, 오탐이 나면 처음 본 키를 본 적 있다고 판단한다.
+ */
+public class RotatingBloomFilter {
+
+    private final int numBits;
+
+    private final int numHashFunctions;
+
+    private final long windowMillis;
+
+    private final LongSupplier clock;
+
+    private volatile Generation current;
+
+    private volatile Generation previous;
+
+    private volatile long rotatedAt;
+
+    public RotatingBloomFilter(long expectedInsertions, double falsePositiveRate, long windowMillis) {
+        this(expectedInsertions, falsePositiveRate, windowMillis, System::currentTimeMillis);
+    }
+
+    RotatingBloomFilter(long expectedInsertions, double falsePositiveRate, long windowMillis, LongSupplier clock) {
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.numBits = (int) Math.max(Long.SIZE, Math.min(bits, Integer.MAX_VALUE - Long.SIZE));
+        this.numHashFunctions = Math.max(1, (int) Math.round((double) numBits / expectedInsertions * Math.log(2)));
+        this.windowMillis = windowMillis;
+        this.clock = clock;
+        this.current = new Generation(numBits);
+        this.previous = new Generation(numBits);
+        this.rotatedAt = clock.getAsLong();
+    }
+
+    /**
+     * 키를 추가하고, 현재와 이전 세대 어디에도 없던 키였으면 true 를 반환한다.
+     */
+    public boolean add(long key) {
+        rotateIfExpired();
+        long hash = mix(key);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+
+        if (previous.mightContain(hash1, hash2, numHashFunctions)) {
+            return false;
+        }
+        return current.put(hash1, hash2, numHashFunctions);
+    }
+
+    private void rotateIfExpired() {
+        if (clock.getAsLong() - rotatedAt < windowMillis) {
+            return;
+        }
+        synchronized (this) {
+            long now = clock.getAsLong();
+            if (now - rotatedAt < windowMillis) {
+                return;
+            }
+            previous = now - rotatedAt < 2 * windowMillis ? current : new Generation(numBits);
+            current = new Generation(numBits);
+            rotatedAt = now;
+        }
+    }
+
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+
+    private static class Generation {
+
+        private final AtomicLongArray words;
+
+        private final int numBits;
+
+        Generation(int numBits) {
+            this.words = new AtomicLongArray((numBits + Long.SIZE - 1) / Long.SIZE);
+            this.numBits = numBits;
+        }
+
+        boolean mightContain(int hash1, int hash2, int numHashFunctions) {
+            for (int i = 1; i <= numHashFunctions; i++) {
+                int index = index(hash1, hash2, i);
+                if ((words.get(index >>> 6) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean put(int hash1, int hash2, int numHashFunctions) {
+            boolean changed = false;
+            for (int i = 1; i <= numHashFunctions; i++) {
+                int index = index(hash1, hash2, i);
+                long mask = 1L << index;
+                int word = index >>> 6;
+                long value;
+                do {
+                    value = words.get(word);
+                    if ((value & mask) != 0) {
+                        break;
+                    }
+                } while (!words.compareAndSet(word, value, value | mask));
+                changed |= (value & mask) == 0;
+            }
+            return changed;
+        }
+
+        private int index(int hash1, int hash2, int i) {
+            int combined = hash1 + i * hash2;
+            if (combined < 0) {
+                combined = ~combined;
+            }
+            return combined % numBits;
+        }
+    }
+}
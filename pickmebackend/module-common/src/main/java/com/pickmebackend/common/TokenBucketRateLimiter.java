@@ -0,0 +1,89 @@
+package com.pickmebackend.common;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 키마다 capacity 개의 토큰을 가진 버킷을 두고, refillIntervalNanos 마다 한 개씩 다시 채우는 rate limiter.
+ * 버킷의 갱신은 ConcurrentHashMap.compute 안에서만 일어나므로 같은 키에 대한 요청끼리만 직렬화된다.
+ */
+public class TokenBucketRateLimiter {
+
+    private final int capacity;
+
+    private final long refillIntervalNanos;
+
+    private final ConcurrentMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public TokenBucketRateLimiter(int capacity, long refillIntervalNanos) {
+        if (capacity < 1 || refillIntervalNanos < 1) {
+            throw new IllegalArgumentException("capacity and refill interval must be positive");
+        }
+        this.capacity = capacity;
+        this.refillIntervalNanos = refillIntervalNanos;
+    }
+
+    public boolean tryAcquire(String key) {
+        long now = System.nanoTime();
+        boolean[] acquired = new boolean[1];
+        buckets.compute(key, (k, bucket) -> {
+            if (bucket == null) {
+                bucket = new Bucket(capacity, now);
+            }
+            bucket.refill(now);
+            if (bucket.tokens > 0) {
+                bucket.tokens--;
+                acquired[0] = true;
+            }
+            return bucket;
+        });
+        return acquired[0];
+    }
+
+    /**
+     * 다시 가득 찬 버킷은 새로 만든 버킷과 같으므로 지워도 결과가 달라지지 않는다.
+     */
+    public void evictIdle() {
+        long now = System.nanoTime();
+        for (String key : buckets.keySet()) {
+            buckets.computeIfPresent(key, (k, bucket) -> {
+                bucket.refill(now);
+                return bucket.tokens >= capacity ? null : bucket;
+            });
+        }
+    }
+
+    public void clear() {
+        buckets.clear();
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private class Bucket {
+
+        private long tokens;
+
+        private long refilledAt;
+
+        private Bucket(long tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+
+        private void refill(long now) {
+            long refills = (now - refilledAt) / refillIntervalNanos;
+            if (refills <= 0) {
+                return;
+            }
+            if (tokens + refills >= capacity) {
+                tokens = capacity;
+                refilledAt = now;
+            } else {
+                tokens += refills;
+                refilledAt += refills * refillIntervalNanos;
+            }
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package com.pickmebackend.config;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import org.modelmapper.ModelMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import javax.persistence.EntityManager;
@@ -15,11 +16,6 @@ public class BeanConfig {
     @PersistenceContext
     private EntityManager entityManager;
 
-    @Bean
-    public ModelMapper modelMapper() {
-        return new ModelMapper();
-    }
-
     @Bean
     public PasswordEncoder passwordEncoder() {
         return PasswordEncoderFactories.createDelegatingPasswordEncoder();
@@ -30,4 +26,17 @@ public class BeanConfig {
         return new JPAQueryFactory(entityManager);
     }
 
+    /**
+     * 조회 수 반영, 인증 번호 정리, 이미지 GC 처럼 주기적으로 도는 작업이 함께 쓰는 스케줄러.
+     * 메일 발송과 썸네일 생성은 크기를 따로 정하는 작업자 풀을 쓴다.
+     */
+    @Bean
+    public TaskScheduler backgroundTaskScheduler() {
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(2);
+        taskScheduler.setThreadNamePrefix("background-");
+        taskScheduler.setDaemon(true);
+        return taskScheduler;
+    }
+
 }
@@ -0,0 +1,34 @@
+package com.pickmebackend.config.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.Value;
+
+/**
+ * 서명 검증이 끝난 토큰에서 꺼낸 값. 한 번 만들어지면 바뀌지 않으므로 요청 간에 공유해도 안전하다.
+ */
+@Value
+public class JwtClaims {
+
+    private final Long id;
+
+    private final String subject;
+
+    private final Integer passwordVersion;
+
+    private final long issuedAt;
+
+    private final long expiration;
+
+    static JwtClaims of(Claims claims) {
+        return new JwtClaims(
+                claims.get("id", Long.class),
+                claims.getSubject(),
+                claims.get(JwtProvider.PASSWORD_VERSION, Integer.class),
+                claims.getIssuedAt() == null ? 0L : claims.getIssuedAt().getTime(),
+                claims.getExpiration() == null ? Long.MAX_VALUE : claims.getExpiration().getTime());
+    }
+
+    public boolean isExpired() {
+        return expiration <= System.currentTimeMillis();
+    }
+}
@@ -33,14 +33,13 @@ public class JwtFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         final String requestTokenHeader = request.getHeader(HEADER);
-        String username = null;
-        String jwt = null;
+        JwtClaims claims = null;
 
         if(requestTokenHeader != null && requestTokenHeader.startsWith(TOKEN_PREFIX))  {
-            jwt = requestTokenHeader.substring(7);
+            String jwt = requestTokenHeader.substring(7);
 
             try {
-                username = jwtProvider.getUsernameFromToken(jwt);
+                claims = jwtProvider.verify(jwt);
             }
             catch (IllegalArgumentException | ExpiredJwtException e)  {
                 e.printStackTrace();
@@ -50,10 +49,10 @@ public class JwtFilter extends OncePerRequestFilter {
             log.warn("JWT does not begin with Bearer String");
         }
 
-        if(username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+        if(claims != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails = this.userDetailsService.loadPrincipalByUsername(claims.getSubject(), claims.getId(), claims.getPasswordVersion());
 
-            if (jwtProvider.validateToken(jwt, userDetails)) {
+            if (userDetails != null && jwtProvider.validateToken(claims, userDetails)) {
                 UsernamePasswordAuthenticationToken token = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 token.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
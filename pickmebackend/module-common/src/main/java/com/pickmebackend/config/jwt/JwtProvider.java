@@ -1,9 +1,9 @@
 package com.pickmebackend.config.jwt;
 
+import com.pickmebackend.common.ExpiringLruCache;
 import com.pickmebackend.domain.Account;
 import static com.pickmebackend.properties.JwtConstants.SECRET;
 import static com.pickmebackend.properties.JwtConstants.TOKEN_VALIDITY;
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +13,6 @@ import java.io.Serializable;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
 /**
  * Reference
  * https://dzone.com/articles/spring-boot-security-json-web-tokenjwt-hello-world
@@ -22,32 +21,40 @@ import java.util.function.Function;
 @RequiredArgsConstructor
 public class JwtProvider implements Serializable {
 
-    public String getUsernameFromToken(String token)    {
-        return getClaimFromToken(token, Claims::getSubject);
-    }
+    static final String PASSWORD_VERSION = "pwv";
 
-    private Date getExpirationDateFromToken(String token)    {
-        return getClaimFromToken(token, Claims::getExpiration);
-    }
+    private static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
 
-    private <T> T getClaimFromToken(String token, Function<Claims, T> claimResolver) {
-        final Claims claims = getAllClaimsFromToken(token);
-        return claimResolver.apply(claims);
+    private final transient ExpiringLruCache<String, JwtClaims> verifiedTokens = new ExpiringLruCache<>(VERIFIED_TOKEN_CACHE_SIZE);
+
+    public String getUsernameFromToken(String token)    {
+        return verify(token).getSubject();
     }
 
-    private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parser().setSigningKey(SECRET).parseClaimsJws(token).getBody();
+    /**
+     * 서명과 만료를 한 번만 검증하고, 검증된 토큰은 exp 까지 캐시해 다음 요청에서 HMAC 계산을 생략한다.
+     */
+    public JwtClaims verify(String token) {
+        JwtClaims claims = verifiedTokens.get(token);
+        if (claims == null) {
+            claims = parse(token);
+            verifiedTokens.put(token, claims, claims.getExpiration());
+        }
+        return claims;
     }
 
-    private Boolean isTokenExpired(String token)    {
-        final Date expiration = getExpirationDateFromToken(token);
-        return expiration.before(new Date());
+    public JwtClaims parse(String token) {
+        return JwtClaims.of(Jwts.parser().setSigningKey(SECRET).parseClaimsJws(token).getBody());
     }
 
+    /**
+     * account 는 저장된 비밀번호 버전을 가진 엔티티여야 한다. 비밀번호가 바뀌면 이전 토큰은 JwtFilter 에서 거절된다.
+     */
     public String generateToken(Account account)    {
         Map<String, Object> claims = new HashMap<>();
         claims.put("id", account.getId());
         claims.put("email", account.getEmail());
+        claims.put(PASSWORD_VERSION, account.getPasswordVersion());
         return doGenerateToken(claims, account.getEmail());
     }
 
@@ -61,9 +68,8 @@ public class JwtProvider implements Serializable {
                 .compact();
     }
 
-    Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = getUsernameFromToken(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+    Boolean validateToken(JwtClaims claims, UserDetails userDetails) {
+        return (claims.getSubject().equals(userDetails.getUsername()) && !claims.isExpired());
     }
 
 }
\ No newline at end of file
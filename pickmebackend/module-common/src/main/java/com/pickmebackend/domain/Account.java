@@ -1,11 +1,10 @@
 package com.pickmebackend.domain;
 
-import com.fasterxml.jackson.annotation.JsonIdentityInfo;
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import com.pickmebackend.domain.enums.UserRole;
+import com.pickmebackend.repository.FilterCountListener;
 import lombok.*;
-import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import javax.persistence.*;
@@ -14,8 +13,23 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Getter @Setter @EqualsAndHashCode(of = "id")
-@NoArgsConstructor @AllArgsConstructor @Builder @ToString
-@Entity @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
+@NoArgsConstructor @AllArgsConstructor @Builder
+@ToString(exclude = {"positions", "enterprise", "experiences", "licenses", "prizes", "projects", "selfInterviews", "accountTechSet"})
+@Entity
+@EntityListeners(FilterCountListener.class)
+@Table(indexes = {
+        @Index(name = "idx_account_role_created_at", columnList = "userRole, createdAt, id"),
+        @Index(name = "idx_account_role_favorite_count", columnList = "userRole, favoriteCount, id"),
+        @Index(name = "idx_account_role_hits", columnList = "userRole, hits, id"),
+        @Index(name = "idx_account_image_blob", columnList = "imageBlob")
+})
+@NamedEntityGraphs({
+        @NamedEntityGraph(name = "Account.profile", attributeNodes = {
+                @NamedAttributeNode("positions"),
+                @NamedAttributeNode(value = "accountTechSet", subgraph = "accountTech.technology")
+        }, subgraphs = @NamedSubgraph(name = "accountTech.technology", attributeNodes = @NamedAttributeNode("technology"))),
+        @NamedEntityGraph(name = "Account.enterprise", attributeNodes = @NamedAttributeNode("enterprise"))
+})
 public class Account {
 
     @Id
@@ -29,16 +43,25 @@ public class Account {
     @JsonIgnore
     private String password;
 
+    /**
+     * 비밀번호를 바꿀 때마다 1 씩 늘린다. 토큰에도 담아서, 바꾸기 전에 발급된 토큰을 거른다.
+     */
+    @JsonIgnore
     @Column
-    private String nickName;
+    private int passwordVersion;
 
-    @ManyToMany(fetch = FetchType.EAGER)
-    private Set<Account> favorite = new HashSet<>();
+    @Column
+    private String nickName;
 
+    /**
+     * Favorite 를 넣고 지울 때 UPDATE 로 증감하므로, 엔티티를 저장할 때 오래된 값으로 덮어쓰지 않도록 UPDATE 에서 제외한다.
+     */
     @JsonIgnore
+    @Column(updatable = false)
     private long favoriteCount;
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection(fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     private Set<String> positions = new HashSet<>();
 
     @Column
@@ -57,49 +80,70 @@ public class Account {
     @Column
     private String image;
 
+    /**
+     * image 주소의 마지막 경로인 파일 이름. setImage 가 함께 채우고, 이미지 가비지 컬렉션이 색인으로 참조 여부를 확인하는 데 쓴다.
+     */
+    @JsonIgnore
     @Column
-    private String socialLink;
+    @Setter(AccessLevel.NONE)
+    private String imageBlob;
 
     @Column
+    private String socialLink;
+
+    /**
+     * AccountHitsCounter 만 증가시키므로, 엔티티를 저장할 때 오래된 값으로 덮어쓰지 않도록 UPDATE 에서 제외한다.
+     */
+    @Column(updatable = false)
     private long hits;
 
-    @OneToOne(fetch = FetchType.EAGER)
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "enterprise_id")
     private Enterprise enterprise;
 
-    @OneToMany(mappedBy = "account", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "account", fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     private Set<Experience> experiences = new HashSet<>();
 
-    @OneToMany(mappedBy = "account", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "account", fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     private Set<License> licenses = new HashSet<>();
 
-    @OneToMany(mappedBy = "account", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "account", fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     private Set<Prize> prizes = new HashSet<>();
 
-    @OneToMany(mappedBy = "account", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "account", fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     private Set<Project> projects = new HashSet<>();
 
-    @OneToMany(mappedBy = "account", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "account", fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     private Set<SelfInterview> selfInterviews = new HashSet<>();
 
-    @OneToMany(mappedBy = "account", fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "account", fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
     @JsonIgnore
     private Set<AccountTech> accountTechSet = new HashSet<>();
 
-    public void addFavorite(Account currentUser) {
-        if (this.getFavorite().contains(currentUser)) {
-            this.getFavorite().remove(currentUser);
-            this.favoriteCount = this.getFavorite().size();
-        } else {
-            this.getFavorite().add(currentUser);
-            this.favoriteCount = this.getFavorite().size();
-        }
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
+        this.passwordVersion++;
+    }
+
+    public void setImage(String image) {
+        this.image = image;
+        this.imageBlob = fileNameOf(image);
+    }
+
+    public static String fileNameOf(String image) {
+        return image == null ? null : image.substring(image.lastIndexOf('/') + 1);
     }
 
     public void setValue() {
         this.userRole = UserRole.USER;
         this.createdAt = LocalDateTime.now();
-        this.image = defaultImage();
+        setImage(defaultImage());
     }
 
     private String defaultImage() {
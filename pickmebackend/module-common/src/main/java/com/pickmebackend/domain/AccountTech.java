@@ -11,6 +11,7 @@ import javax.persistence.*;
 @Getter
 @Builder @NoArgsConstructor @AllArgsConstructor
 @Entity
+@Table(indexes = @Index(name = "idx_account_tech_technology_account", columnList = "technology_id, account_id"))
 public class AccountTech {
 
     @Id
@@ -1,12 +1,13 @@
 package com.pickmebackend.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.*;
 
 import javax.persistence.*;
 
 @Getter @Setter @EqualsAndHashCode(of = "id")
 @NoArgsConstructor @AllArgsConstructor @Builder
-@Entity
+@Entity @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Enterprise {
 
     @Id
@@ -0,0 +1,39 @@
+package com.pickmebackend.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * fromAccount 가 toAccount 에게 누른 좋아요. toAccount 의 favoriteCount 는 이 행을 넣고 지울 때 함께 증감한다.
+ */
+@Getter
+@Builder @NoArgsConstructor @AllArgsConstructor
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_favorite_from_to", columnNames = {"from_account_id", "to_account_id"}),
+        indexes = @Index(name = "idx_favorite_to_from", columnList = "to_account_id, from_account_id"))
+public class Favorite {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "from_account_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Account fromAccount;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "to_account_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Account toAccount;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,68 @@
+package com.pickmebackend.domain;
+
+import com.pickmebackend.domain.enums.MailStatus;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 요청 스레드에서 바로 보내지 않고 쌓아 두었다가 MailOutboxWorker 가 꺼내 보내는 메일
+ */
+@Entity @EqualsAndHashCode(of = "id")
+@Getter @Setter @Builder
+@NoArgsConstructor @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_mail_outbox_status_next_attempt_at", columnList = "status, nextAttemptAt, id"),
+        @Index(name = "idx_mail_outbox_claim_token", columnList = "claimToken")
+})
+public class MailOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "mail_outbox_seq")
+    @SequenceGenerator(name = "mail_outbox_seq", sequenceName = "mail_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Lob
+    @Column(nullable = false)
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private MailStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 36)
+    private String claimToken;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+
+    public static MailOutbox of(String recipient, String subject, String content) {
+        LocalDateTime now = LocalDateTime.now();
+        return MailOutbox.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .content(content)
+                .status(MailStatus.PENDING)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+}
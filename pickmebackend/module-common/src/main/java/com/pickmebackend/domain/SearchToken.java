@@ -0,0 +1,33 @@
+package com.pickmebackend.domain;
+
+import com.pickmebackend.domain.enums.SearchField;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+@Getter
+@Builder @NoArgsConstructor @AllArgsConstructor
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_search_token_field_token", columnList = "field, token, ownerId"),
+        @Index(name = "uk_search_token_owner", columnList = "field, ownerId, token", unique = true)
+})
+public class SearchToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 30)
+    @Enumerated(EnumType.STRING)
+    private SearchField field;
+
+    @Column(nullable = false)
+    private Long ownerId;
+
+    @Column(nullable = false, length = 8)
+    private String token;
+}
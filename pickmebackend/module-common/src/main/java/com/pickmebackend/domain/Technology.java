@@ -1,5 +1,6 @@
 package com.pickmebackend.domain;
 
+import com.pickmebackend.repository.TechnologyCatalogListener;
 import lombok.*;
 
 import javax.persistence.*;
@@ -9,6 +10,7 @@ import javax.persistence.*;
 @NoArgsConstructor @AllArgsConstructor
 @Builder
 @Entity
+@EntityListeners(TechnologyCatalogListener.class)
 public class Technology {
 
     @Id
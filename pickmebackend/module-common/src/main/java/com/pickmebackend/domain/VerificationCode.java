@@ -3,10 +3,15 @@ package com.pickmebackend.domain;
 import lombok.*;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 
 @Entity @EqualsAndHashCode(of = "id")
 @Getter @Setter @Builder
 @NoArgsConstructor @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "uk_verification_code_email", columnList = "email", unique = true),
+        @Index(name = "idx_verification_code_expires_at", columnList = "expiresAt")
+})
 public class VerificationCode {
 
     @Id
@@ -21,4 +26,14 @@ public class VerificationCode {
 
     @Column
     private boolean isVerified = false;
+
+    @Column
+    private LocalDateTime expiresAt;
+
+    /**
+     * 만료 시각이 없는 행은 이 컬럼이 생기기 전에 보낸 인증 번호이므로 만료된 것으로 본다.
+     */
+    public boolean isExpiredAt(LocalDateTime now) {
+        return expiresAt == null || !expiresAt.isAfter(now);
+    }
 }
@@ -0,0 +1,70 @@
+package com.pickmebackend.domain.dto.account;
+
+import com.pickmebackend.domain.dto.technology.TechnologyResponseDto;
+import com.pickmebackend.domain.enums.ImageSize;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 유저 목록의 카드 한 장에 필요한 값만 담는다. 엔티티를 읽지 않고 projection 으로 채운다.
+ */
+@Getter
+public class AccountCardResponseDto {
+
+    public static final int TOP_TECHNOLOGIES = 5;
+
+    private Long id;
+
+    private String nickName;
+
+    private String image;
+
+    private String oneLineIntroduce;
+
+    private String career;
+
+    private long favoriteCount;
+
+    private long hits;
+
+    private LocalDateTime createdAt;
+
+    private Set<String> positions = new LinkedHashSet<>();
+
+    private List<TechnologyResponseDto> technologies = new ArrayList<>();
+
+    public AccountCardResponseDto(Long id, String nickName, String image, String oneLineIntroduce, String career,
+                                  long favoriteCount, long hits, LocalDateTime createdAt) {
+        this.id = id;
+        this.nickName = nickName;
+        this.image = ImageSize.LIST.urlOf(image);
+        this.oneLineIntroduce = oneLineIntroduce;
+        this.career = career;
+        this.favoriteCount = favoriteCount;
+        this.hits = hits;
+        this.createdAt = createdAt;
+    }
+
+    public void addPosition(String position) {
+        if (position != null) {
+            positions.add(position);
+        }
+    }
+
+    /**
+     * 기술 식별자 순으로 들어온다고 보고, 앞에서부터 TOP_TECHNOLOGIES 개까지만 담는다.
+     */
+    public void addTechnology(Long technologyId, String name) {
+        if (technologyId == null || technologies.size() >= TOP_TECHNOLOGIES) {
+            return;
+        }
+        if (technologies.stream().noneMatch(technology -> technology.getId().equals(technologyId))) {
+            technologies.add(new TechnologyResponseDto(technologyId, name));
+        }
+    }
+}
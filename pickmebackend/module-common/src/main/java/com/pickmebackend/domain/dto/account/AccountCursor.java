@@ -0,0 +1,86 @@
+package com.pickmebackend.domain.dto.account;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 유저 목록 커서 페이징에서 마지막으로 내려준 유저의 정렬 키와 id.
+ * 클라이언트에는 정렬 기준까지 함께 인코딩한 불투명한 문자열로 전달한다.
+ */
+@Getter
+@AllArgsConstructor
+public class AccountCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final String orderBy;
+
+    private final String value;
+
+    private final Long id;
+
+    public static AccountCursor of(AccountCardResponseDto account, String orderBy) {
+        String key = orderKey(orderBy);
+        switch (key) {
+            case "favorite":
+                return new AccountCursor(key, String.valueOf(account.getFavoriteCount()), account.getId());
+            case "hits":
+                return new AccountCursor(key, String.valueOf(account.getHits()), account.getId());
+            default:
+                return new AccountCursor(key, String.valueOf(account.getCreatedAt()), account.getId());
+        }
+    }
+
+    public static AccountCursor decode(String cursor) {
+        String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] tokens = decoded.split("\\" + DELIMITER);
+        if (tokens.length != 3) {
+            throw new IllegalArgumentException("Invalid cursor : " + cursor);
+        }
+        AccountCursor accountCursor = new AccountCursor(tokens[0], tokens[1], Long.valueOf(tokens[2]));
+        accountCursor.validate();
+        return accountCursor;
+    }
+
+    public static String orderKey(String orderBy) {
+        if ("favorite".equals(orderBy) || "hits".equals(orderBy))
+            return orderBy;
+        return "createdAt";
+    }
+
+    public String encode() {
+        String raw = orderBy + DELIMITER + value + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean matches(String orderBy) {
+        return this.orderBy.equals(orderKey(orderBy));
+    }
+
+    public long longValue() {
+        return Long.parseLong(value);
+    }
+
+    public LocalDateTime dateTimeValue() {
+        return LocalDateTime.parse(value);
+    }
+
+    private void validate() {
+        if (!this.orderBy.equals(orderKey(this.orderBy))) {
+            throw new IllegalArgumentException("Invalid cursor order : " + this.orderBy);
+        }
+        try {
+            if ("createdAt".equals(this.orderBy)) {
+                dateTimeValue();
+            } else {
+                longValue();
+            }
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor value : " + this.value, e);
+        }
+    }
+}
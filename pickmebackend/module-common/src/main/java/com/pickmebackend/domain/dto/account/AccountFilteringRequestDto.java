@@ -23,7 +23,20 @@ public class AccountFilteringRequestDto {
     @Nullable
     private String technology;
 
+    @Nullable
+    private String technologyMatch;
+
     @Nullable
     private String orderBy;
 
+    /**
+     * 개수에 영향을 주지 않는 정렬 기준을 제외하고, null 과 빈 값을 같은 조건으로 본 캐시 키
+     */
+    public String toCountKey() {
+        return String.join("\u0000", normalize(nickName), normalize(oneLineIntroduce), normalize(career), normalize(position), normalize(technology), normalize(technologyMatch));
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value;
+    }
 }
@@ -1,5 +1,6 @@
 package com.pickmebackend.domain.dto.account;
 
+import com.pickmebackend.domain.Account;
 import lombok.*;
 import org.springframework.lang.Nullable;
 
@@ -22,4 +23,13 @@ public class AccountInitialRequestDto {
 
     @Nullable
     private String oneLineIntroduce;
+
+    public Account toEntity() {
+        Account account = new Account();
+        account.setEmail(email);
+        account.setPassword(password);
+        account.setNickName(nickName);
+        account.setOneLineIntroduce(oneLineIntroduce);
+        return account;
+    }
 }
@@ -1,6 +1,7 @@
 package com.pickmebackend.domain.dto.account;
 
 import com.pickmebackend.domain.Account;
+import com.pickmebackend.domain.enums.ImageSize;
 import lombok.Getter;
 
 @Getter
@@ -15,6 +16,12 @@ public class AccountListResponseDto {
     public AccountListResponseDto(Account account) {
         this.id = account.getId();
         this.email = account.getEmail();
-        this.image = account.getImage();
+        this.image = ImageSize.LIST.urlOf(account.getImage());
+    }
+
+    public AccountListResponseDto(Long id, String email, String image) {
+        this.id = id;
+        this.email = email;
+        this.image = ImageSize.LIST.urlOf(image);
     }
 }
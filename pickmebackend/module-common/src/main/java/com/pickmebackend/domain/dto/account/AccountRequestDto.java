@@ -1,5 +1,6 @@
 package com.pickmebackend.domain.dto.account;
 
+import com.pickmebackend.domain.Account;
 import com.pickmebackend.domain.Technology;
 import lombok.*;
 import org.springframework.lang.Nullable;
@@ -34,4 +35,15 @@ public class AccountRequestDto {
 
     @Nullable
     private List<Technology> technologies = new ArrayList<>();
+
+    /**
+     * positions 와 technologies 는 AccountService 가 기존 값과 비교해서 반영한다.
+     */
+    public void applyTo(Account account) {
+        account.setEmail(email);
+        account.setNickName(nickName);
+        account.setOneLineIntroduce(oneLineIntroduce);
+        account.setSocialLink(socialLink);
+        account.setCareer(career);
+    }
 }
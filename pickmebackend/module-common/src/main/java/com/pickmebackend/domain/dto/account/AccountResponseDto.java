@@ -1,17 +1,29 @@
 package com.pickmebackend.domain.dto.account;
 
 import com.pickmebackend.domain.*;
+import com.pickmebackend.domain.dto.experience.ExperienceResponseDto;
+import com.pickmebackend.domain.dto.license.LicenseResponseDto;
+import com.pickmebackend.domain.dto.prize.PrizeResponseDto;
+import com.pickmebackend.domain.dto.project.ProjectResponseDto;
+import com.pickmebackend.domain.dto.selfInterview.SelfInterviewResponseDto;
+import com.pickmebackend.domain.dto.technology.TechnologyResponseDto;
+import com.pickmebackend.domain.enums.ImageSize;
 import com.pickmebackend.domain.enums.UserRole;
-import lombok.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-@Getter @Setter @AllArgsConstructor @Builder @NoArgsConstructor
+/**
+ * 엔티티를 담지 않고 값만 복사해 두므로, 세션이 닫힌 뒤나 유저를 삭제한 뒤에도 그대로 직렬화할 수 있다.
+ * 경력, 자격증 같은 하위 항목은 작성자가 이 유저이므로 account 없이 담는다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class AccountResponseDto {
 
     private Long id;
@@ -34,48 +46,58 @@ public class AccountResponseDto {
 
     private LocalDateTime createdAt;
 
-    private Set<Experience> experiences;
+    private List<ExperienceResponseDto> experiences;
 
-    private Set<License> licenses;
+    private List<LicenseResponseDto> licenses;
 
-    private Set<Prize> prizes;
+    private List<PrizeResponseDto> prizes;
 
-    private Set<Project> projects;
+    private List<ProjectResponseDto> projects;
 
-    private Set<SelfInterview> selfInterviews;
+    private List<SelfInterviewResponseDto> selfInterviews;
 
-    private List<Technology> technologies = new ArrayList<>();
+    private List<TechnologyResponseDto> technologies;
 
     private Set<String> positions;
 
     private long hits;
 
-    public AccountResponseDto (Account account) {
+    public AccountResponseDto(Account account) {
+        this(account, account.getFavoriteCount(), account.getHits());
+    }
+
+    /**
+     * favoriteCount 와 hits 는 아직 반영되지 않은 증감이 있을 수 있어서 호출하는 쪽이 계산한 값을 받는다.
+     */
+    public AccountResponseDto(Account account, long favoriteCount, long hits) {
         this.id = account.getId();
         this.email = account.getEmail();
         this.nickName = account.getNickName();
-        this.favoriteCount = account.getFavorite().size();
+        this.favoriteCount = (int) favoriteCount;
         this.oneLineIntroduce = account.getOneLineIntroduce();
-        this.career = account.getCareer();
-        this.image = account.getImage();
-        this.positions = account.getPositions();
+        this.image = ImageSize.PROFILE.urlOf(account.getImage());
         this.userRole = account.getUserRole();
         this.socialLink = account.getSocialLink();
-        this.experiences = account.getExperiences();
-        this.licenses = account.getLicenses();
-        this.prizes = account.getPrizes();
-        this.projects = account.getProjects();
-        this.selfInterviews = account.getSelfInterviews();
+        this.career = account.getCareer();
         this.createdAt = account.getCreatedAt();
-        this.userRole = account.getUserRole();
-        this.hits = account.getHits();
-        this.technologies = listSort(account.getAccountTechSet().stream()
-                .map(AccountTech::getTechnology)
-                .collect(Collectors.toList()));
+        this.experiences = toList(account.getExperiences(), Experience::getId, e -> new ExperienceResponseDto(e, null));
+        this.licenses = toList(account.getLicenses(), License::getId, e -> new LicenseResponseDto(e, null));
+        this.prizes = toList(account.getPrizes(), Prize::getId, e -> new PrizeResponseDto(e, null));
+        this.projects = toList(account.getProjects(), Project::getId, e -> new ProjectResponseDto(e, null));
+        this.selfInterviews = toList(account.getSelfInterviews(), SelfInterview::getId, e -> new SelfInterviewResponseDto(e, null));
+        this.technologies = toList(account.getAccountTechSet(), accountTech -> accountTech.getTechnology().getId(),
+                accountTech -> new TechnologyResponseDto(accountTech.getTechnology()));
+        this.positions = account.getPositions() == null ? new LinkedHashSet<>() : new LinkedHashSet<>(account.getPositions());
+        this.hits = hits;
     }
 
-    private List<Technology> listSort(List<Technology> collect) {
-        collect.sort(Comparator.comparingInt(a -> a.getId().intValue()));
-        return collect;
+    private static <E, D> List<D> toList(Collection<E> entities, Function<E, Long> id, Function<E, D> mapper) {
+        if (entities == null) {
+            return new ArrayList<>();
+        }
+        return entities.stream()
+                .sorted(Comparator.comparing(id, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(mapper)
+                .collect(Collectors.toList());
     }
 }
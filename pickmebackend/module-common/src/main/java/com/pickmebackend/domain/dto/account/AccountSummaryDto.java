@@ -0,0 +1,42 @@
+package com.pickmebackend.domain.dto.account;
+
+import com.pickmebackend.domain.Account;
+import com.pickmebackend.domain.enums.ImageSize;
+import com.pickmebackend.domain.enums.UserRole;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경력, 자격증 같은 하위 항목이나 기업 응답에 작성자를 담을 때 쓴다. 컬렉션을 담지 않으므로 직렬화가 유저의 다른 항목으로 번지지 않는다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class AccountSummaryDto {
+
+    private Long id;
+
+    private String email;
+
+    private String nickName;
+
+    private String oneLineIntroduce;
+
+    private String image;
+
+    private UserRole userRole;
+
+    private LocalDateTime createdAt;
+
+    public AccountSummaryDto(Account account) {
+        this.id = account.getId();
+        this.email = account.getEmail();
+        this.nickName = account.getNickName();
+        this.oneLineIntroduce = account.getOneLineIntroduce();
+        this.image = ImageSize.LIST.urlOf(account.getImage());
+        this.userRole = account.getUserRole();
+        this.createdAt = account.getCreatedAt();
+    }
+}
@@ -0,0 +1,84 @@
+package com.pickmebackend.domain.dto.account;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+import lombok.Getter;
+
+import java.io.IOException;
+
+/**
+ * 유저 조회 응답. AccountProfileCache 에 직렬화해 둔 프로필 JSON 에 요청마다 달라지는
+ * favoriteFlag, favoriteCount, hits 를 더해 AccountFavoriteFlagResponseDto 와 같은 모양으로 쓴다.
+ */
+@Getter
+@JsonSerialize(using = CachedAccountResponseDto.Serializer.class)
+public class CachedAccountResponseDto {
+
+    private final Long id;
+
+    private final String profile;
+
+    private final boolean favoriteFlag;
+
+    private final long favoriteCount;
+
+    private final long hits;
+
+    public CachedAccountResponseDto(Long id, String profile, boolean favoriteFlag, long favoriteCount, long hits) {
+        this.id = id;
+        this.profile = profile;
+        this.favoriteFlag = favoriteFlag;
+        this.favoriteCount = favoriteCount;
+        this.hits = hits;
+    }
+
+    /**
+     * 요청마다 채우는 필드를 먼저 쓰고, 프로필 JSON 은 바깥 중괄호를 떼어 그대로 이어 쓴다.
+     * EntityModel 의 내용처럼 펼쳐서 쓰일 때는 중괄호 없이 필드만 쓴다.
+     */
+    static class Serializer extends StdSerializer<CachedAccountResponseDto> {
+
+        private final boolean unwrapping;
+
+        Serializer() {
+            this(false);
+        }
+
+        private Serializer(boolean unwrapping) {
+            super(CachedAccountResponseDto.class);
+            this.unwrapping = unwrapping;
+        }
+
+        @Override
+        public boolean isUnwrappingSerializer() {
+            return unwrapping;
+        }
+
+        @Override
+        public JsonSerializer<CachedAccountResponseDto> unwrappingSerializer(NameTransformer unwrapper) {
+            return new Serializer(true);
+        }
+
+        @Override
+        public void serialize(CachedAccountResponseDto value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (!unwrapping) {
+                gen.writeStartObject();
+            }
+            gen.writeBooleanField("favoriteFlag", value.favoriteFlag);
+            gen.writeNumberField("favoriteCount", value.favoriteCount);
+            gen.writeNumberField("hits", value.hits);
+            String profile = value.profile;
+            if (profile.length() > 2) {
+                gen.writeRaw(',');
+                gen.writeRaw(profile, 1, profile.length() - 2);
+            }
+            if (!unwrapping) {
+                gen.writeEndObject();
+            }
+        }
+    }
+}
@@ -14,4 +14,14 @@ public class EnterpriseFilterRequestDto {
     @Nullable
     private String address;
 
+    /**
+     * null 과 빈 값을 같은 조건으로 본 캐시 키
+     */
+    public String toCountKey() {
+        return String.join("\u0000", normalize(name), normalize(address));
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value;
+    }
 }
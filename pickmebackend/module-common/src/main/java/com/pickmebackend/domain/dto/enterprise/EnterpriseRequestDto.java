@@ -1,5 +1,7 @@
 package com.pickmebackend.domain.dto.enterprise;
 
+import com.pickmebackend.domain.Account;
+import com.pickmebackend.domain.Enterprise;
 import lombok.*;
 
 import javax.validation.constraints.Email;
@@ -27,4 +29,34 @@ public class EnterpriseRequestDto {
 
     @NotBlank(message = "사장님 이름은 반드시 입력되어야 합니다.")
     private String ceoName;
+
+    /**
+     * 비밀번호는 암호화해서 넣어야 하므로 EnterpriseService 가 채운다.
+     */
+    public Account toAccount() {
+        Account account = new Account();
+        applyTo(account);
+        return account;
+    }
+
+    public Enterprise toEnterprise() {
+        return Enterprise.builder()
+                .registrationNumber(registrationNumber)
+                .name(name)
+                .address(address)
+                .ceoName(ceoName)
+                .build();
+    }
+
+    public void applyTo(Account account) {
+        account.setEmail(email);
+        account.setNickName(name);
+    }
+
+    public void applyTo(Enterprise enterprise) {
+        enterprise.setRegistrationNumber(registrationNumber);
+        enterprise.setName(name);
+        enterprise.setAddress(address);
+        enterprise.setCeoName(ceoName);
+    }
 }
@@ -2,11 +2,13 @@ package com.pickmebackend.domain.dto.enterprise;
 
 import com.pickmebackend.domain.Account;
 import com.pickmebackend.domain.Enterprise;
-import lombok.*;
+import com.pickmebackend.domain.dto.account.AccountSummaryDto;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
 
-@Getter @Setter
-@NoArgsConstructor @AllArgsConstructor
-@Builder
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class EnterpriseResponseDto {
 
     private Long id;
@@ -21,15 +23,30 @@ public class EnterpriseResponseDto {
 
     private String ceoName;
 
-    private Account account;
+    private AccountSummaryDto account;
 
     public EnterpriseResponseDto(Enterprise enterprise) {
-        this.id = enterprise.getId();
-        this.email = enterprise.getAccount().getEmail();
+        this(enterprise, enterprise.getAccount());
+    }
+
+    public EnterpriseResponseDto(Enterprise enterprise, Account account) {
+        this(enterprise.getId(), enterprise, account);
+    }
+
+    private EnterpriseResponseDto(Long id, Enterprise enterprise, Account account) {
+        this.id = id;
+        this.email = account.getEmail();
         this.registrationNumber = enterprise.getRegistrationNumber();
         this.name = enterprise.getName();
         this.address = enterprise.getAddress();
         this.ceoName = enterprise.getCeoName();
-        this.account = enterprise.getAccount();
+        this.account = new AccountSummaryDto(account);
+    }
+
+    /**
+     * 삭제 응답의 id 는 기업이 아니라 기업 담당자 식별자다.
+     */
+    public static EnterpriseResponseDto ofDeleted(Account account) {
+        return new EnterpriseResponseDto(account.getId(), account.getEnterprise(), account);
     }
 }
@@ -0,0 +1,16 @@
+package com.pickmebackend.domain.dto.enterprise;
+
+import lombok.*;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class SuggestionRequestDto {
+
+    @NotEmpty(message = "채용 제안을 보낼 유저를 선택해야 합니다.") @Size(max = 100, message = "한 번에 100명까지 채용 제안을 보낼 수 있습니다.")
+    private List<Long> accountIds;
+}
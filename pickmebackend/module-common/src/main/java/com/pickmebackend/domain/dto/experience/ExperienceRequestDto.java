@@ -1,5 +1,6 @@
 package com.pickmebackend.domain.dto.experience;
 
+import com.pickmebackend.domain.Experience;
 import lombok.*;
 
 import java.time.LocalDate;
@@ -17,4 +18,22 @@ public class ExperienceRequestDto {
     private LocalDate retiredAt;
 
     private String description;
+
+    public Experience toEntity() {
+        return Experience.builder()
+                .companyName(companyName)
+                .position(position)
+                .joinedAt(joinedAt)
+                .retiredAt(retiredAt)
+                .description(description)
+                .build();
+    }
+
+    public void applyTo(Experience experience) {
+        experience.setCompanyName(companyName);
+        experience.setPosition(position);
+        experience.setJoinedAt(joinedAt);
+        experience.setRetiredAt(retiredAt);
+        experience.setDescription(description);
+    }
 }
@@ -1,13 +1,16 @@
 package com.pickmebackend.domain.dto.experience;
 
-import com.pickmebackend.domain.Account;
-import lombok.*;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.pickmebackend.domain.Experience;
+import com.pickmebackend.domain.dto.account.AccountSummaryDto;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 
-@Getter @Setter
-@NoArgsConstructor @AllArgsConstructor
-@Builder
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ExperienceResponseDto {
 
     private Long id;
@@ -22,5 +25,20 @@ public class ExperienceResponseDto {
 
     private String description;
 
-    private Account account;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private AccountSummaryDto account;
+
+    public ExperienceResponseDto(Experience experience) {
+        this(experience, new AccountSummaryDto(experience.getAccount()));
+    }
+
+    public ExperienceResponseDto(Experience experience, AccountSummaryDto account) {
+        this.id = experience.getId();
+        this.companyName = experience.getCompanyName();
+        this.position = experience.getPosition();
+        this.joinedAt = experience.getJoinedAt();
+        this.retiredAt = experience.getRetiredAt();
+        this.description = experience.getDescription();
+        this.account = account;
+    }
 }
@@ -1,5 +1,6 @@
 package com.pickmebackend.domain.dto.license;
 
+import com.pickmebackend.domain.License;
 import lombok.*;
 import java.time.LocalDate;
 
@@ -14,4 +15,20 @@ public class LicenseRequestDto {
     private LocalDate issuedDate;
 
     private String description;
+
+    public License toEntity() {
+        return License.builder()
+                .name(name)
+                .institution(institution)
+                .issuedDate(issuedDate)
+                .description(description)
+                .build();
+    }
+
+    public void applyTo(License license) {
+        license.setName(name);
+        license.setInstitution(institution);
+        license.setIssuedDate(issuedDate);
+        license.setDescription(description);
+    }
 }
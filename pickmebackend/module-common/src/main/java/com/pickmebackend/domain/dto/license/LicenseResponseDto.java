@@ -1,12 +1,15 @@
 package com.pickmebackend.domain.dto.license;
 
-import com.pickmebackend.domain.Account;
-import lombok.*;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.pickmebackend.domain.License;
+import com.pickmebackend.domain.dto.account.AccountSummaryDto;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 
-@Getter @Setter
-@NoArgsConstructor @AllArgsConstructor
-@Builder
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class LicenseResponseDto {
 
     private Long id;
@@ -19,5 +22,19 @@ public class LicenseResponseDto {
 
     private String description;
 
-    private Account account;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private AccountSummaryDto account;
+
+    public LicenseResponseDto(License license) {
+        this(license, new AccountSummaryDto(license.getAccount()));
+    }
+
+    public LicenseResponseDto(License license, AccountSummaryDto account) {
+        this.id = license.getId();
+        this.name = license.getName();
+        this.institution = license.getInstitution();
+        this.issuedDate = license.getIssuedDate();
+        this.description = license.getDescription();
+        this.account = account;
+    }
 }
@@ -1,5 +1,6 @@
 package com.pickmebackend.domain.dto.login;
 
+import com.pickmebackend.domain.Account;
 import lombok.*;
 import javax.validation.constraints.Email;
 import javax.validation.constraints.NotBlank;
@@ -16,4 +17,10 @@ public class LoginRequestDto {
     @NotBlank(message = "비밀번호는 반드시 입력되어야 합니다.") @Size(min = 8, max = 20, message = "비밀번호는 8자 이상 20자 미만이어야 합니다.")
     private String password;
 
+    public Account toEntity() {
+        Account account = new Account();
+        account.setEmail(email);
+        account.setPassword(password);
+        return account;
+    }
 }
@@ -1,5 +1,6 @@
 package com.pickmebackend.domain.dto.prize;
 
+import com.pickmebackend.domain.Prize;
 import lombok.*;
 import java.time.LocalDate;
 
@@ -14,4 +15,20 @@ public class PrizeRequestDto {
     private LocalDate issuedDate;
 
     private String description;
+
+    public Prize toEntity() {
+        return Prize.builder()
+                .competition(competition)
+                .name(name)
+                .issuedDate(issuedDate)
+                .description(description)
+                .build();
+    }
+
+    public void applyTo(Prize prize) {
+        prize.setCompetition(competition);
+        prize.setName(name);
+        prize.setIssuedDate(issuedDate);
+        prize.setDescription(description);
+    }
 }
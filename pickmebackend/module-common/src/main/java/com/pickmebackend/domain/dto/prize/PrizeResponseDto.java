@@ -1,12 +1,15 @@
 package com.pickmebackend.domain.dto.prize;
 
-import com.pickmebackend.domain.Account;
-import lombok.*;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.pickmebackend.domain.Prize;
+import com.pickmebackend.domain.dto.account.AccountSummaryDto;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 
-@Getter @Setter
-@NoArgsConstructor @AllArgsConstructor
-@Builder
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class PrizeResponseDto {
 
     private Long id;
@@ -19,5 +22,19 @@ public class PrizeResponseDto {
 
     private String description;
 
-    private Account account;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private AccountSummaryDto account;
+
+    public PrizeResponseDto(Prize prize) {
+        this(prize, new AccountSummaryDto(prize.getAccount()));
+    }
+
+    public PrizeResponseDto(Prize prize, AccountSummaryDto account) {
+        this.id = prize.getId();
+        this.competition = prize.getCompetition();
+        this.name = prize.getName();
+        this.issuedDate = prize.getIssuedDate();
+        this.description = prize.getDescription();
+        this.account = account;
+    }
 }
@@ -1,5 +1,6 @@
 package com.pickmebackend.domain.dto.project;
 
+import com.pickmebackend.domain.Project;
 import lombok.*;
 import java.time.LocalDate;
 
@@ -18,4 +19,24 @@ public class ProjectRequestDto {
     private LocalDate endedAt;
 
     private String projectLink;
+
+    public Project toEntity() {
+        return Project.builder()
+                .name(name)
+                .role(role)
+                .description(description)
+                .startedAt(startedAt)
+                .endedAt(endedAt)
+                .projectLink(projectLink)
+                .build();
+    }
+
+    public void applyTo(Project project) {
+        project.setName(name);
+        project.setRole(role);
+        project.setDescription(description);
+        project.setStartedAt(startedAt);
+        project.setEndedAt(endedAt);
+        project.setProjectLink(projectLink);
+    }
 }
@@ -1,12 +1,15 @@
 package com.pickmebackend.domain.dto.project;
 
-import com.pickmebackend.domain.Account;
-import lombok.*;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.pickmebackend.domain.Project;
+import com.pickmebackend.domain.dto.account.AccountSummaryDto;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 
-@Getter @Setter
-@NoArgsConstructor @AllArgsConstructor
-@Builder
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ProjectResponseDto {
 
     private Long id;
@@ -23,6 +26,21 @@ public class ProjectResponseDto {
 
     private String projectLink;
 
-    private Account account;
-
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private AccountSummaryDto account;
+
+    public ProjectResponseDto(Project project) {
+        this(project, new AccountSummaryDto(project.getAccount()));
+    }
+
+    public ProjectResponseDto(Project project, AccountSummaryDto account) {
+        this.id = project.getId();
+        this.name = project.getName();
+        this.role = project.getRole();
+        this.description = project.getDescription();
+        this.startedAt = project.getStartedAt();
+        this.endedAt = project.getEndedAt();
+        this.projectLink = project.getProjectLink();
+        this.account = account;
+    }
 }
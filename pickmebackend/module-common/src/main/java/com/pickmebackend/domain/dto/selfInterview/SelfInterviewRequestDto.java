@@ -1,5 +1,6 @@
 package com.pickmebackend.domain.dto.selfInterview;
 
+import com.pickmebackend.domain.SelfInterview;
 import lombok.*;
 
 @Getter @Setter
@@ -9,4 +10,16 @@ public class SelfInterviewRequestDto {
     private String title;
 
     private String content;
+
+    public SelfInterview toEntity() {
+        return SelfInterview.builder()
+                .title(title)
+                .content(content)
+                .build();
+    }
+
+    public void applyTo(SelfInterview selfInterview) {
+        selfInterview.setTitle(title);
+        selfInterview.setContent(content);
+    }
 }
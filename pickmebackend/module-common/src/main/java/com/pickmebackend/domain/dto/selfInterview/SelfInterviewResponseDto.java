@@ -1,11 +1,14 @@
 package com.pickmebackend.domain.dto.selfInterview;
 
-import com.pickmebackend.domain.Account;
-import lombok.*;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.pickmebackend.domain.SelfInterview;
+import com.pickmebackend.domain.dto.account.AccountSummaryDto;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
 
-@Getter @Setter
-@NoArgsConstructor @AllArgsConstructor
-@Builder
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class SelfInterviewResponseDto {
 
     private Long id;
@@ -14,5 +17,17 @@ public class SelfInterviewResponseDto {
 
     private String content;
 
-    private Account account;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private AccountSummaryDto account;
+
+    public SelfInterviewResponseDto(SelfInterview selfInterview) {
+        this(selfInterview, new AccountSummaryDto(selfInterview.getAccount()));
+    }
+
+    public SelfInterviewResponseDto(SelfInterview selfInterview, AccountSummaryDto account) {
+        this.id = selfInterview.getId();
+        this.title = selfInterview.getTitle();
+        this.content = selfInterview.getContent();
+        this.account = account;
+    }
 }
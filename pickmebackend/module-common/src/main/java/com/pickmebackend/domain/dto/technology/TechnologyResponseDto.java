@@ -0,0 +1,24 @@
+package com.pickmebackend.domain.dto.technology;
+
+import com.pickmebackend.domain.Technology;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TechnologyResponseDto {
+
+    private Long id;
+
+    private String name;
+
+    public TechnologyResponseDto(Technology technology) {
+        this(technology.getId(), technology.getName());
+    }
+
+    public TechnologyResponseDto(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+}
@@ -0,0 +1,40 @@
+package com.pickmebackend.domain.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 업로드한 원본과, 원본 옆에 접두사를 붙여 저장하는 썸네일의 종류.
+ */
+@Getter @AllArgsConstructor
+public enum ImageSize {
+    ORIGINAL("original", ""),
+    LIST("list", "list_"),
+    PROFILE("profile", "profile_");
+
+    private final String value;
+
+    private final String prefix;
+
+    public String resolve(String imageName) {
+        return prefix + imageName;
+    }
+
+    /**
+     * 이미지 주소에 이 크기를 고르는 size 파라미터를 붙인다. 썸네일이 없는 이미지는 서버가 원본을 내려주므로 어떤 주소에 붙여도 된다.
+     */
+    public String urlOf(String imageUrl) {
+        if (imageUrl == null || this == ORIGINAL) {
+            return imageUrl;
+        }
+        return imageUrl + (imageUrl.indexOf('?') < 0 ? '?' : '&') + "size=" + value;
+    }
+
+    public static Optional<ImageSize> of(String value) {
+        return Arrays.stream(values())
+                .filter(size -> size.value.equals(value))
+                .findFirst();
+    }
+}
@@ -0,0 +1,5 @@
+package com.pickmebackend.domain.enums;
+
+public enum MailStatus {
+    PENDING, SENDING, SENT, FAILED
+}
@@ -0,0 +1,5 @@
+package com.pickmebackend.domain.enums;
+
+public enum SearchField {
+    NICK_NAME, ONE_LINE_INTRODUCE, ENTERPRISE_NAME, ENTERPRISE_ADDRESS
+}
@@ -0,0 +1,22 @@
+package com.pickmebackend.image;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.nio.file.Path;
+
+/**
+ * 임시 디렉터리에 받아 둔 업로드와, 내용의 SHA-256 으로 정해진 저장 위치.
+ * stored 가 true 면 같은 내용이 이미 저장되어 있어 임시 파일은 버리면 된다.
+ */
+@Getter
+@AllArgsConstructor
+public class ImageBlob {
+
+    private final String name;
+
+    private final Path stagedPath;
+
+    private final Path path;
+
+    private final boolean stored;
+}
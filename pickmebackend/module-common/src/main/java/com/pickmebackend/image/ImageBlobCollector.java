@@ -0,0 +1,129 @@
+package com.pickmebackend.image;
+
+import com.pickmebackend.properties.AccountImageProperties;
+import com.pickmebackend.repository.account.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ScheduledFuture;
+import java.util.stream.Stream;
+
+/**
+ * 어떤 Account.image 도 가리키지 않는 이미지와 그 썸네일을 주기적으로 지운다.
+ * 참조 수는 따로 세어 두지 않고, 지우기 전에 후보 파일 이름을 imageBlob 으로 가진 계정이 있는지 색인으로 한 번에 확인한다.
+ * image.url-prefix 가 바뀌어도 예전 주소로 저장된 이미지를 참조로 보도록 주소가 아닌 파일 이름으로 비교한다.
+ * imageBlob 이 비어 있는 예전 계정이 있으면 지우기 전에 먼저 채운다.
+ * 막 올라와서 아직 계정에 연결되지 않은 이미지를 지우지 않도록 gcGracePeriod 보다 오래된 파일만 보고,
+ * 지우기 직전에 ImageBlobStore 가 수정 시각을 다시 확인한다.
+ * 해시 이름이 아닌 예전 이미지는 기본 이미지처럼 직접 넣어 둔 파일일 수 있으므로 건드리지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageBlobCollector {
+
+    private final ImageBlobStore imageBlobStore;
+
+    private final ImageMetadataCache imageMetadataCache;
+
+    private final AccountRepository accountRepository;
+
+    private final AccountImageProperties accountImageProperties;
+
+    private final TaskScheduler taskScheduler;
+
+    private ScheduledFuture<?> scheduledCollect;
+
+    @PostConstruct
+    public void start() {
+        scheduledCollect = taskScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                collect();
+            } catch (IOException | RuntimeException e) {
+                log.warn("Image garbage collection failed", e);
+            }
+        }, Instant.now().plus(accountImageProperties.getGcInterval()), accountImageProperties.getGcInterval());
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduledCollect.cancel(true);
+    }
+
+    /**
+     * 지운 이미지 수를 반환한다.
+     */
+    public int collect() throws IOException {
+        FileTime threshold = FileTime.fromMillis(System.currentTimeMillis() - accountImageProperties.getGcGracePeriod().toMillis());
+        deleteStaleStagedFiles(threshold);
+        while (accountRepository.fillImageBlobs(accountImageProperties.getGcBatchSize()) == accountImageProperties.getGcBatchSize()) {
+            log.info("Filled image blob names of {} accounts", accountImageProperties.getGcBatchSize());
+        }
+
+        int deleted = 0;
+        List<Path> candidates = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(imageBlobStore.getRootLocation(), 3)) {
+            Iterator<Path> iterator = files
+                    .filter(path -> ImageBlobStore.isBlobName(path.getFileName().toString()))
+                    .iterator();
+            while (iterator.hasNext()) {
+                Path path = iterator.next();
+                if (isOlderThan(path, threshold)) {
+                    candidates.add(path);
+                }
+                if (candidates.size() == accountImageProperties.getGcBatchSize()) {
+                    deleted += sweep(candidates, threshold);
+                    candidates.clear();
+                }
+            }
+        }
+        if (!candidates.isEmpty()) {
+            deleted += sweep(candidates, threshold);
+        }
+        return deleted;
+    }
+
+    private int sweep(List<Path> candidates, FileTime threshold) throws IOException {
+        Set<String> names = new HashSet<>();
+        candidates.forEach(path -> names.add(path.getFileName().toString()));
+        names.removeAll(accountRepository.findImageBlobsIn(names));
+
+        int deleted = 0;
+        for (String name : names) {
+            if (imageBlobStore.deleteIfOlderThan(name, threshold, imageMetadataCache::evict)) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    private void deleteStaleStagedFiles(FileTime threshold) throws IOException {
+        try (Stream<Path> files = Files.list(imageBlobStore.getStagingLocation())) {
+            Iterator<Path> iterator = files.iterator();
+            while (iterator.hasNext()) {
+                Path path = iterator.next();
+                if (isOlderThan(path, threshold)) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+    }
+
+    private boolean isOlderThan(Path path, FileTime threshold) {
+        try {
+            return Files.getLastModifiedTime(path).compareTo(threshold) < 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.pickmebackend.image;
+
+import com.pickmebackend.domain.enums.ImageSize;
+import com.pickmebackend.properties.AccountImageProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * 이미지를 내용의 SHA-256 을 이름으로 하여 저장한다. 같은 이미지를 여러 번 올려도 파일은 하나만 남는다.
+ * 한 디렉터리에 파일이 몰리지 않도록 해시 앞 네 글자로 두 단계 디렉터리를 나눈다. (ab/cd/abcd....png)
+ * 해시 이름이 아닌 예전 이미지는 루트 디렉터리에서 그대로 찾는다.
+ * 같은 내용을 다시 올리는 stage 와 가비지 컬렉션의 deleteIfOlderThan 은 이름별 잠금으로 서로를 기다린다.
+ */
+@Slf4j
+@Component
+public class ImageBlobStore {
+
+    private static final Pattern BLOB_NAME = Pattern.compile("[0-9a-f]{64}\\.(png|jpg|jpeg)");
+
+    private final Path rootLocation;
+
+    private final Path stagingLocation;
+
+    private final Object[] locks = new Object[64];
+
+    public ImageBlobStore(AccountImageProperties accountImageProperties) {
+        this.rootLocation = Paths.get(accountImageProperties.getLocation()).toAbsolutePath().normalize();
+        this.stagingLocation = this.rootLocation.resolve("tmp");
+        try {
+            Files.createDirectories(this.stagingLocation);
+        } catch (Exception e) {
+            log.warn(e.getMessage());
+        }
+        Arrays.setAll(locks, i -> new Object());
+    }
+
+    public static boolean isBlobName(String name) {
+        return BLOB_NAME.matcher(name).matches();
+    }
+
+    /**
+     * 해시 이름의 원본이나 그 썸네일인지 확인한다. 이런 파일은 이름이 내용에서 정해지므로 내용이 바뀌지 않는다.
+     */
+    public static boolean isBlobFileName(String fileName) {
+        return Arrays.stream(ImageSize.values())
+                .anyMatch(size -> fileName.startsWith(size.getPrefix()) && isBlobName(fileName.substring(size.getPrefix().length())));
+    }
+
+    public Path getRootLocation() {
+        return rootLocation;
+    }
+
+    public Path getStagingLocation() {
+        return stagingLocation;
+    }
+
+    /**
+     * 해시 이름이면 나뉜 디렉터리에서, 아니면 루트 디렉터리에서 찾는다.
+     */
+    public Path resolve(String name) {
+        if (isBlobName(name)) {
+            return rootLocation.resolve(name.substring(0, 2)).resolve(name.substring(2, 4)).resolve(name);
+        }
+        return rootLocation.resolve(name).normalize();
+    }
+
+    /**
+     * 업로드를 임시 파일로 받으면서 해시를 계산한다.
+     * 같은 내용이 이미 있으면 수정 시각을 갱신해서, 계정에 연결되기 전에 가비지 컬렉션으로 지워지지 않게 한다.
+     */
+    public ImageBlob stage(InputStream inputStream, String extension) throws IOException {
+        Path stagedPath = stagingLocation.resolve(UUID.randomUUID().toString());
+        MessageDigest digest = sha256();
+        try (DigestInputStream digestInputStream = new DigestInputStream(inputStream, digest)) {
+            Files.copy(digestInputStream, stagedPath);
+        }
+        String name = toHex(digest.digest()) + "." + extension;
+        Path path = resolve(name);
+        boolean stored;
+        synchronized (lockFor(name)) {
+            stored = Files.exists(path);
+            if (stored) {
+                Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+            } else {
+                Files.createDirectories(path.getParent());
+            }
+        }
+        return new ImageBlob(name, stagedPath, path, stored);
+    }
+
+    public void commit(ImageBlob imageBlob) throws IOException {
+        Files.move(imageBlob.getStagedPath(), imageBlob.getPath(), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public void discard(ImageBlob imageBlob) throws IOException {
+        Files.deleteIfExists(imageBlob.getStagedPath());
+    }
+
+    /**
+     * 수정 시각을 다시 읽어 threshold 보다 오래됐을 때만 원본과 썸네일을 지운다.
+     * 참조 여부를 확인하는 사이에 같은 내용이 다시 올라와 stage 가 수정 시각을 갱신했다면 지우지 않는다.
+     */
+    public boolean deleteIfOlderThan(String name, FileTime threshold, Consumer<Path> onDelete) throws IOException {
+        Path path = resolve(name);
+        synchronized (lockFor(name)) {
+            if (Files.getLastModifiedTime(path).compareTo(threshold) >= 0) {
+                return false;
+            }
+            for (ImageSize imageSize : ImageSize.values()) {
+                Path file = path.resolveSibling(imageSize.resolve(name));
+                Files.deleteIfExists(file);
+                onDelete.accept(file);
+            }
+        }
+        return true;
+    }
+
+    private Object lockFor(String name) {
+        return locks[(name.hashCode() & Integer.MAX_VALUE) % locks.length];
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+}
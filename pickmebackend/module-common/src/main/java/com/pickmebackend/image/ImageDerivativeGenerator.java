@@ -0,0 +1,172 @@
+package com.pickmebackend.image;
+
+import com.pickmebackend.domain.enums.ImageSize;
+import com.pickmebackend.properties.AccountImageProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드한 이미지를 한 번만 디코딩하고, 목록용과 프로필용 썸네일을 정해진 수의 작업자 스레드에서 나누어 만든다.
+ * 작업 큐가 가득 차면 업로드 요청 스레드가 직접 만들어서, 업로드가 몰려도 메모리에 쌓이는 이미지 수가 제한된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageDerivativeGenerator {
+
+    private static final ImageSize[] DERIVATIVES = {ImageSize.LIST, ImageSize.PROFILE};
+
+    private final AccountImageProperties accountImageProperties;
+
+    private final ImageBlobStore imageBlobStore;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        int workers = accountImageProperties.getThumbnailWorkers();
+        executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(accountImageProperties.getThumbnailQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-derivative-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 헤더에서 크기를 먼저 읽어 너무 큰 이미지는 디코딩하지 않는다.
+     * 읽을 수 없는 이미지이거나 크기 제한을 넘으면 빈 Optional 을 반환한다.
+     */
+    public Optional<BufferedImage> decode(InputStream inputStream) throws IOException {
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            if (imageInputStream == null) {
+                return Optional.empty();
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+            if (!readers.hasNext()) {
+                return Optional.empty();
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if (width > accountImageProperties.getMaxDimension() || height > accountImageProperties.getMaxDimension()
+                        || (long) width * height > accountImageProperties.getMaxPixels()) {
+                    return Optional.empty();
+                }
+                return Optional.of(reader.read(0));
+            } catch (IOException | RuntimeException e) {
+                return Optional.empty();
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 디코딩한 이미지를 target 에 다시 인코딩해, 공개로 내려주는 원본에 EXIF 나 GPS 같은 메타데이터가 남지 않게 한다.
+     */
+    public void writeOriginal(BufferedImage image, Path target, String format) throws IOException {
+        try (OutputStream outputStream = Files.newOutputStream(target)) {
+            if (!ImageIO.write(image, format, outputStream)) {
+                throw new IOException("No image writer for " + format);
+            }
+        }
+    }
+
+    /**
+     * 원본과 같은 디렉터리에 크기별 썸네일을 쓴다. 다시 인코딩하므로 EXIF 같은 메타데이터는 썸네일에 남지 않는다.
+     * 같은 이미지가 동시에 올라와도 반쯤 쓴 파일이 보이지 않도록 임시 파일에 쓴 뒤 옮긴다.
+     */
+    public void writeDerivatives(BufferedImage image, Path original, String format) throws IOException {
+        List<Future<?>> futures = new ArrayList<>();
+        for (ImageSize imageSize : DERIVATIVES) {
+            Path target = original.resolveSibling(imageSize.resolve(original.getFileName().toString()));
+            futures.add(executor.submit(() -> {
+                BufferedImage thumbnail = thumbnail(image, accountImageProperties.sizeOf(imageSize), hasAlpha(format));
+                Path stagedPath = imageBlobStore.getStagingLocation().resolve(UUID.randomUUID().toString());
+                try {
+                    ImageIO.write(thumbnail, format, stagedPath.toFile());
+                    Files.move(stagedPath, target, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(stagedPath);
+                }
+                return null;
+            }));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to write thumbnails of " + original.getFileName(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing thumbnails of " + original.getFileName(), e);
+        }
+    }
+
+    /**
+     * 가운데를 정사각형으로 잘라 size 로 줄인다. 한 번에 많이 줄이면 계단 현상이 생기므로 절반씩 나누어 줄이고, 원본보다 키우지는 않는다.
+     */
+    static BufferedImage thumbnail(BufferedImage source, int size, boolean alpha) {
+        int side = Math.min(source.getWidth(), source.getHeight());
+        BufferedImage current = source.getSubimage((source.getWidth() - side) / 2, (source.getHeight() - side) / 2, side, side);
+        int target = Math.min(size, side);
+        do {
+            int next = Math.max(target, current.getWidth() / 2);
+            BufferedImage scaled = new BufferedImage(next, next, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = scaled.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.drawImage(current, 0, 0, next, next, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = scaled;
+        } while (current.getWidth() > target);
+        return current;
+    }
+
+    private static boolean hasAlpha(String format) {
+        return "png".equals(format);
+    }
+}
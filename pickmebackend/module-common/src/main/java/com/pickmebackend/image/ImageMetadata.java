@@ -0,0 +1,19 @@
+package com.pickmebackend.image;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+import java.nio.file.Path;
+
+@Getter
+@AllArgsConstructor
+public class ImageMetadata {
+
+    private final Path path;
+
+    private final MediaType contentType;
+
+    private final long contentLength;
+
+    private final String eTag;
+}
@@ -0,0 +1,68 @@
+package com.pickmebackend.image;
+
+import com.pickmebackend.properties.AccountImageProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 이미지 파일의 content type, 크기, ETag 를 최근에 쓴 순서로 일정 개수만 기억한다.
+ * 한 번 쓴 파일은 바뀌지 않으므로, 파일이 지워질 때만 비우면 된다.
+ * 해시 이름의 파일은 이름이 곧 내용이므로 ETag 도 이름으로 만든다. 같은 내용을 다시 올려 수정 시각이 바뀌어도 ETag 는 그대로다.
+ * 없는 파일은 기억하지 않아서 나중에 생긴 썸네일도 바로 보인다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageMetadataCache {
+
+    private final AccountImageProperties accountImageProperties;
+
+    private final Map<Path, ImageMetadata> cache = Collections.synchronizedMap(new LinkedHashMap<Path, ImageMetadata>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, ImageMetadata> eldest) {
+            return size() > accountImageProperties.getMetadataCacheSize();
+        }
+    });
+
+    public Optional<ImageMetadata> get(Path path) {
+        ImageMetadata metadata = cache.get(path);
+        if (metadata != null) {
+            return Optional.of(metadata);
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return Optional.empty();
+            }
+            MediaType contentType = MediaTypeFactory.getMediaType(path.getFileName().toString())
+                    .orElse(MediaType.APPLICATION_OCTET_STREAM);
+            metadata = new ImageMetadata(path, contentType, attributes.size(), eTag(path, attributes));
+            cache.put(path, metadata);
+            return Optional.of(metadata);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    public void evict(Path path) {
+        cache.remove(path);
+    }
+
+    private static String eTag(Path path, BasicFileAttributes attributes) {
+        String fileName = path.getFileName().toString();
+        if (ImageBlobStore.isBlobFileName(fileName)) {
+            return "\"" + fileName + "\"";
+        }
+        return "\"" + Long.toHexString(attributes.size()) + "-" + Long.toHexString(attributes.lastModifiedTime().toMillis()) + "\"";
+    }
+}
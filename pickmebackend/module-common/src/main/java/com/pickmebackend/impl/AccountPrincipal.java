@@ -0,0 +1,45 @@
+package com.pickmebackend.impl;
+
+import com.pickmebackend.domain.Account;
+import com.pickmebackend.domain.enums.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * passwordVersion 은 Account 에 저장된 비밀번호 버전으로, 토큰에 담긴 값과 비교해 비밀번호를 바꾸기 전에 발급된 토큰을 거른다.
+ */
+@Getter
+@AllArgsConstructor
+public class AccountPrincipal {
+
+    private final Long id;
+
+    private final String email;
+
+    private final UserRole userRole;
+
+    private final int passwordVersion;
+
+    static AccountPrincipal of(Account account) {
+        return new AccountPrincipal(account.getId(), account.getEmail(), account.getUserRole(), account.getPasswordVersion());
+    }
+
+    boolean matches(Long id, Integer passwordVersion) {
+        return (id == null || id.equals(this.id)) && passwordVersion != null && passwordVersion == this.passwordVersion;
+    }
+
+    /**
+     * 버전은 줄어들지 않으므로, 같은 유저의 더 낮은 버전 토큰은 다시 읽어 볼 필요 없이 거절할 수 있다.
+     */
+    boolean revokes(Long id, Integer passwordVersion) {
+        return (id == null || id.equals(this.id)) && passwordVersion != null && passwordVersion < this.passwordVersion;
+    }
+
+    Account toAccount() {
+        return Account.builder()
+                .id(id)
+                .email(email)
+                .userRole(userRole)
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.pickmebackend.impl;
+
+import com.pickmebackend.common.ExpiringLruCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * JwtFilter 가 매 요청마다 Account 를 조회하지 않도록 email 별 AccountPrincipal 을 보관한다.
+ * 최대 MAX_SIZE 개까지 LRU 로 유지하고, TTL 이 지난 항목은 다시 조회한다.
+ */
+@Component
+public class AccountPrincipalCache {
+
+    private static final int MAX_SIZE = 10_000;
+
+    /**
+     * 다른 서버에서 비밀번호를 바꾼 경우, 이 서버가 이전 토큰을 받아들일 수 있는 최대 시간이기도 하다.
+     */
+    private static final long TTL_MILLIS = Duration.ofMinutes(1).toMillis();
+
+    private final ExpiringLruCache<String, AccountPrincipal> cache = new ExpiringLruCache<>(MAX_SIZE);
+
+    public AccountPrincipal get(String email, Function<String, AccountPrincipal> loader) {
+        AccountPrincipal principal = cache.get(email);
+        if (principal == null) {
+            principal = loader.apply(email);
+            cache.put(email, principal, System.currentTimeMillis() + TTL_MILLIS);
+        }
+        return principal;
+    }
+
+    /**
+     * 기존 항목을 비우지 않고 새로 읽은 값으로 바꾼다.
+     */
+    public AccountPrincipal refresh(String email, Function<String, AccountPrincipal> loader) {
+        AccountPrincipal principal = loader.apply(email);
+        cache.put(email, principal, System.currentTimeMillis() + TTL_MILLIS);
+        return principal;
+    }
+
+    /**
+     * 바로 비우고, 트랜잭션 안이면 커밋된 뒤에 한 번 더 비운다.
+     * 커밋 전에 다른 요청이 이전 값을 읽어 다시 채운 항목이 남지 않게 하기 위해서다.
+     */
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        cache.evict(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evict(email);
+                }
+            });
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.pickmebackend.impl;
 
 import com.pickmebackend.domain.Account;
+import com.pickmebackend.domain.enums.UserRole;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -15,13 +16,18 @@ class UserDetailsImpl extends User {
     private Account account;
 
     UserDetailsImpl(Account account) {
-        super(account.getEmail(), account.getPassword(), authorities(account));
+        super(account.getEmail(), account.getPassword(), authorities(account.getUserRole()));
         this.account = account;
     }
 
-    private static Collection<? extends GrantedAuthority> authorities(Account account) {
+    UserDetailsImpl(AccountPrincipal principal) {
+        super(principal.getEmail(), "", authorities(principal.getUserRole()));
+        this.account = principal.toAccount();
+    }
+
+    private static Collection<? extends GrantedAuthority> authorities(UserRole userRole) {
         List<GrantedAuthority> grantedAuthorities = new ArrayList<>();
-        grantedAuthorities.add(new SimpleGrantedAuthority("ROLE_" + account.getUserRole().name()));
+        grantedAuthorities.add(new SimpleGrantedAuthority("ROLE_" + userRole.name()));
         return grantedAuthorities;
     }
 }
@@ -1,5 +1,6 @@
 package com.pickmebackend.impl;
 
+import com.pickmebackend.common.ExpiringLruCache;
 import com.pickmebackend.domain.Account;
 import com.pickmebackend.repository.account.AccountRepository;
 import lombok.RequiredArgsConstructor;
@@ -7,17 +8,59 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import java.time.Duration;
 
 @Service
 @RequiredArgsConstructor
 public class UserDetailsServiceImpl  implements UserDetailsService {
 
+    private static final int REJECTED_TOKEN_CACHE_SIZE = 10_000;
+
+    private static final long REJECTED_TOKEN_TTL_MILLIS = Duration.ofMinutes(1).toMillis();
+
     private final AccountRepository accountRepository;
 
+    private final AccountPrincipalCache accountPrincipalCache;
+
+    private final ExpiringLruCache<String, Boolean> rejectedTokens = new ExpiringLruCache<>(REJECTED_TOKEN_CACHE_SIZE);
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         Account account = this.accountRepository.findByEmail(username).orElseThrow(() -> new UsernameNotFoundException(username));
 
         return new UserDetailsImpl(account);
     }
+
+    /**
+     * 토큰의 비밀번호 버전이 캐시된 값보다 낮으면 비밀번호를 바꾸기 전에 발급된 토큰이므로 바로 null 을 반환한다.
+     * 그 밖에 id 나 버전이 다르면 캐시가 낡았을 수 있으므로 한 번 다시 읽고, 그래도 다르면 탈퇴 전에 발급된 토큰 등으로 보고 null 을 반환한다.
+     * 거절한 토큰은 잠시 기억해서, 같은 토큰으로 오는 요청마다 DB 를 다시 읽지 않는다.
+     */
+    public UserDetails loadPrincipalByUsername(String username, Long id, Integer passwordVersion) throws UsernameNotFoundException {
+        AccountPrincipal principal = accountPrincipalCache.get(username, this::loadPrincipal);
+        if (principal.matches(id, passwordVersion)) {
+            return new UserDetailsImpl(principal);
+        }
+        if (principal.revokes(id, passwordVersion)) {
+            return null;
+        }
+
+        String tokenKey = username + ":" + id + ":" + passwordVersion;
+        if (rejectedTokens.get(tokenKey) != null) {
+            return null;
+        }
+        principal = accountPrincipalCache.refresh(username, this::loadPrincipal);
+        if (!principal.matches(id, passwordVersion)) {
+            rejectedTokens.put(tokenKey, Boolean.TRUE, System.currentTimeMillis() + REJECTED_TOKEN_TTL_MILLIS);
+            return null;
+        }
+
+        return new UserDetailsImpl(principal);
+    }
+
+    private AccountPrincipal loadPrincipal(String username) {
+        Account account = this.accountRepository.findByEmail(username).orElseThrow(() -> new UsernameNotFoundException(username));
+
+        return AccountPrincipal.of(account);
+    }
 }
@@ -0,0 +1,50 @@
+package com.pickmebackend.mail;
+
+import com.pickmebackend.domain.MailOutbox;
+import com.pickmebackend.repository.MailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 메일을 outbox 에 저장만 하고 돌아간다. 실제 발송은 트랜잭션이 커밋된 뒤 MailOutboxWorker 가 맡는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MailOutboxService {
+
+    private final MailOutboxRepository mailOutboxRepository;
+
+    private final MailOutboxWorker mailOutboxWorker;
+
+    @Transactional
+    public MailOutbox enqueue(String recipient, String subject, String content) {
+        MailOutbox mailOutbox = mailOutboxRepository.save(MailOutbox.of(recipient, subject, content));
+        wakeUpAfterCommit();
+        return mailOutbox;
+    }
+
+    /**
+     * 여러 메일을 한 번의 batch insert 로 저장한다. 작업자는 이 메일들을 batch-size 만큼씩 하나의 SMTP 연결로 보낸다.
+     */
+    @Transactional
+    public List<MailOutbox> enqueueAll(Collection<MailOutbox> mailOutboxes) {
+        List<MailOutbox> saved = mailOutboxRepository.saveAll(mailOutboxes);
+        wakeUpAfterCommit();
+        return saved;
+    }
+
+    private void wakeUpAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                mailOutboxWorker.wakeUp();
+            }
+        });
+    }
+}
@@ -0,0 +1,198 @@
+package com.pickmebackend.mail;
+
+import com.pickmebackend.domain.MailOutbox;
+import com.pickmebackend.domain.enums.MailStatus;
+import com.pickmebackend.properties.MailOutboxProperties;
+import com.pickmebackend.repository.MailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * outbox 에 쌓인 메일을 정해진 수의 작업자 스레드로 보낸다.
+ * 한 번에 가져온 메일은 하나의 SMTP 연결로 보내고, 실패한 메일은 지수적으로 늘어나는 간격을 두고 다시 보낸다.
+ * 주기적인 조회는 다른 인스턴스가 남긴 메일이나 lease 가 끝난 메일을 위한 것이고, 평소에는 enqueue 와 재시도 시각에 맞춰 깨어난다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailOutboxWorker {
+
+    private static final List<MailStatus> CLAIMABLE = Arrays.asList(MailStatus.PENDING, MailStatus.SENDING);
+
+    private final MailOutboxRepository mailOutboxRepository;
+
+    private final JavaMailSender javaMailSender;
+
+    private final MailOutboxProperties mailOutboxProperties;
+
+    private final AtomicInteger runningDrains = new AtomicInteger();
+
+    private ScheduledExecutorService executor;
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newScheduledThreadPool(mailOutboxProperties.getWorkers(), runnable -> {
+            Thread thread = new Thread(runnable, "mail-outbox-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long pollInterval = mailOutboxProperties.getPollInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::wakeUp, 0, pollInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 작업자 수보다 많은 drain 은 띄우지 않는다. 이미 돌고 있는 drain 이 남은 메일까지 가져간다.
+     */
+    public void wakeUp() {
+        if (runningDrains.incrementAndGet() > mailOutboxProperties.getWorkers()) {
+            runningDrains.decrementAndGet();
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    drain();
+                } catch (RuntimeException e) {
+                    log.warn("Mail outbox drain failed", e);
+                } finally {
+                    runningDrains.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            runningDrains.decrementAndGet();
+        }
+    }
+
+    void drain() {
+        List<MailOutbox> batch;
+        do {
+            batch = claim();
+            if (!batch.isEmpty()) {
+                send(batch);
+            }
+        } while (batch.size() == mailOutboxProperties.getBatchSize() && !executor.isShutdown());
+    }
+
+    private List<MailOutbox> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = mailOutboxRepository.findDueIds(CLAIMABLE, now, PageRequest.of(0, mailOutboxProperties.getBatchSize()));
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String token = UUID.randomUUID().toString();
+        LocalDateTime leaseUntil = now.plus(mailOutboxProperties.getLease());
+        if (mailOutboxRepository.claim(ids, CLAIMABLE, now, token, leaseUntil) == 0) {
+            return Collections.emptyList();
+        }
+        return mailOutboxRepository.findAllByClaimTokenOrderById(token);
+    }
+
+    private void send(List<MailOutbox> batch) {
+        Map<MimeMessage, MailOutbox> messages = new LinkedHashMap<>();
+        for (MailOutbox mailOutbox : batch) {
+            try {
+                messages.put(toMimeMessage(mailOutbox), mailOutbox);
+            } catch (MessagingException e) {
+                retry(mailOutbox, e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Map<Object, Exception> failedMessages;
+        try {
+            javaMailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            failedMessages = Collections.emptyMap();
+        } catch (MailSendException e) {
+            failedMessages = e.getFailedMessages().isEmpty() ? failAll(messages.keySet(), e) : e.getFailedMessages();
+        } catch (MailException e) {
+            failedMessages = failAll(messages.keySet(), e);
+        }
+
+        List<Long> sentIds = new ArrayList<>();
+        for (Map.Entry<MimeMessage, MailOutbox> entry : messages.entrySet()) {
+            Exception failure = failedMessages.get(entry.getKey());
+            if (failure == null) {
+                sentIds.add(entry.getValue().getId());
+            } else {
+                retry(entry.getValue(), failure);
+            }
+        }
+        if (!sentIds.isEmpty()) {
+            mailOutboxRepository.markSent(sentIds, LocalDateTime.now());
+        }
+    }
+
+    private MimeMessage toMimeMessage(MailOutbox mailOutbox) throws MessagingException {
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, "UTF-8");
+        mimeMessageHelper.setTo(mailOutbox.getRecipient());
+        mimeMessageHelper.setSubject(mailOutbox.getSubject());
+        mimeMessageHelper.setText(mailOutbox.getContent(), true);
+        return mimeMessage;
+    }
+
+    private void retry(MailOutbox mailOutbox, Exception failure) {
+        int attempts = mailOutbox.getAttempts() + 1;
+        String lastError = Objects.toString(failure.getMessage(), failure.getClass().getName());
+        if (lastError.length() > 1000) {
+            lastError = lastError.substring(0, 1000);
+        }
+
+        if (attempts >= mailOutboxProperties.getMaxAttempts()) {
+            log.warn("Giving up mail outbox {} to {} after {} attempts: {}", mailOutbox.getId(), mailOutbox.getRecipient(), attempts, lastError);
+            mailOutboxRepository.reschedule(mailOutbox.getId(), MailStatus.FAILED, attempts, LocalDateTime.now(), lastError);
+            return;
+        }
+
+        Duration backoff = backoff(attempts);
+        mailOutboxRepository.reschedule(mailOutbox.getId(), MailStatus.PENDING, attempts, LocalDateTime.now().plus(backoff), lastError);
+        try {
+            executor.schedule(this::wakeUp, backoff.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ignored) {
+            // 종료 중이면 다음 기동 시 주기적인 조회가 가져간다.
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration initialBackoff = mailOutboxProperties.getInitialBackoff();
+        Duration maxBackoff = mailOutboxProperties.getMaxBackoff();
+        int shift = Math.min(attempts - 1, 20);
+        Duration backoff = initialBackoff.multipliedBy(1L << shift);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private static Map<Object, Exception> failAll(Collection<MimeMessage> messages, Exception failure) {
+        return messages.stream().collect(Collectors.toMap(message -> message, message -> failure));
+    }
+}
@@ -0,0 +1,59 @@
+package com.pickmebackend.mail;
+
+import com.pickmebackend.domain.Account;
+import com.pickmebackend.domain.Enterprise;
+import com.pickmebackend.domain.dto.enterprise.SuggestionDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.io.StringWriter;
+
+/**
+ * 메일 본문을 만든다. 파싱된 템플릿은 TemplateEngine 의 템플릿 캐시(spring.thymeleaf.cache, 기본값 true)가 들고 있고,
+ * 렌더링에 쓰는 버퍼는 스레드마다 하나를 재사용한다. TemplateEngine 은 스레드에 안전하므로 여러 스레드에서 동시에 불러도 된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MailTemplateRenderer {
+
+    private static final String VERIFICATION_CODE_TEMPLATE = "html/code.html";
+
+    private static final String SUGGESTION_TEMPLATE = "html/email.html";
+
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private final TemplateEngine templateEngine;
+
+    private final ThreadLocal<StringWriter> buffers = ThreadLocal.withInitial(() -> new StringWriter(INITIAL_BUFFER_SIZE));
+
+    public String renderVerificationCode(String code) {
+        Context context = new Context();
+        context.setVariable("code", code);
+        return render(VERIFICATION_CODE_TEMPLATE, context);
+    }
+
+    public String renderSuggestion(Enterprise enterprise, Account account) {
+        Context context = new Context();
+        context.setVariable("enterprise", new SuggestionDto(enterprise, account));
+        return render(SUGGESTION_TEMPLATE, context);
+    }
+
+    private String render(String template, Context context) {
+        StringWriter writer = buffers.get();
+        try {
+            templateEngine.process(template, context, writer);
+            return writer.toString();
+        } finally {
+            StringBuffer buffer = writer.getBuffer();
+            if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+                buffers.remove();
+            } else {
+                buffer.setLength(0);
+            }
+        }
+    }
+}
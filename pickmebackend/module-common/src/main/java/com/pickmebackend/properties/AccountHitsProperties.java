@@ -0,0 +1,21 @@
+package com.pickmebackend.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "account-hits")
+@Component
+@Getter @Setter
+public class AccountHitsProperties {
+
+    private Duration flushInterval = Duration.ofSeconds(5);
+
+    private Duration viewWindow = Duration.ofMinutes(30);
+
+    private long expectedViews = 1_000_000L;
+
+    private double viewFalsePositiveRate = 0.01;
+}
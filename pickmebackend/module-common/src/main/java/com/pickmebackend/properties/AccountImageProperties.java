@@ -1,9 +1,11 @@
 package com.pickmebackend.properties;
 
+import com.pickmebackend.domain.enums.ImageSize;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
+import java.time.Duration;
 
 @ConfigurationProperties(prefix = "image")
 @Component
@@ -11,4 +13,30 @@ import org.springframework.stereotype.Component;
 public class AccountImageProperties {
 
     private String location;
+
+    private int listSize = 96;
+
+    private int profileSize = 320;
+
+    private int maxDimension = 8000;
+
+    private long maxPixels = 40_000_000L;
+
+    private int thumbnailWorkers = 2;
+
+    private int thumbnailQueueCapacity = 32;
+
+    private int metadataCacheSize = 10_000;
+
+    private String urlPrefix = "https://pickme-back.ga:8083/api/images/";
+
+    private Duration gcInterval = Duration.ofHours(1);
+
+    private Duration gcGracePeriod = Duration.ofHours(1);
+
+    private int gcBatchSize = 500;
+
+    public int sizeOf(ImageSize imageSize) {
+        return imageSize == ImageSize.LIST ? listSize : profileSize;
+    }
 }
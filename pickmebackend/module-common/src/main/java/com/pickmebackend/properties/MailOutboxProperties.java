@@ -0,0 +1,27 @@
+package com.pickmebackend.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "mail-outbox")
+@Component
+@Getter @Setter
+public class MailOutboxProperties {
+
+    private int workers = 2;
+
+    private int batchSize = 20;
+
+    private int maxAttempts = 5;
+
+    private Duration initialBackoff = Duration.ofSeconds(5);
+
+    private Duration maxBackoff = Duration.ofMinutes(10);
+
+    private Duration lease = Duration.ofMinutes(5);
+
+    private Duration pollInterval = Duration.ofMinutes(1);
+}
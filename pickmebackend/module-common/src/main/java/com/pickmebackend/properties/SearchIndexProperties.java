@@ -0,0 +1,15 @@
+package com.pickmebackend.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "search-index")
+@Component
+@Getter @Setter
+public class SearchIndexProperties {
+
+    private Duration reconcileInterval = Duration.ofHours(1);
+}
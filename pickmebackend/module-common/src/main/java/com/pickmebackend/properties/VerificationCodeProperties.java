@@ -0,0 +1,38 @@
+package com.pickmebackend.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "verification-code")
+@Component
+@Getter @Setter
+public class VerificationCodeProperties {
+
+    /**
+     * jpa 또는 memory. 인스턴스가 여러 대면 jpa 를 써야 다른 인스턴스에서 보낸 인증 번호도 확인할 수 있다.
+     */
+    private String store = "jpa";
+
+    private Duration ttl = Duration.ofMinutes(10);
+
+    private Duration sweepInterval = Duration.ofMinutes(1);
+
+    private int emailCapacity = 3;
+
+    private Duration emailRefillInterval = Duration.ofMinutes(1);
+
+    private int ipCapacity = 10;
+
+    private Duration ipRefillInterval = Duration.ofSeconds(10);
+
+    /**
+     * IP 별 제한은 요청의 원격 주소를 키로 쓰므로, 프록시 뒤에서는 모든 클라이언트가 프록시 주소 하나를 나눠 쓰게 된다.
+     * server.forward-headers-strategy 를 설정해 원격 주소를 클라이언트 주소로 바꾸거나,
+     * 앞단 프록시가 클라이언트 주소를 덧붙이는 헤더 이름(X-Forwarded-For 등)을 여기에 지정한다.
+     * 프록시를 거치지 않고 들어올 수 있는 서버에서는 헤더를 꾸며 제한을 피할 수 있으므로 비워 둔다.
+     */
+    private String clientIpHeader;
+}
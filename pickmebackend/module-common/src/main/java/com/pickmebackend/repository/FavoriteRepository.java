@@ -0,0 +1,27 @@
+package com.pickmebackend.repository;
+
+import com.pickmebackend.domain.Favorite;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface FavoriteRepository extends JpaRepository<Favorite, Long>, FavoriteRepositoryCustom {
+
+    boolean existsByFromAccount_IdAndToAccount_Id(Long fromAccountId, Long toAccountId);
+
+    @Modifying
+    @Query("delete from Favorite f where f.fromAccount.id = :fromAccountId and f.toAccount.id = :toAccountId")
+    int deleteByFromAndTo(@Param("fromAccountId") Long fromAccountId, @Param("toAccountId") Long toAccountId);
+
+    /**
+     * 탈퇴하는 유저가 누른 좋아요를 받은 유저들의 좋아요 수를 되돌린다.
+     */
+    @Modifying
+    @Query("update Account a set a.favoriteCount = a.favoriteCount - 1 where a.id in (select f.toAccount.id from Favorite f where f.fromAccount.id = :accountId)")
+    int decrementFavoritedBy(@Param("accountId") Long accountId);
+
+    @Modifying
+    @Query("delete from Favorite f where f.fromAccount.id = :accountId or f.toAccount.id = :accountId")
+    int deleteAllOf(@Param("accountId") Long accountId);
+}
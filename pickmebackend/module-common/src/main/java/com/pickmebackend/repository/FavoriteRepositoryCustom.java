@@ -0,0 +1,9 @@
+package com.pickmebackend.repository;
+
+import com.pickmebackend.domain.dto.account.AccountListResponseDto;
+import org.springframework.data.domain.Slice;
+import java.util.Optional;
+
+public interface FavoriteRepositoryCustom {
+    Optional<Slice<AccountListResponseDto>> findFavoriters(Long accountId, Long cursor, int size);
+}
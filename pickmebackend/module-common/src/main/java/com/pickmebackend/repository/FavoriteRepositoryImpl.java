@@ -0,0 +1,67 @@
+package com.pickmebackend.repository;
+
+import com.pickmebackend.domain.Favorite;
+import com.pickmebackend.domain.QAccount;
+import com.pickmebackend.domain.dto.account.AccountListResponseDto;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import static com.pickmebackend.domain.QAccount.account;
+import static com.pickmebackend.domain.QFavorite.favorite;
+
+@Repository
+public class FavoriteRepositoryImpl extends QuerydslRepositorySupport implements FavoriteRepositoryCustom {
+
+    private static final QAccount favoriter = new QAccount("favoriter");
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    public FavoriteRepositoryImpl(JPAQueryFactory jpaQueryFactory) {
+        super(Favorite.class);
+        this.jpaQueryFactory = jpaQueryFactory;
+    }
+
+    /**
+     * 좋아요를 누른 유저를 id 내림차순으로 cursor 다음부터 size 명 조회한다.
+     * favorite 의 (to_account_id, from_account_id) 색인만 따라가고 id, email, image 만 읽는다.
+     * 대상 유저를 기준으로 left join 하므로 유저가 없을 때만 빈 Optional 을 반환하고, 쿼리는 한 번만 실행된다.
+     */
+    @Override
+    public Optional<Slice<AccountListResponseDto>> findFavoriters(Long accountId, Long cursor, int size) {
+        List<AccountListResponseDto> rows = jpaQueryFactory
+                .select(Projections.constructor(AccountListResponseDto.class, favoriter.id, favoriter.email, favoriter.image))
+                .from(account)
+                .leftJoin(favorite).on(favorite.toAccount.eq(account).and(afterCursor(cursor)))
+                .leftJoin(favorite.fromAccount, favoriter)
+                .where(account.id.eq(accountId))
+                .orderBy(favorite.fromAccount.id.desc())
+                .limit(size + 1)
+                .fetch();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<AccountListResponseDto> favoriters = rows.stream()
+                .filter(row -> row.getId() != null)
+                .collect(Collectors.toList());
+        boolean hasNext = favoriters.size() > size;
+        if (hasNext) {
+            favoriters = favoriters.subList(0, size);
+        }
+        return Optional.of(new SliceImpl<>(favoriters, PageRequest.of(0, size), hasNext));
+    }
+
+    private BooleanExpression afterCursor(Long cursor) {
+        if (cursor == null)
+            return null;
+        return favorite.fromAccount.id.lt(cursor);
+    }
+}
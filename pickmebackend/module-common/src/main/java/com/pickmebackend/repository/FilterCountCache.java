@@ -0,0 +1,47 @@
+package com.pickmebackend.repository;
+
+import com.pickmebackend.common.ExpiringLruCache;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 필터링 된 유저 / 기업 담당자 목록의 전체 개수를 정규화한 필터 조건별로 잠시 보관한다.
+ * 가입, 수정, 탈퇴 시 해당 목록의 캐시를 모두 비우고, 그 외의 변경은 TTL 안에서 근사값을 허용한다.
+ */
+@Component
+public class FilterCountCache {
+
+    private static final int MAX_SIZE = 1_000;
+
+    private static final long TTL_MILLIS = Duration.ofSeconds(30).toMillis();
+
+    private final ExpiringLruCache<String, Long> accountCounts = new ExpiringLruCache<>(MAX_SIZE);
+
+    private final ExpiringLruCache<String, Long> enterpriseCounts = new ExpiringLruCache<>(MAX_SIZE);
+
+    public long getAccountCount(String filterKey, LongSupplier counter) {
+        return get(accountCounts, filterKey, counter);
+    }
+
+    public long getEnterpriseCount(String filterKey, LongSupplier counter) {
+        return get(enterpriseCounts, filterKey, counter);
+    }
+
+    public void evictAccountCounts() {
+        accountCounts.clear();
+    }
+
+    public void evictEnterpriseCounts() {
+        enterpriseCounts.clear();
+    }
+
+    private long get(ExpiringLruCache<String, Long> cache, String filterKey, LongSupplier counter) {
+        Long count = cache.get(filterKey);
+        if (count == null) {
+            count = counter.getAsLong();
+            cache.put(filterKey, count, System.currentTimeMillis() + TTL_MILLIS);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,29 @@
+package com.pickmebackend.repository;
+
+import com.pickmebackend.domain.Account;
+import com.pickmebackend.domain.enums.UserRole;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+
+/**
+ * 유저가 추가되거나 삭제되면 해당 목록의 개수 캐시를 비운다.
+ * 필터 조건에 쓰이는 값의 수정은 서비스에서 직접 비운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FilterCountListener {
+
+    private final FilterCountCache filterCountCache;
+
+    @PostPersist
+    @PostRemove
+    public void evictCounts(Account account) {
+        if (account.getUserRole() == UserRole.ENTERPRISE) {
+            filterCountCache.evictEnterpriseCounts();
+        } else {
+            filterCountCache.evictAccountCounts();
+        }
+    }
+}
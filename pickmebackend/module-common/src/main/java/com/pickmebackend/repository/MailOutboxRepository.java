@@ -0,0 +1,44 @@
+package com.pickmebackend.repository;
+
+import com.pickmebackend.domain.MailOutbox;
+import com.pickmebackend.domain.enums.MailStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    @Query("select m.id from MailOutbox m where m.status in :statuses and m.nextAttemptAt <= :now order by m.id")
+    List<Long> findDueIds(@Param("statuses") Collection<MailStatus> statuses, @Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 다른 작업자가 먼저 가져가지 않은 메일만 claimToken 으로 표시하고, leaseUntil 이 지나도록 끝나지 않으면 다시 가져갈 수 있게 한다.
+     */
+    @Transactional
+    @Modifying
+    @Query("update MailOutbox m set m.status = com.pickmebackend.domain.enums.MailStatus.SENDING, m.claimToken = :token, m.nextAttemptAt = :leaseUntil " +
+            "where m.id in :ids and m.status in :statuses and m.nextAttemptAt <= :now")
+    int claim(@Param("ids") Collection<Long> ids, @Param("statuses") Collection<MailStatus> statuses, @Param("now") LocalDateTime now,
+              @Param("token") String token, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    List<MailOutbox> findAllByClaimTokenOrderById(String claimToken);
+
+    @Transactional
+    @Modifying
+    @Query("update MailOutbox m set m.status = com.pickmebackend.domain.enums.MailStatus.SENT, m.claimToken = null, m.sentAt = :sentAt " +
+            "where m.id in :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    @Transactional
+    @Modifying
+    @Query("update MailOutbox m set m.status = :status, m.attempts = :attempts, m.nextAttemptAt = :nextAttemptAt, m.lastError = :lastError, m.claimToken = null " +
+            "where m.id = :id")
+    int reschedule(@Param("id") Long id, @Param("status") MailStatus status, @Param("attempts") int attempts,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("lastError") String lastError);
+}
@@ -0,0 +1,25 @@
+package com.pickmebackend.repository;
+
+import com.pickmebackend.domain.SearchToken;
+import com.pickmebackend.domain.enums.SearchField;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
+import java.util.List;
+
+public interface SearchTokenRepository extends JpaRepository<SearchToken, Long> {
+
+    List<SearchToken> findAllByFieldAndOwnerId(SearchField field, Long ownerId);
+
+    List<SearchToken> findAllByFieldInAndOwnerIdIn(Collection<SearchField> fields, Collection<Long> ownerIds);
+
+    @Modifying
+    @Query("delete from SearchToken t where t.field = :field and t.ownerId = :ownerId and t.token in :tokens")
+    void deleteTokens(@Param("field") SearchField field, @Param("ownerId") Long ownerId, @Param("tokens") Collection<String> tokens);
+
+    @Modifying
+    @Query("delete from SearchToken t where t.field in :fields and t.ownerId = :ownerId")
+    void deleteAllByOwner(@Param("fields") Collection<SearchField> fields, @Param("ownerId") Long ownerId);
+}
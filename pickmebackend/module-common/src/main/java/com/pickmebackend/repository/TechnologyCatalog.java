@@ -0,0 +1,137 @@
+package com.pickmebackend.repository;
+
+import com.pickmebackend.domain.Technology;
+import com.pickmebackend.domain.dto.technology.TechnologyResponseDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 기술 목록 전체를 바뀌지 않는 스냅샷으로 메모리에 들고 있는다.
+ * 기술이 추가, 수정, 삭제되면 version 을 올려 다음 조회 때 다시 읽고, SQL 로 직접 바꾼 경우를 위해 TTL 이 지나도 다시 읽는다.
+ * 읽는 도중에 version 이 바뀌면 그 스냅샷은 바로 낡은 것으로 보고 다음 조회에서 한 번 더 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TechnologyCatalog {
+
+    private static final long TTL_MILLIS = Duration.ofMinutes(10).toMillis();
+
+    private final TechnologyRepository technologyRepository;
+
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        get();
+    }
+
+    public Snapshot get() {
+        Snapshot current = snapshot;
+        if (isFresh(current)) {
+            return current;
+        }
+        return reload();
+    }
+
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+
+    private synchronized Snapshot reload() {
+        Snapshot current = snapshot;
+        if (isFresh(current)) {
+            return current;
+        }
+        long loadingVersion = version.get();
+        Snapshot loaded = new Snapshot(loadingVersion, technologyRepository.findAll(Sort.by("id")),
+                System.currentTimeMillis() + TTL_MILLIS);
+        snapshot = loaded;
+        return loaded;
+    }
+
+    private boolean isFresh(Snapshot snapshot) {
+        return snapshot != null && snapshot.version == version.get() && snapshot.expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * 이름을 소문자로 정렬해 두어 접두사로 찾을 때 이진 탐색으로 시작 위치를 찾고 거기서부터 limit 개만 읽는다.
+     * ETag 는 내용으로 만들어서 재시작하거나 여러 서버에 나뉘어도 같은 목록이면 같은 값이 된다.
+     */
+    public static class Snapshot {
+
+        private final long version;
+
+        private final long expiresAt;
+
+        @Getter
+        private final List<TechnologyResponseDto> technologies;
+
+        @Getter
+        private final String eTag;
+
+        private final String[] sortedNames;
+
+        private final TechnologyResponseDto[] sortedTechnologies;
+
+        private Snapshot(long version, List<Technology> entities, long expiresAt) {
+            List<TechnologyResponseDto> technologies = entities.stream()
+                    .map(TechnologyResponseDto::new)
+                    .collect(Collectors.toList());
+            this.version = version;
+            this.expiresAt = expiresAt;
+            this.technologies = Collections.unmodifiableList(technologies);
+            this.sortedTechnologies = technologies.stream()
+                    .filter(technology -> technology.getName() != null)
+                    .sorted(Comparator.comparing((TechnologyResponseDto technology) -> technology.getName().toLowerCase(Locale.ROOT))
+                            .thenComparing(TechnologyResponseDto::getId))
+                    .toArray(TechnologyResponseDto[]::new);
+            this.sortedNames = Arrays.stream(sortedTechnologies)
+                    .map(technology -> technology.getName().toLowerCase(Locale.ROOT))
+                    .toArray(String[]::new);
+            this.eTag = eTag(this.technologies);
+        }
+
+        public List<TechnologyResponseDto> findByPrefix(String prefix, int limit) {
+            String key = prefix.toLowerCase(Locale.ROOT);
+            int index = Arrays.binarySearch(sortedNames, key);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            while (index > 0 && sortedNames[index - 1].equals(key)) {
+                index--;
+            }
+            List<TechnologyResponseDto> found = new ArrayList<>();
+            while (index < sortedNames.length && found.size() < limit && sortedNames[index].startsWith(key)) {
+                found.add(sortedTechnologies[index++]);
+            }
+            return found;
+        }
+
+        public List<Long> findIdsByNames(Collection<String> names) {
+            return technologies.stream()
+                    .filter(technology -> names.contains(technology.getName()))
+                    .map(TechnologyResponseDto::getId)
+                    .collect(Collectors.toList());
+        }
+
+        private static String eTag(List<TechnologyResponseDto> technologies) {
+            long hash = 0xcbf29ce484222325L;
+            for (TechnologyResponseDto technology : technologies) {
+                hash = (hash ^ technology.getId()) * 0x100000001b3L;
+                hash = (hash ^ Objects.hashCode(technology.getName())) * 0x100000001b3L;
+            }
+            return "\"" + Long.toHexString(hash) + "-" + technologies.size() + "\"";
+        }
+    }
+}
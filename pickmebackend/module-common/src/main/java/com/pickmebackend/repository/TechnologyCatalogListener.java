@@ -0,0 +1,50 @@
+package com.pickmebackend.repository;
+
+import com.pickmebackend.domain.Technology;
+import com.pickmebackend.repository.account.AccountProfileCache;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * 기술이 바뀌면 커밋된 뒤에 기술 목록 스냅샷을 낡은 것으로 표시하고, 기술 이름을 담은 유저 프로필 캐시도 비운다.
+ * 커밋 전에 표시하면 그 사이에 다시 읽은 스냅샷에 변경이 빠진 채로 남는다.
+ * 엔티티 리스너는 EntityManagerFactory 를 만드는 중에 생성되므로, 저장소를 쓰는 TechnologyCatalog 는 지연 주입한다.
+ */
+@Component
+public class TechnologyCatalogListener {
+
+    private final TechnologyCatalog technologyCatalog;
+
+    private final AccountProfileCache accountProfileCache;
+
+    public TechnologyCatalogListener(@Lazy TechnologyCatalog technologyCatalog, @Lazy AccountProfileCache accountProfileCache) {
+        this.technologyCatalog = technologyCatalog;
+        this.accountProfileCache = accountProfileCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void invalidate(Technology technology) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateCaches();
+                }
+            });
+        } else {
+            invalidateCaches();
+        }
+    }
+
+    private void invalidateCaches() {
+        technologyCatalog.invalidate();
+        accountProfileCache.clear();
+    }
+}
@@ -2,9 +2,17 @@ package com.pickmebackend.repository;
 
 import com.pickmebackend.domain.VerificationCode;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface VerificationCodeRepository extends JpaRepository<VerificationCode, Long> {
     Optional<VerificationCode> findByEmail(String email);
     void deleteByEmail(String email);
+
+    @Modifying
+    @Query("delete from VerificationCode v where v.expiresAt is null or v.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
 }
@@ -0,0 +1,125 @@
+package com.pickmebackend.repository.account;
+
+import com.pickmebackend.properties.AccountHitsProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 프로필 조회 수를 메모리에 모아 두었다가 flush-interval 마다 하나의 batch UPDATE 로 반영한다.
+ * 조회 수 정렬은 DB 에 반영된 값을 기준으로 하므로, 최대 flush-interval 만큼 늦게 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountHitsCounter {
+
+    private static final String FLUSH_SQL = "update account set hits = hits + ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final AccountHitsProperties accountHitsProperties;
+
+    private final TaskScheduler taskScheduler;
+
+    private final ConcurrentMap<Long, LongAdder> pendingHits = new ConcurrentHashMap<>();
+
+    private ScheduledFuture<?> scheduledFlush;
+
+    /**
+     * DB 에 연결하지 못해 트랜잭션을 시작하지 못하는 경우처럼 flush 가 예외를 던져도 다음 주기는 계속 돈다.
+     * 반영하지 못한 조회 수는 카운터에 그대로 남는다.
+     */
+    @PostConstruct
+    public void start() {
+        scheduledFlush = taskScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                log.warn("Failed to flush hits", e);
+            }
+        }, Instant.now().plus(accountHitsProperties.getFlushInterval()), accountHitsProperties.getFlushInterval());
+    }
+
+    /**
+     * 종료 전에 남은 조회 수를 반영한다. flush 는 synchronized 이므로 돌고 있던 flush 가 끝난 뒤에 반영한다.
+     */
+    @PreDestroy
+    public void stop() {
+        scheduledFlush.cancel(false);
+        flush();
+    }
+
+    /**
+     * 카운터를 지우는 evictIdle 과 같은 키 잠금 안에서 더하므로, 지워진 카운터에 더해져 사라지는 조회 수가 없다.
+     */
+    public void increment(Long accountId) {
+        pendingHits.compute(accountId, (id, hits) -> {
+            LongAdder counter = hits == null ? new LongAdder() : hits;
+            counter.increment();
+            return counter;
+        });
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회 수
+     */
+    public long pending(Long accountId) {
+        LongAdder hits = pendingHits.get(accountId);
+        return hits == null ? 0L : hits.sum();
+    }
+
+    /**
+     * 반영한 만큼만 카운터에서 빼므로 flush 도중 들어온 조회 수는 다음 flush 로 넘어간다.
+     * UPDATE 가 실패하면 카운터를 그대로 두고 다음 flush 에서 다시 시도한다.
+     */
+    public synchronized int flush() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pendingHits.entrySet()) {
+            long hits = entry.getValue().sum();
+            if (hits == 0L) {
+                evictIdle(entry.getKey(), entry.getValue());
+                continue;
+            }
+            batch.add(new Object[]{hits, entry.getKey()});
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        batch.sort(Comparator.comparing(args -> (Long) args[1]));
+
+        try {
+            transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+        } catch (DataAccessException e) {
+            log.warn("Failed to flush hits for {} accounts", batch.size(), e);
+            return 0;
+        }
+        batch.forEach(args -> pendingHits.get((Long) args[1]).add(-(Long) args[0]));
+        return batch.size();
+    }
+
+    /**
+     * 한 주기 동안 조회되지 않은 카운터는 지운다. 0 인지 확인하고 지우는 것을 키 잠금 안에서 하므로 그 사이에 조회 수가 더해질 수 없다.
+     */
+    private void evictIdle(Long accountId, LongAdder hits) {
+        pendingHits.computeIfPresent(accountId, (id, current) -> current == hits && current.sum() == 0L ? null : current);
+    }
+}
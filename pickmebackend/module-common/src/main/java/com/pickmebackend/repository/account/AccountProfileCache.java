@@ -0,0 +1,105 @@
+package com.pickmebackend.repository.account;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pickmebackend.common.ExpiringLruCache;
+import com.pickmebackend.domain.dto.account.AccountResponseDto;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * 유저 조회 응답 중 보는 사람과 관계없는 프로필을 직렬화한 JSON 으로 유저별로 보관한다.
+ * 요청마다 바뀌는 favoriteCount 와 hits 는 빼고 직렬화하며, 조회할 때 favoriteFlag 와 함께 다시 채운다.
+ * 유저, 경력, 자격증, 수상, 프로젝트, 셀프 인터뷰를 쓰는 서비스가 해당 유저의 항목을 비우고,
+ * 기술이 바뀌면 TechnologyCatalogListener 가 커밋된 뒤에 모두 비운다.
+ * 비울 때마다 유저별 세대를 올리고, 읽기 시작한 뒤 세대가 바뀐 프로필은 저장하지 않는다.
+ * 커밋 전에 이전 값을 읽은 요청이 커밋 뒤의 비우기보다 늦게 저장해서 낡은 프로필이 TTL 동안 남는 것을 막는다.
+ */
+@Component
+public class AccountProfileCache {
+
+    private static final int MAX_SIZE = 10_000;
+
+    private static final long TTL_MILLIS = Duration.ofMinutes(10).toMillis();
+
+    private static final int GENERATION_SLOTS = 256;
+
+    private final ExpiringLruCache<Long, String> cache = new ExpiringLruCache<>(MAX_SIZE);
+
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_SLOTS);
+
+    private final ObjectMapper profileMapper;
+
+    public AccountProfileCache(ObjectMapper objectMapper) {
+        this.profileMapper = objectMapper.copy().addMixIn(AccountResponseDto.class, ProfileMixIn.class);
+    }
+
+    public String get(Long accountId, Supplier<AccountResponseDto> loader) {
+        String profile = cache.get(accountId);
+        if (profile != null) {
+            return profile;
+        }
+        int slot = slotOf(accountId);
+        long generation = generations.get(slot);
+        profile = serialize(loader.get());
+        synchronized (generations) {
+            if (generations.get(slot) == generation) {
+                cache.put(accountId, profile, System.currentTimeMillis() + TTL_MILLIS);
+            }
+        }
+        return profile;
+    }
+
+    /**
+     * 바로 비우고, 트랜잭션 안이면 커밋된 뒤에 한 번 더 비운다.
+     * 커밋 전에 다른 요청이 이전 값을 읽어 다시 채운 항목이 남지 않게 하기 위해서다.
+     */
+    public void evict(Long accountId) {
+        invalidate(accountId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(accountId);
+                }
+            });
+        }
+    }
+
+    public void clear() {
+        synchronized (generations) {
+            for (int slot = 0; slot < GENERATION_SLOTS; slot++) {
+                generations.incrementAndGet(slot);
+            }
+            cache.clear();
+        }
+    }
+
+    private void invalidate(Long accountId) {
+        synchronized (generations) {
+            generations.incrementAndGet(slotOf(accountId));
+            cache.evict(accountId);
+        }
+    }
+
+    private static int slotOf(Long accountId) {
+        return (accountId.hashCode() & Integer.MAX_VALUE) % GENERATION_SLOTS;
+    }
+
+    private String serialize(AccountResponseDto accountResponseDto) {
+        try {
+            return profileMapper.writeValueAsString(accountResponseDto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @JsonIgnoreProperties({"favoriteCount", "hits"})
+    private abstract static class ProfileMixIn {
+    }
+}
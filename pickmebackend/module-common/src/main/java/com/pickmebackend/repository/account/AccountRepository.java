@@ -1,9 +1,27 @@
 package com.pickmebackend.repository.account;
 
 import com.pickmebackend.domain.Account;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
 import java.util.Optional;
 
 public interface AccountRepository extends JpaRepository<Account, Long>, AccountRepositoryCustom {
     Optional<Account> findByEmail(String email);
+
+    List<Account> findAllByIdGreaterThan(Long id, Pageable pageable);
+
+    @EntityGraph("Account.profile")
+    Optional<Account> findWithProfileById(Long id);
+
+    @EntityGraph("Account.enterprise")
+    Optional<Account> findWithEnterpriseById(Long id);
+
+    @Modifying
+    @Query("update Account a set a.favoriteCount = a.favoriteCount + :delta where a.id = :id")
+    int addFavoriteCount(@Param("id") Long id, @Param("delta") long delta);
 }
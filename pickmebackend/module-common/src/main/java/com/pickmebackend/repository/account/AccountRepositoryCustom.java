@@ -1,10 +1,23 @@
 package com.pickmebackend.repository.account;
 
-import com.pickmebackend.domain.Account;
+import com.pickmebackend.domain.dto.account.AccountCardResponseDto;
+import com.pickmebackend.domain.dto.account.AccountCursor;
 import com.pickmebackend.domain.dto.account.AccountFilteringRequestDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface AccountRepositoryCustom {
-    Page<Account> filterAccount(AccountFilteringRequestDto requestDto, Pageable pageable);
+    Page<AccountCardResponseDto> filterAccount(AccountFilteringRequestDto requestDto, Pageable pageable);
+
+    Slice<AccountCardResponseDto> filterAccountByCursor(AccountFilteringRequestDto requestDto, AccountCursor cursor, int size);
+
+    long countFilteredAccount(AccountFilteringRequestDto requestDto);
+
+    List<String> findImageBlobsIn(Collection<String> fileNames);
+
+    int fillImageBlobs(int batchSize);
 }
@@ -1,48 +1,181 @@
 package com.pickmebackend.repository.account;
 
 import com.pickmebackend.domain.Account;
+import com.pickmebackend.domain.dto.account.AccountCardResponseDto;
+import com.pickmebackend.domain.dto.account.AccountCursor;
 import com.pickmebackend.domain.dto.account.AccountFilteringRequestDto;
+import com.pickmebackend.domain.enums.SearchField;
 import com.pickmebackend.domain.enums.UserRole;
-import com.querydsl.core.QueryResults;
+import com.pickmebackend.repository.FilterCountCache;
+import com.pickmebackend.repository.TechnologyCatalog;
+import com.pickmebackend.search.NGramSearch;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import static com.pickmebackend.domain.QAccount.account;
+import static com.pickmebackend.domain.QAccountTech.accountTech;
+import static com.pickmebackend.domain.QTechnology.technology;
 
 @Repository
 public class AccountRepositoryImpl extends QuerydslRepositorySupport implements AccountRepositoryCustom {
 
+    private static final ConstructorExpression<AccountCardResponseDto> ACCOUNT_CARD = Projections.constructor(AccountCardResponseDto.class,
+            account.id, account.nickName, account.image, account.oneLineIntroduce, account.career,
+            account.favoriteCount, account.hits, account.createdAt);
+
+    private static final StringPath POSITION = Expressions.stringPath("position");
+
     private final JPAQueryFactory jpaQueryFactory;
 
-    public AccountRepositoryImpl(JPAQueryFactory jpaQueryFactory) {
+    private final FilterCountCache filterCountCache;
+
+    private final TechnologyCatalog technologyCatalog;
+
+    private final NGramSearch nGramSearch;
+
+    public AccountRepositoryImpl(JPAQueryFactory jpaQueryFactory, FilterCountCache filterCountCache, TechnologyCatalog technologyCatalog,
+                                 NGramSearch nGramSearch) {
         super(Account.class);
         this.jpaQueryFactory = jpaQueryFactory;
+        this.filterCountCache = filterCountCache;
+        this.technologyCatalog = technologyCatalog;
+        this.nGramSearch = nGramSearch;
+    }
+
+    @Override
+    public Page<AccountCardResponseDto> filterAccount(AccountFilteringRequestDto requestDto, Pageable pageable)  {
+        List<AccountCardResponseDto> filteredAccounts = filteredAccountQuery(ACCOUNT_CARD, requestDto)
+                .orderBy(eqOrderBy(requestDto.getOrderBy(), requestDto))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+        fillCardDetails(filteredAccounts);
+
+        return PageableExecutionUtils.getPage(filteredAccounts, pageable, () -> countFilteredAccount(requestDto));
+    }
+
+    @Override
+    public Slice<AccountCardResponseDto> filterAccountByCursor(AccountFilteringRequestDto requestDto, AccountCursor cursor, int size) {
+        List<AccountCardResponseDto> filteredAccounts = filteredAccountQuery(ACCOUNT_CARD, requestDto)
+                .where(afterCursor(cursor))
+                .orderBy(eqOrderBy(AccountCursor.orderKey(requestDto.getOrderBy()), requestDto), account.id.desc())
+                .limit(size + 1)
+                .fetch();
+
+        boolean hasNext = filteredAccounts.size() > size;
+        if (hasNext) {
+            filteredAccounts = filteredAccounts.subList(0, size);
+        }
+        fillCardDetails(filteredAccounts);
+        return new SliceImpl<>(filteredAccounts, PageRequest.of(0, size), hasNext);
+    }
+
+    @Override
+    public long countFilteredAccount(AccountFilteringRequestDto requestDto) {
+        return filterCountCache.getAccountCount(requestDto.toCountKey(), () -> filteredAccountQuery(account.id, requestDto).fetchCount());
     }
 
+    /**
+     * 주소 앞부분은 image.url-prefix 에 따라 달라질 수 있으므로 파일 이름만 따로 저장한 imageBlob 으로 비교한다.
+     */
     @Override
-    public Page<Account> filterAccount(AccountFilteringRequestDto requestDto, Pageable pageable)  {
-        QueryResults<Account> filteredAccounts = jpaQueryFactory
-                .selectFrom(account)
+    public List<String> findImageBlobsIn(Collection<String> fileNames) {
+        if (fileNames.isEmpty())
+            return Collections.emptyList();
+        return jpaQueryFactory
+                .select(account.imageBlob)
+                .from(account)
+                .where(account.imageBlob.in(fileNames))
+                .fetch();
+    }
+
+    /**
+     * imageBlob 이 생기기 전에 저장된 계정의 imageBlob 을 batchSize 개까지 채우고, 채운 수를 반환한다.
+     * 엔티티를 거치지 않고 UPDATE 하므로 수정 이벤트나 캐시 무효화가 일어나지 않는다.
+     */
+    @Override
+    @Transactional
+    public int fillImageBlobs(int batchSize) {
+        List<Tuple> images = jpaQueryFactory
+                .select(account.id, account.image)
+                .from(account)
+                .where(account.imageBlob.isNull(), account.image.isNotNull())
+                .limit(batchSize)
+                .fetch();
+        images.forEach(image -> jpaQueryFactory
+                .update(account)
+                .set(account.imageBlob, Account.fileNameOf(image.get(account.image)))
+                .where(account.id.eq(image.get(account.id)))
+                .execute());
+        return images.size();
+    }
+
+    /**
+     * 페이지에 담긴 유저들의 역할과 기술을 한 번에 읽는다. 두 컬렉션을 함께 조인하므로 유저마다 (역할 수 x 기술 수) 행이 나오지만,
+     * 둘 다 몇 개 되지 않아 쿼리를 하나 더 보내는 것보다 싸다.
+     */
+    private void fillCardDetails(List<AccountCardResponseDto> cards) {
+        if (cards.isEmpty())
+            return;
+        Map<Long, AccountCardResponseDto> cardsById = cards.stream()
+                .collect(Collectors.toMap(AccountCardResponseDto::getId, Function.identity()));
+        List<Tuple> details = jpaQueryFactory
+                .select(account.id, POSITION, technology.id, technology.name)
+                .from(account)
+                .leftJoin(account.positions, POSITION)
+                .leftJoin(account.accountTechSet, accountTech)
+                .leftJoin(accountTech.technology, technology)
+                .where(account.id.in(cardsById.keySet()))
+                .orderBy(technology.id.asc())
+                .fetch();
+        for (Tuple detail : details) {
+            AccountCardResponseDto card = cardsById.get(detail.get(account.id));
+            card.addPosition(detail.get(POSITION));
+            card.addTechnology(detail.get(technology.id), detail.get(technology.name));
+        }
+    }
+
+    private <T> JPAQuery<T> filteredAccountQuery(Expression<T> expression, AccountFilteringRequestDto requestDto) {
+        return jpaQueryFactory
+                .select(expression)
+                .from(account)
                 .where(
                         eqUser(),
                         eqNickName(requestDto.getNickName()),
                         eqOneLineIntroduce(requestDto.getOneLineIntroduce()),
                         eqCareer(requestDto.getCareer()),
                         eqPosition(requestDto.getPosition()),
-                        eqTech(requestDto.getTechnology())
-                )
-                .orderBy(eqOrderBy(requestDto.getOrderBy()))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetchResults();
-
-        return new PageImpl<>(filteredAccounts.getResults(), pageable, filteredAccounts.getTotal());
+                        eqTech(requestDto.getTechnology(), requestDto.getTechnologyMatch())
+                );
     }
 
     private BooleanExpression eqUser() {
@@ -52,13 +185,15 @@ public class AccountRepositoryImpl extends QuerydslRepositorySupport implements
     private BooleanExpression eqNickName(String nickName) {
         if(StringUtils.isEmpty(nickName))
             return null;
-        return account.nickName.contains(nickName);
+        return account.nickName.contains(nickName)
+                .and(nGramSearch.matches(SearchField.NICK_NAME, account.id, nickName));
     }
 
     private BooleanExpression eqOneLineIntroduce(String oneLineIntroduce) {
         if(StringUtils.isEmpty(oneLineIntroduce))
             return null;
-        return account.oneLineIntroduce.contains(oneLineIntroduce);
+        return account.oneLineIntroduce.contains(oneLineIntroduce)
+                .and(nGramSearch.matches(SearchField.ONE_LINE_INTRODUCE, account.id, oneLineIntroduce));
     }
 
     private BooleanExpression eqCareer(String career) {
@@ -73,17 +208,78 @@ public class AccountRepositoryImpl extends QuerydslRepositorySupport implements
         return account.positions.contains(position);
     }
 
-    private BooleanExpression eqTech(String technology) {
+    /**
+     * 쉼표로 구분된 기술 이름을 TechnologyCatalog 에서 id 로 바꾼 뒤, account_tech 의 (technology_id, account_id) 색인만으로 걸러낸다.
+     * 이름을 id 로 바꾸는 데 쿼리를 보내지 않으므로 목록과 개수를 따로 조회해도 추가 비용이 없다.
+     * technologyMatch 가 any 면 하나라도 가진 유저, 그 외에는 모두 가진 유저를 조회한다.
+     */
+    private BooleanExpression eqTech(String technology, String technologyMatch) {
         if (StringUtils.isEmpty(technology))
             return null;
-        return account.accountTechSet.any().technology.name.eq(technology);
+        Set<String> names = Arrays.stream(technology.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toSet());
+        List<Long> technologyIds = technologyCatalog.get().findIdsByNames(names);
+        if (technologyIds.isEmpty())
+            return account.id.isNull();
+
+        JPQLQuery<Long> accountIds = JPAExpressions
+                .select(accountTech.account.id)
+                .from(accountTech)
+                .where(accountTech.technology.id.in(technologyIds));
+        if ("any".equals(technologyMatch))
+            return account.id.in(accountIds);
+        return account.id.in(accountIds
+                .groupBy(accountTech.account.id)
+                .having(accountTech.technology.id.countDistinct().eq((long) names.size())));
+    }
+
+    private BooleanExpression afterCursor(AccountCursor cursor) {
+        if (cursor == null)
+            return null;
+        if ("favorite".equals(cursor.getOrderBy())) {
+            long favoriteCount = cursor.longValue();
+            return account.favoriteCount.lt(favoriteCount)
+                    .or(account.favoriteCount.eq(favoriteCount).and(account.id.lt(cursor.getId())));
+        }
+        else if ("hits".equals(cursor.getOrderBy())) {
+            long hits = cursor.longValue();
+            return account.hits.lt(hits)
+                    .or(account.hits.eq(hits).and(account.id.lt(cursor.getId())));
+        }
+        LocalDateTime createdAt = cursor.dateTimeValue();
+        return account.createdAt.lt(createdAt)
+                .or(account.createdAt.eq(createdAt).and(account.id.lt(cursor.getId())));
     }
 
-    private OrderSpecifier<?> eqOrderBy(String orderBy) {
-        if("favorite".equals(orderBy))
+    private OrderSpecifier<?> eqOrderBy(String orderBy, AccountFilteringRequestDto requestDto) {
+        if("relevance".equals(orderBy))
+            return relevance(requestDto);
+        else if("favorite".equals(orderBy))
             return account.favoriteCount.desc();
         else if("hits".equals(orderBy))
             return account.hits.desc();
         return account.createdAt.desc();
     }
+
+    /**
+     * 검색어와 같은 이름, 검색어로 시작하는 이름, 그 외 순으로 정렬한다.
+     * 이름 검색어가 없으면 한 줄 소개를 기준으로 하고, 둘 다 없으면 최신 순과 같다.
+     */
+    private OrderSpecifier<?> relevance(AccountFilteringRequestDto requestDto) {
+        StringPath field = account.nickName;
+        String term = requestDto.getNickName();
+        if (StringUtils.isEmpty(term)) {
+            field = account.oneLineIntroduce;
+            term = requestDto.getOneLineIntroduce();
+        }
+        if (StringUtils.isEmpty(term))
+            return account.createdAt.desc();
+        return new CaseBuilder()
+                .when(field.eq(term)).then(0)
+                .when(field.startsWith(term)).then(1)
+                .otherwise(2)
+                .asc();
+    }
 }
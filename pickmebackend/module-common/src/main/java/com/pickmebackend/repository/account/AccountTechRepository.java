@@ -2,8 +2,16 @@ package com.pickmebackend.repository.account;
 
 import com.pickmebackend.domain.AccountTech;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 
 public interface AccountTechRepository extends JpaRepository<AccountTech, Long> {
     List<AccountTech> findAllByAccount_Id(Long accountId);
+
+    @Modifying
+    @Query("delete from AccountTech t where t.id in :ids")
+    void deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,30 @@
+package com.pickmebackend.repository.account;
+
+import com.pickmebackend.common.RotatingBloomFilter;
+import com.pickmebackend.properties.AccountHitsProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 조회자가 view-window 안에 같은 프로필을 다시 조회하면 조회 수를 올리지 않도록, (조회자, 프로필) 쌍을 기억한다.
+ * 프로필 조회는 로그인한 유저만 할 수 있으므로 조회자는 항상 유저 식별자로 구분한다.
+ */
+@Component
+public class AccountViewDeduplicator {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final RotatingBloomFilter views;
+
+    public AccountViewDeduplicator(AccountHitsProperties accountHitsProperties) {
+        this.views = new RotatingBloomFilter(accountHitsProperties.getExpectedViews(),
+                accountHitsProperties.getViewFalsePositiveRate(),
+                accountHitsProperties.getViewWindow().toMillis());
+    }
+
+    /**
+     * 이번 window 에서 처음 보는 조회이면 true
+     */
+    public boolean isFirstView(Long viewerId, Long accountId) {
+        return views.add(viewerId * GOLDEN_GAMMA + accountId);
+    }
+}
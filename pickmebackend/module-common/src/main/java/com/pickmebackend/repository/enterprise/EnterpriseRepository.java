@@ -1,7 +1,11 @@
 package com.pickmebackend.repository.enterprise;
 
 import com.pickmebackend.domain.Enterprise;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.List;
 
 public interface EnterpriseRepository extends JpaRepository<Enterprise, Long>, EnterpriseRepositoryCustom {
+
+    List<Enterprise> findAllByIdGreaterThan(Long id, Pageable pageable);
 }
@@ -2,16 +2,20 @@ package com.pickmebackend.repository.enterprise;
 
 import com.pickmebackend.domain.Enterprise;
 import com.pickmebackend.domain.dto.enterprise.EnterpriseFilterRequestDto;
+import com.pickmebackend.domain.enums.SearchField;
 import com.pickmebackend.domain.enums.UserRole;
-import com.querydsl.core.QueryResults;
+import com.pickmebackend.repository.FilterCountCache;
+import com.pickmebackend.search.NGramSearch;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
+import java.util.List;
+import static com.pickmebackend.domain.QAccount.account;
 import static com.pickmebackend.domain.QEnterprise.enterprise;
 
 @Repository
@@ -19,15 +23,22 @@ public class EnterpriseRepositoryImpl extends QuerydslRepositorySupport implemen
 
     private final JPAQueryFactory jpaQueryFactory;
 
-    public EnterpriseRepositoryImpl(JPAQueryFactory jpaQueryFactory) {
+    private final FilterCountCache filterCountCache;
+
+    private final NGramSearch nGramSearch;
+
+    public EnterpriseRepositoryImpl(JPAQueryFactory jpaQueryFactory, FilterCountCache filterCountCache, NGramSearch nGramSearch) {
         super(Enterprise.class);
         this.jpaQueryFactory = jpaQueryFactory;
+        this.filterCountCache = filterCountCache;
+        this.nGramSearch = nGramSearch;
     }
 
     @Override
     public Page<Enterprise> filterEnterprise(EnterpriseFilterRequestDto enterpriseFilterRequestDto, Pageable pageable) {
-        QueryResults<Enterprise> filteredEnterprises = jpaQueryFactory
+        List<Enterprise> filteredEnterprises = jpaQueryFactory
                 .selectFrom(enterprise)
+                .join(enterprise.account, account).fetchJoin()
                 .where(
                         eqUser(),
                         eqName(enterpriseFilterRequestDto.getName()),
@@ -36,24 +47,38 @@ public class EnterpriseRepositoryImpl extends QuerydslRepositorySupport implemen
                 .orderBy(enterprise.name.asc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .fetchResults();
+                .fetch();
 
-        return new PageImpl<>(filteredEnterprises.getResults(), pageable, filteredEnterprises.getTotal());
+        return PageableExecutionUtils.getPage(filteredEnterprises, pageable, () -> countFilteredEnterprise(enterpriseFilterRequestDto));
+    }
+
+    private long countFilteredEnterprise(EnterpriseFilterRequestDto enterpriseFilterRequestDto) {
+        return filterCountCache.getEnterpriseCount(enterpriseFilterRequestDto.toCountKey(), () -> jpaQueryFactory
+                .selectFrom(enterprise)
+                .join(enterprise.account, account)
+                .where(
+                        eqUser(),
+                        eqName(enterpriseFilterRequestDto.getName()),
+                        eqAddress(enterpriseFilterRequestDto.getAddress())
+                )
+                .fetchCount());
     }
 
     private BooleanExpression eqUser() {
-        return enterprise.account.userRole.eq(UserRole.ENTERPRISE);
+        return account.userRole.eq(UserRole.ENTERPRISE);
     }
 
     private BooleanExpression eqName(String name) {
         if(StringUtils.isEmpty(name))
             return null;
-        return enterprise.name.contains(name);
+        return enterprise.name.contains(name)
+                .and(nGramSearch.matches(SearchField.ENTERPRISE_NAME, enterprise.id, name));
     }
 
     private BooleanExpression eqAddress(String address) {
         if (StringUtils.isEmpty(address))
             return null;
-        return enterprise.address.contains(address);
+        return enterprise.address.contains(address)
+                .and(nGramSearch.matches(SearchField.ENTERPRISE_ADDRESS, enterprise.id, address));
     }
 }
@@ -0,0 +1,106 @@
+package com.pickmebackend.search;
+
+import com.pickmebackend.common.ExpiringLruCache;
+import com.pickmebackend.domain.enums.SearchField;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import static com.pickmebackend.domain.QSearchToken.searchToken;
+
+/**
+ * 검색어의 n-gram 중 가진 대상이 적은 것 몇 개만 골라 후보를 좁힌다.
+ * n-gram 마다 가진 대상 수를 잠시 보관하고, 가장 드문 n-gram 도 MAX_CANDIDATES 보다 많으면 n-gram 조건을 쓰지 않는다.
+ * 이 수는 고르는 데에만 쓰고 후보는 항상 색인에서 다시 읽으므로, 조금 낡아도 결과는 달라지지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NGramSearch {
+
+    static final int MAX_TOKENS = 3;
+
+    static final long MAX_CANDIDATES = 10_000L;
+
+    private static final int MAX_SIZE = 10_000;
+
+    private static final long TTL_MILLIS = Duration.ofMinutes(1).toMillis();
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    private final ExpiringLruCache<String, Long> frequencies = new ExpiringLruCache<>(MAX_SIZE);
+
+    /**
+     * 검색어의 n-gram 중 드문 것을 모두 가진 대상만 남기는 조건. 검색어가 n-gram 보다 짧거나 좁힐 만한 n-gram 이 없으면 null 을 반환한다.
+     * n-gram 일치는 후보를 좁히는 용도이므로, 정확한 부분 일치 조건과 함께 사용해야 한다.
+     */
+    public BooleanExpression matches(SearchField field, NumberPath<Long> ownerId, String term) {
+        Set<String> tokens = NGramTokenizer.tokenize(term);
+        if (tokens.isEmpty()) {
+            return null;
+        }
+        Map<String, Long> tokenFrequencies = frequencies(field, tokens);
+        List<String> selectiveTokens = tokens.stream()
+                .filter(token -> tokenFrequencies.get(token) <= MAX_CANDIDATES)
+                .sorted(Comparator.comparing(tokenFrequencies::get))
+                .limit(MAX_TOKENS)
+                .collect(Collectors.toList());
+        if (selectiveTokens.isEmpty()) {
+            return null;
+        }
+        if (selectiveTokens.size() == 1) {
+            return ownerId.in(JPAExpressions
+                    .select(searchToken.ownerId)
+                    .from(searchToken)
+                    .where(searchToken.field.eq(field), searchToken.token.eq(selectiveTokens.get(0))));
+        }
+        return ownerId.in(JPAExpressions
+                .select(searchToken.ownerId)
+                .from(searchToken)
+                .where(searchToken.field.eq(field), searchToken.token.in(selectiveTokens))
+                .groupBy(searchToken.ownerId)
+                .having(searchToken.count().eq((long) selectiveTokens.size())));
+    }
+
+    private Map<String, Long> frequencies(SearchField field, Set<String> tokens) {
+        Map<String, Long> tokenFrequencies = new HashMap<>();
+        for (String token : tokens) {
+            Long frequency = frequencies.get(key(field, token));
+            if (frequency != null) {
+                tokenFrequencies.put(token, frequency);
+            }
+        }
+        Set<String> missingTokens = tokens.stream()
+                .filter(token -> !tokenFrequencies.containsKey(token))
+                .collect(Collectors.toSet());
+        if (missingTokens.isEmpty()) {
+            return tokenFrequencies;
+        }
+
+        List<Tuple> counts = jpaQueryFactory
+                .select(searchToken.token, searchToken.count())
+                .from(searchToken)
+                .where(searchToken.field.eq(field), searchToken.token.in(missingTokens))
+                .groupBy(searchToken.token)
+                .fetch();
+        missingTokens.forEach(token -> tokenFrequencies.put(token, 0L));
+        counts.forEach(count -> tokenFrequencies.put(count.get(searchToken.token), count.get(searchToken.count())));
+
+        long expiresAt = System.currentTimeMillis() + TTL_MILLIS;
+        missingTokens.forEach(token -> frequencies.put(key(field, token), tokenFrequencies.get(token), expiresAt));
+        return tokenFrequencies;
+    }
+
+    private String key(SearchField field, String token) {
+        return field.name() + ":" + token;
+    }
+}
@@ -0,0 +1,31 @@
+package com.pickmebackend.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 문자열을 유니코드 코드 포인트 단위의 2-gram 으로 나눈다.
+ * 한글은 음절 하나가 코드 포인트 하나이므로 형태소 분석 없이도 부분 일치 검색에 쓸 수 있다.
+ */
+public final class NGramTokenizer {
+
+    static final int GRAM_SIZE = 2;
+
+    private NGramTokenizer() {
+    }
+
+    public static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int[] codePoints = normalized.codePoints().toArray();
+        for (int i = 0; i + GRAM_SIZE <= codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, GRAM_SIZE));
+        }
+        return tokens;
+    }
+}
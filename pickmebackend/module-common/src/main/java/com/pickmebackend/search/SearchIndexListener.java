@@ -0,0 +1,111 @@
+package com.pickmebackend.search;
+
+import com.pickmebackend.domain.Account;
+import com.pickmebackend.domain.Enterprise;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Account / Enterprise 가 커밋된 뒤에 검색 토큰을 갱신한다.
+ * 수정 시에는 색인 대상 컬럼이 바뀐 경우에만 반영해서, 조회 수나 좋아요 변경에는 비용이 들지 않는다.
+ * 이미 커밋된 요청을 실패로 만들지 않도록 색인 실패는 기록만 하고, 빠진 토큰은 SearchIndexReconciler 가 채운다.
+ * 커밋에 실패한 경우에는 본문도 바뀌지 않았으므로 할 일이 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final SearchIndexer searchIndexer;
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry eventListenerRegistry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        eventListenerRegistry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        eventListenerRegistry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        eventListenerRegistry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        index(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Account && changed(event, "nickName", "oneLineIntroduce")
+                || event.getEntity() instanceof Enterprise && changed(event, "name", "address")) {
+            index(event.getEntity());
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        try {
+            if (event.getEntity() instanceof Account) {
+                searchIndexer.removeAccount(((Account) event.getEntity()).getId());
+            }
+            else if (event.getEntity() instanceof Enterprise) {
+                searchIndexer.removeEnterprise(((Enterprise) event.getEntity()).getId());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to remove search tokens of {}", event.getEntity().getClass().getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        Class<?> mappedClass = persister.getMappedClass();
+        return mappedClass == Account.class || mappedClass == Enterprise.class;
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    private void index(Object entity) {
+        try {
+            if (entity instanceof Account) {
+                Account account = (Account) entity;
+                searchIndexer.indexAccount(account.getId(), account.getNickName(), account.getOneLineIntroduce());
+            }
+            else if (entity instanceof Enterprise) {
+                Enterprise enterprise = (Enterprise) entity;
+                searchIndexer.indexEnterprise(enterprise.getId(), enterprise.getName(), enterprise.getAddress());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to index {}", entity.getClass().getSimpleName(), e);
+        }
+    }
+
+    private boolean changed(PostUpdateEvent event, String... propertyNames) {
+        if (event.getOldState() == null) {
+            return true;
+        }
+        String[] allPropertyNames = event.getPersister().getPropertyNames();
+        return Arrays.stream(propertyNames)
+                .mapToInt(Arrays.asList(allPropertyNames)::indexOf)
+                .anyMatch(i -> !Objects.equals(event.getOldState()[i], event.getState()[i]));
+    }
+}
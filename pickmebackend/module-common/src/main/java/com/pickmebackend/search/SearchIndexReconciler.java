@@ -0,0 +1,84 @@
+package com.pickmebackend.search;
+
+import com.pickmebackend.domain.Account;
+import com.pickmebackend.domain.Enterprise;
+import com.pickmebackend.properties.SearchIndexProperties;
+import com.pickmebackend.repository.account.AccountRepository;
+import com.pickmebackend.repository.enterprise.EnterpriseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 기동 직후와 reconcileInterval 마다 모든 유저와 기업 담당자의 검색 토큰을 본문과 맞춘다.
+ * 커밋 뒤 색인에 실패했거나 색인 이전부터 있던 데이터도 다음 주기에는 검색된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexReconciler {
+
+    private static final int PAGE_SIZE = 1_000;
+
+    private final AccountRepository accountRepository;
+
+    private final EnterpriseRepository enterpriseRepository;
+
+    private final SearchIndexer searchIndexer;
+
+    private final SearchIndexProperties searchIndexProperties;
+
+    private final TaskScheduler taskScheduler;
+
+    private ScheduledFuture<?> scheduledReconcile;
+
+    @PostConstruct
+    public void start() {
+        scheduledReconcile = taskScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                reconcile();
+            } catch (RuntimeException e) {
+                log.warn("Search index reconcile failed", e);
+            }
+        }, Instant.now(), searchIndexProperties.getReconcileInterval());
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduledReconcile.cancel(true);
+    }
+
+    /**
+     * 토큰이 본문과 달랐던 유저와 기업 담당자 수를 반환한다.
+     */
+    public int reconcile() {
+        PageRequest pageRequest = PageRequest.of(0, PAGE_SIZE, Sort.by("id"));
+        int reconciled = 0;
+
+        List<Account> accounts = accountRepository.findAllByIdGreaterThan(0L, pageRequest);
+        while (!accounts.isEmpty()) {
+            reconciled += searchIndexer.reconcile(accounts, Collections.emptyList());
+            accounts = accountRepository.findAllByIdGreaterThan(accounts.get(accounts.size() - 1).getId(), pageRequest);
+        }
+
+        List<Enterprise> enterprises = enterpriseRepository.findAllByIdGreaterThan(0L, pageRequest);
+        while (!enterprises.isEmpty()) {
+            reconciled += searchIndexer.reconcile(Collections.emptyList(), enterprises);
+            enterprises = enterpriseRepository.findAllByIdGreaterThan(enterprises.get(enterprises.size() - 1).getId(), pageRequest);
+        }
+
+        if (reconciled > 0) {
+            log.info("Search index reconciled for {} accounts and enterprises", reconciled);
+        }
+        return reconciled;
+    }
+}
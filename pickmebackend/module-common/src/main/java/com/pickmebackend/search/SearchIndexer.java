@@ -0,0 +1,125 @@
+package com.pickmebackend.search;
+
+import com.pickmebackend.domain.Account;
+import com.pickmebackend.domain.Enterprise;
+import com.pickmebackend.domain.SearchToken;
+import com.pickmebackend.domain.enums.SearchField;
+import com.pickmebackend.repository.SearchTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class SearchIndexer {
+
+    private static final List<SearchField> ACCOUNT_FIELDS = Arrays.asList(SearchField.NICK_NAME, SearchField.ONE_LINE_INTRODUCE);
+
+    private static final List<SearchField> ENTERPRISE_FIELDS = Arrays.asList(SearchField.ENTERPRISE_NAME, SearchField.ENTERPRISE_ADDRESS);
+
+    private final SearchTokenRepository searchTokenRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void indexAccount(Long accountId, String nickName, String oneLineIntroduce) {
+        index(SearchField.NICK_NAME, accountId, nickName);
+        index(SearchField.ONE_LINE_INTRODUCE, accountId, oneLineIntroduce);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void indexEnterprise(Long enterpriseId, String name, String address) {
+        index(SearchField.ENTERPRISE_NAME, enterpriseId, name);
+        index(SearchField.ENTERPRISE_ADDRESS, enterpriseId, address);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void removeAccount(Long accountId) {
+        searchTokenRepository.deleteAllByOwner(ACCOUNT_FIELDS, accountId);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void removeEnterprise(Long enterpriseId) {
+        searchTokenRepository.deleteAllByOwner(ENTERPRISE_FIELDS, enterpriseId);
+    }
+
+    /**
+     * 주어진 유저와 기업 담당자의 토큰을 한 번에 읽어 본문과 다른 것만 고친다. 고친 대상 수를 반환한다.
+     */
+    @Transactional
+    public int reconcile(Collection<Account> accounts, Collection<Enterprise> enterprises) {
+        Set<Long> ownerIds = new HashSet<>();
+        accounts.forEach(account -> ownerIds.add(account.getId()));
+        enterprises.forEach(enterprise -> ownerIds.add(enterprise.getId()));
+        if (ownerIds.isEmpty()) {
+            return 0;
+        }
+        List<SearchField> fields = new ArrayList<>();
+        if (!accounts.isEmpty()) {
+            fields.addAll(ACCOUNT_FIELDS);
+        }
+        if (!enterprises.isEmpty()) {
+            fields.addAll(ENTERPRISE_FIELDS);
+        }
+        Map<String, Set<String>> indexedTokens = searchTokenRepository.findAllByFieldInAndOwnerIdIn(fields, ownerIds).stream()
+                .collect(Collectors.groupingBy(token -> key(token.getField(), token.getOwnerId()),
+                        Collectors.mapping(SearchToken::getToken, Collectors.toSet())));
+
+        int reconciled = 0;
+        for (Account account : accounts) {
+            boolean nickNameChanged = index(SearchField.NICK_NAME, account.getId(), account.getNickName(), indexedTokens);
+            boolean oneLineIntroduceChanged = index(SearchField.ONE_LINE_INTRODUCE, account.getId(), account.getOneLineIntroduce(), indexedTokens);
+            if (nickNameChanged || oneLineIntroduceChanged) {
+                reconciled++;
+            }
+        }
+        for (Enterprise enterprise : enterprises) {
+            boolean nameChanged = index(SearchField.ENTERPRISE_NAME, enterprise.getId(), enterprise.getName(), indexedTokens);
+            boolean addressChanged = index(SearchField.ENTERPRISE_ADDRESS, enterprise.getId(), enterprise.getAddress(), indexedTokens);
+            if (nameChanged || addressChanged) {
+                reconciled++;
+            }
+        }
+        return reconciled;
+    }
+
+    private boolean index(SearchField field, Long ownerId, String text, Map<String, Set<String>> indexedTokens) {
+        return index(field, ownerId, text, indexedTokens.getOrDefault(key(field, ownerId), Collections.emptySet()));
+    }
+
+    private void index(SearchField field, Long ownerId, String text) {
+        Set<String> indexedTokens = searchTokenRepository.findAllByFieldAndOwnerId(field, ownerId).stream()
+                .map(SearchToken::getToken)
+                .collect(Collectors.toSet());
+        index(field, ownerId, text, indexedTokens);
+    }
+
+    private boolean index(SearchField field, Long ownerId, String text, Set<String> indexedTokens) {
+        Set<String> tokens = NGramTokenizer.tokenize(text);
+        if (indexedTokens.equals(tokens)) {
+            return false;
+        }
+
+        Set<String> removedTokens = new HashSet<>(indexedTokens);
+        removedTokens.removeAll(tokens);
+        if (!removedTokens.isEmpty()) {
+            searchTokenRepository.deleteTokens(field, ownerId, removedTokens);
+        }
+
+        List<SearchToken> addedTokens = tokens.stream()
+                .filter(token -> !indexedTokens.contains(token))
+                .map(token -> SearchToken.builder()
+                        .field(field)
+                        .ownerId(ownerId)
+                        .token(token)
+                        .build())
+                .collect(Collectors.toList());
+        searchTokenRepository.saveAll(addedTokens);
+        return true;
+    }
+
+    private String key(SearchField field, Long ownerId) {
+        return field.name() + ":" + ownerId;
+    }
+}
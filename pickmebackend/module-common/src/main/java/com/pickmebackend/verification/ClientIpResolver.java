@@ -0,0 +1,28 @@
+package com.pickmebackend.verification;
+
+import com.pickmebackend.properties.VerificationCodeProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * IP 별 발송 제한에 쓸 클라이언트 주소를 구한다.
+ * clientIpHeader 가 있으면 그 헤더의 마지막 값, 즉 앞단 프록시가 직접 본 주소를 쓴다. 앞쪽 값은 클라이언트가 꾸며낼 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClientIpResolver {
+
+    private final VerificationCodeProperties verificationCodeProperties;
+
+    public String resolve(HttpServletRequest request) {
+        String headerName = verificationCodeProperties.getClientIpHeader();
+        String header = StringUtils.hasText(headerName) ? request.getHeader(headerName) : null;
+        if (!StringUtils.hasText(header)) {
+            return request.getRemoteAddr();
+        }
+        String[] addresses = header.split(",");
+        return addresses[addresses.length - 1].trim();
+    }
+}
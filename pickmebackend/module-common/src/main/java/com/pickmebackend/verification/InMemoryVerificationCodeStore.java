@@ -0,0 +1,68 @@
+package com.pickmebackend.verification;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 인스턴스가 한 대일 때 쓰는 저장소. 재기동하면 보낸 인증 번호는 모두 사라진다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "verification-code", name = "store", havingValue = "memory")
+public class InMemoryVerificationCodeStore implements VerificationCodeStore {
+
+    private final ConcurrentMap<String, Entry> codes = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(String email, String code, Duration ttl) {
+        codes.put(email, new Entry(code, System.currentTimeMillis() + ttl.toMillis()));
+    }
+
+    @Override
+    public Optional<String> consume(String email) {
+        Entry entry = codes.remove(email);
+        if (entry == null || entry.isExpiredAt(System.currentTimeMillis())) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.code);
+    }
+
+    @Override
+    public boolean hasPendingCode(String email) {
+        Entry entry = codes.get(email);
+        return entry != null && !entry.isExpiredAt(System.currentTimeMillis());
+    }
+
+    @Override
+    public int deleteExpired() {
+        long now = System.currentTimeMillis();
+        int deleted = 0;
+        for (Map.Entry<String, Entry> e : codes.entrySet()) {
+            if (e.getValue().isExpiredAt(now) && codes.remove(e.getKey(), e.getValue())) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    private static class Entry {
+
+        private final String code;
+
+        private final long expiresAt;
+
+        private Entry(String code, long expiresAt) {
+            this.code = code;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpiredAt(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.pickmebackend.verification;
+
+import com.pickmebackend.domain.VerificationCode;
+import com.pickmebackend.repository.VerificationCodeRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(prefix = "verification-code", name = "store", havingValue = "jpa", matchIfMissing = true)
+public class JpaVerificationCodeStore implements VerificationCodeStore {
+
+    private final VerificationCodeRepository verificationCodeRepository;
+
+    private final TransactionTemplate requiresNew;
+
+    public JpaVerificationCodeStore(VerificationCodeRepository verificationCodeRepository, PlatformTransactionManager transactionManager) {
+        this.verificationCodeRepository = verificationCodeRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 같은 이메일로 동시에 처음 보내면 둘 다 행이 없어 넣으려 하고, 늦은 쪽은 email 유니크 제약에 걸린다.
+     * 부르는 쪽 트랜잭션이 롤백되지 않도록 따로 커밋하고, 제약에 걸리면 먼저 넣은 행을 읽어 한 번 더 덮어쓴다.
+     */
+    @Override
+    public void save(String email, String code, Duration ttl) {
+        try {
+            requiresNew.execute(status -> upsert(email, code, ttl));
+        } catch (DataIntegrityViolationException e) {
+            requiresNew.execute(status -> upsert(email, code, ttl));
+        }
+    }
+
+    private VerificationCode upsert(String email, String code, Duration ttl) {
+        VerificationCode verificationCode = verificationCodeRepository.findByEmail(email)
+                .orElseGet(() -> VerificationCode.builder().email(email).build());
+        verificationCode.setCode(code);
+        verificationCode.setExpiresAt(LocalDateTime.now().plus(ttl));
+        return verificationCodeRepository.saveAndFlush(verificationCode);
+    }
+
+    @Override
+    @Transactional
+    public Optional<String> consume(String email) {
+        Optional<VerificationCode> verificationCode = verificationCodeRepository.findByEmail(email);
+        verificationCode.ifPresent(verificationCodeRepository::delete);
+        return verificationCode
+                .filter(e -> !e.isExpiredAt(LocalDateTime.now()))
+                .map(VerificationCode::getCode);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean hasPendingCode(String email) {
+        return verificationCodeRepository.findByEmail(email)
+                .filter(e -> !e.isExpiredAt(LocalDateTime.now()))
+                .isPresent();
+    }
+
+    @Override
+    @Transactional
+    public int deleteExpired() {
+        return verificationCodeRepository.deleteExpired(LocalDateTime.now());
+    }
+}
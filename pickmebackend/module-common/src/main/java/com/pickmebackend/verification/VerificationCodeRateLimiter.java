@@ -0,0 +1,39 @@
+package com.pickmebackend.verification;
+
+import com.pickmebackend.common.TokenBucketRateLimiter;
+import com.pickmebackend.properties.VerificationCodeProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 번호 발송을 이메일마다, 요청한 IP 마다 token bucket 으로 제한한다.
+ * IP 를 먼저 확인해서 한 IP 가 여러 이메일로 요청하더라도 이메일 버킷이 끝없이 늘어나지 않게 한다.
+ * 이메일은 VerificationCodeStore.normalize 로 정규화한 값을 받는다.
+ */
+@Component
+public class VerificationCodeRateLimiter {
+
+    private final TokenBucketRateLimiter emailLimiter;
+
+    private final TokenBucketRateLimiter ipLimiter;
+
+    public VerificationCodeRateLimiter(VerificationCodeProperties verificationCodeProperties) {
+        this.emailLimiter = new TokenBucketRateLimiter(verificationCodeProperties.getEmailCapacity(),
+                verificationCodeProperties.getEmailRefillInterval().toNanos());
+        this.ipLimiter = new TokenBucketRateLimiter(verificationCodeProperties.getIpCapacity(),
+                verificationCodeProperties.getIpRefillInterval().toNanos());
+    }
+
+    public boolean tryAcquire(String email, String remoteAddress) {
+        return ipLimiter.tryAcquire(remoteAddress) && emailLimiter.tryAcquire(email);
+    }
+
+    public void evictIdle() {
+        emailLimiter.evictIdle();
+        ipLimiter.evictIdle();
+    }
+
+    public void clear() {
+        emailLimiter.clear();
+        ipLimiter.clear();
+    }
+}
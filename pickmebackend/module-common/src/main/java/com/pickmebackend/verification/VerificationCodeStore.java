@@ -0,0 +1,33 @@
+package com.pickmebackend.verification;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 이메일마다 아직 확인되지 않은 인증 번호를 하나만 보관한다. 다시 보내면 이전 번호를 덮어쓴다.
+ * 이메일은 normalize 로 정규화한 값을 넘긴다.
+ */
+public interface VerificationCodeStore {
+
+    /**
+     * 대소문자와 앞뒤 공백만 다른 이메일을 같은 키로 본다. 발송 제한도 같은 값을 쓴다.
+     */
+    static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    void save(String email, String code, Duration ttl);
+
+    /**
+     * 만료되지 않은 인증 번호를 꺼내면서 지운다. 틀린 번호로 확인하더라도 같은 번호로 다시 시도할 수 없다.
+     */
+    Optional<String> consume(String email);
+
+    boolean hasPendingCode(String email);
+
+    /**
+     * @return 지운 인증 번호의 수
+     */
+    int deleteExpired();
+}
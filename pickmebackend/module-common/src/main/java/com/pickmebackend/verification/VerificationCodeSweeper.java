@@ -0,0 +1,52 @@
+package com.pickmebackend.verification;
+
+import com.pickmebackend.properties.VerificationCodeProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 확인되지 않은 채 만료된 인증 번호와 다시 가득 찬 rate limit 버킷을 주기적으로 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VerificationCodeSweeper {
+
+    private final VerificationCodeStore verificationCodeStore;
+
+    private final VerificationCodeRateLimiter verificationCodeRateLimiter;
+
+    private final VerificationCodeProperties verificationCodeProperties;
+
+    private final TaskScheduler taskScheduler;
+
+    private ScheduledFuture<?> scheduledSweep;
+
+    @PostConstruct
+    public void start() {
+        scheduledSweep = taskScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                sweep();
+            } catch (RuntimeException e) {
+                log.warn("Verification code sweep failed", e);
+            }
+        }, Instant.now().plus(verificationCodeProperties.getSweepInterval()), verificationCodeProperties.getSweepInterval());
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduledSweep.cancel(true);
+    }
+
+    public int sweep() {
+        verificationCodeRateLimiter.evictIdle();
+        return verificationCodeStore.deleteExpired();
+    }
+}
@@ -0,0 +1,54 @@
+package com.pickmebackend.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RotatingBloomFilterTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final RotatingBloomFilter filter = new RotatingBloomFilter(10_000, 0.01, 1_000, now::get);
+
+    @Test
+    @DisplayName("window 안에서는 같은 키를 한 번만 처음 본 것으로 판단")
+    void addWithinWindow() {
+        assertThat(filter.add(1L)).isTrue();
+        assertThat(filter.add(1L)).isFalse();
+        assertThat(filter.add(2L)).isTrue();
+
+        now.set(1_500);
+        assertThat(filter.add(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("두 번의 window 가 지나면 같은 키를 다시 처음 본 것으로 판단")
+    void addAfterWindow() {
+        assertThat(filter.add(1L)).isTrue();
+
+        now.set(1_000);
+        assertThat(filter.add(1L)).isFalse();
+
+        now.set(2_000);
+        assertThat(filter.add(1L)).isTrue();
+
+        now.set(10_000);
+        assertThat(filter.add(1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("예상한 개수만큼 넣었을 때 오탐 비율이 지정한 값 근처")
+    void falsePositiveRate() {
+        LongStream.range(0, 10_000).forEach(filter::add);
+
+        long falsePositives = LongStream.range(1_000_000, 1_001_000)
+                .filter(key -> !filter.add(key))
+                .count();
+
+        assertThat(falsePositives).isLessThan(40);
+    }
+}
@@ -0,0 +1,215 @@
+package com.pickmebackend.domain.dto;
+
+import com.pickmebackend.domain.*;
+import com.pickmebackend.domain.dto.account.AccountFavoriteFlagResponseDto;
+import com.pickmebackend.domain.dto.account.AccountInitialRequestDto;
+import com.pickmebackend.domain.dto.account.AccountRequestDto;
+import com.pickmebackend.domain.dto.account.AccountResponseDto;
+import com.pickmebackend.domain.dto.enterprise.EnterpriseRequestDto;
+import com.pickmebackend.domain.dto.enterprise.EnterpriseResponseDto;
+import com.pickmebackend.domain.dto.experience.ExperienceRequestDto;
+import com.pickmebackend.domain.dto.experience.ExperienceResponseDto;
+import com.pickmebackend.domain.dto.license.LicenseRequestDto;
+import com.pickmebackend.domain.dto.license.LicenseResponseDto;
+import com.pickmebackend.domain.dto.login.LoginRequestDto;
+import com.pickmebackend.domain.dto.prize.PrizeRequestDto;
+import com.pickmebackend.domain.dto.prize.PrizeResponseDto;
+import com.pickmebackend.domain.dto.project.ProjectRequestDto;
+import com.pickmebackend.domain.dto.project.ProjectResponseDto;
+import com.pickmebackend.domain.dto.selfInterview.SelfInterviewRequestDto;
+import com.pickmebackend.domain.dto.selfInterview.SelfInterviewResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DTO 와 엔티티 사이의 매핑은 손으로 작성하므로, 어느 쪽에 필드가 추가되고 매핑이 빠지면 여기서 실패한다.
+ */
+class DtoMappingTest {
+
+    @Test
+    @DisplayName("요청 DTO 의 모든 필드가 엔티티로 옮겨진다")
+    void requestToEntity() {
+        ExperienceRequestDto experienceRequestDto = fill(new ExperienceRequestDto());
+        assertCopied(experienceRequestDto, experienceRequestDto.toEntity());
+        assertCopied(experienceRequestDto, applied(new Experience(), experienceRequestDto::applyTo));
+
+        LicenseRequestDto licenseRequestDto = fill(new LicenseRequestDto());
+        assertCopied(licenseRequestDto, licenseRequestDto.toEntity());
+        assertCopied(licenseRequestDto, applied(new License(), licenseRequestDto::applyTo));
+
+        PrizeRequestDto prizeRequestDto = fill(new PrizeRequestDto());
+        assertCopied(prizeRequestDto, prizeRequestDto.toEntity());
+        assertCopied(prizeRequestDto, applied(new Prize(), prizeRequestDto::applyTo));
+
+        ProjectRequestDto projectRequestDto = fill(new ProjectRequestDto());
+        assertCopied(projectRequestDto, projectRequestDto.toEntity());
+        assertCopied(projectRequestDto, applied(new Project(), projectRequestDto::applyTo));
+
+        SelfInterviewRequestDto selfInterviewRequestDto = fill(new SelfInterviewRequestDto());
+        assertCopied(selfInterviewRequestDto, selfInterviewRequestDto.toEntity());
+        assertCopied(selfInterviewRequestDto, applied(new SelfInterview(), selfInterviewRequestDto::applyTo));
+
+        AccountInitialRequestDto accountInitialRequestDto = fill(new AccountInitialRequestDto());
+        assertCopied(accountInitialRequestDto, accountInitialRequestDto.toEntity());
+
+        LoginRequestDto loginRequestDto = fill(new LoginRequestDto());
+        assertCopied(loginRequestDto, loginRequestDto.toEntity());
+    }
+
+    @Test
+    @DisplayName("AccountRequestDto 는 positions 와 technologies 를 제외한 필드를 유저에 옮긴다")
+    void accountRequestToEntity() {
+        AccountRequestDto accountRequestDto = fill(new AccountRequestDto());
+        assertCopied(accountRequestDto, applied(new Account(), accountRequestDto::applyTo), "positions", "technologies");
+    }
+
+    @Test
+    @DisplayName("EnterpriseRequestDto 는 기업과 기업 담당자로 나누어 옮긴다")
+    void enterpriseRequestToEntity() {
+        EnterpriseRequestDto enterpriseRequestDto = fill(new EnterpriseRequestDto());
+        assertCopied(enterpriseRequestDto, enterpriseRequestDto.toEnterprise(), "email", "password");
+        assertCopied(enterpriseRequestDto, applied(new Enterprise(), enterpriseRequestDto::applyTo), "email", "password");
+
+        Account account = enterpriseRequestDto.toAccount();
+        assertCopied(enterpriseRequestDto, account, "password", "registrationNumber", "name", "address", "ceoName");
+        assertThat(account.getNickName()).isEqualTo(enterpriseRequestDto.getName());
+    }
+
+    @Test
+    @DisplayName("응답 DTO 의 모든 필드가 엔티티에서 채워진다")
+    void entityToResponse() {
+        assertFilled(new ExperienceResponseDto(fill(new Experience())));
+        assertFilled(new LicenseResponseDto(fill(new License())));
+        assertFilled(new PrizeResponseDto(fill(new Prize())));
+        assertFilled(new ProjectResponseDto(fill(new Project())));
+        assertFilled(new SelfInterviewResponseDto(fill(new SelfInterview())));
+        assertFilled(new EnterpriseResponseDto(fill(new Enterprise()), fill(new Account())));
+        assertFilled(new AccountResponseDto(fill(new Account())));
+        assertFilled(new AccountFavoriteFlagResponseDto(fill(new Account()), true));
+    }
+
+    private static <T> T applied(T entity, Consumer<T> mapping) {
+        mapping.accept(entity);
+        return entity;
+    }
+
+    private static void assertCopied(Object source, Object destination, String... ignored) {
+        Set<String> ignoredFields = new HashSet<>(Arrays.asList(ignored));
+        for (Field field : fields(source.getClass())) {
+            if (ignoredFields.contains(field.getName())) {
+                continue;
+            }
+            Field destinationField = field(destination.getClass(), field.getName());
+            assertThat(destinationField)
+                    .as("%s.%s 에 대응하는 필드가 %s 에 없다", source.getClass().getSimpleName(), field.getName(), destination.getClass().getSimpleName())
+                    .isNotNull();
+            assertThat(read(destinationField, destination))
+                    .as("%s.%s 가 %s 로 옮겨지지 않았다", source.getClass().getSimpleName(), field.getName(), destination.getClass().getSimpleName())
+                    .isEqualTo(read(field, source));
+        }
+    }
+
+    private static void assertFilled(Object response) {
+        for (Field field : fields(response.getClass())) {
+            assertThat(read(field, response))
+                    .as("%s.%s 가 채워지지 않았다", response.getClass().getSimpleName(), field.getName())
+                    .isNotNull()
+                    .isNotEqualTo(defaultValue(field.getType()));
+        }
+    }
+
+    private static <T> T fill(T target) {
+        for (Field field : fields(target.getClass())) {
+            try {
+                field.set(target, sample(field));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return target;
+    }
+
+    private static Object sample(Field field) {
+        Class<?> type = field.getType();
+        if (type == String.class) {
+            return field.getName();
+        }
+        if (type == Long.class || type == long.class) {
+            return 1L;
+        }
+        if (type == int.class) {
+            return 1;
+        }
+        if (type == boolean.class) {
+            return true;
+        }
+        if (type == LocalDate.class) {
+            return LocalDate.of(2020, 1, 1);
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.of(2020, 1, 1, 0, 0);
+        }
+        if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        }
+        if (type == Set.class) {
+            return new HashSet<>();
+        }
+        if (type == List.class) {
+            return new ArrayList<>();
+        }
+        try {
+            return type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(field + " 에 넣을 값을 만들 수 없다", e);
+        }
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        return new Object();
+    }
+
+    private static List<Field> fields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                field.setAccessible(true);
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    private static Field field(Class<?> type, String name) {
+        return fields(type).stream()
+                .filter(field -> field.getName().equals(name))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static Object read(Field field, Object target) {
+        try {
+            return field.get(target);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
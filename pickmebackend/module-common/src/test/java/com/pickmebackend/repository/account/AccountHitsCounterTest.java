@@ -0,0 +1,83 @@
+package com.pickmebackend.repository.account;
+
+import com.pickmebackend.properties.AccountHitsProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccountHitsCounterTest {
+
+    private final ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+
+    @AfterEach
+    void tearDown() {
+        taskScheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("트랜잭션을 시작하지 못해 flush 가 실패해도 다음 주기에 다시 반영")
+    void flushAfterTransactionFailure() throws InterruptedException {
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicLong flushedHits = new AtomicLong();
+        CountDownLatch flushed = new CountDownLatch(1);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate() {
+            @Override
+            public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+                batchArgs.forEach(args -> flushedHits.addAndGet((Long) args[0]));
+                flushed.countDown();
+                return new int[batchArgs.size()];
+            }
+        };
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new AbstractPlatformTransactionManager() {
+            @Override
+            protected Object doGetTransaction() {
+                return new Object();
+            }
+
+            @Override
+            protected void doBegin(Object transaction, TransactionDefinition definition) {
+                if (attempts.incrementAndGet() == 1) {
+                    throw new CannotCreateTransactionException("Connection refused");
+                }
+            }
+
+            @Override
+            protected void doCommit(DefaultTransactionStatus status) {
+            }
+
+            @Override
+            protected void doRollback(DefaultTransactionStatus status) {
+            }
+        });
+        AccountHitsProperties accountHitsProperties = new AccountHitsProperties();
+        accountHitsProperties.setFlushInterval(Duration.ofMillis(50));
+        taskScheduler.initialize();
+        AccountHitsCounter accountHitsCounter = new AccountHitsCounter(jdbcTemplate, transactionTemplate, accountHitsProperties, taskScheduler);
+
+        accountHitsCounter.increment(1L);
+        accountHitsCounter.increment(1L);
+        accountHitsCounter.start();
+
+        assertThat(flushed.await(5, TimeUnit.SECONDS)).isTrue();
+        accountHitsCounter.stop();
+        assertThat(attempts.get()).isGreaterThanOrEqualTo(2);
+        assertThat(flushedHits.get()).isEqualTo(2L);
+        assertThat(accountHitsCounter.pending(1L)).isZero();
+    }
+}
@@ -0,0 +1,60 @@
+package com.pickmebackend.repository.account;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pickmebackend.domain.Account;
+import com.pickmebackend.domain.dto.account.AccountResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccountProfileCacheTest {
+
+    private final AccountProfileCache accountProfileCache = new AccountProfileCache(new ObjectMapper().findAndRegisterModules());
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("한 번 읽은 프로필은 다시 읽지 않음")
+    void getCached() {
+        assertThat(accountProfileCache.get(1L, () -> load("before"))).contains("before");
+        assertThat(accountProfileCache.get(1L, () -> load("after"))).contains("before");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("읽는 중에 비워진 프로필은 저장하지 않음")
+    void evictWhileLoading() {
+        String profile = accountProfileCache.get(1L, () -> {
+            AccountResponseDto before = load("before");
+            accountProfileCache.evict(1L);
+            return before;
+        });
+        assertThat(profile).contains("before");
+
+        assertThat(accountProfileCache.get(1L, () -> load("after"))).contains("after");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("clear 뒤에는 모든 프로필을 다시 읽고, 읽는 중이던 프로필은 저장하지 않음")
+    void clearWhileLoading() {
+        accountProfileCache.get(2L, () -> load("before"));
+        accountProfileCache.get(1L, () -> {
+            AccountResponseDto before = load("before");
+            accountProfileCache.clear();
+            return before;
+        });
+
+        assertThat(accountProfileCache.get(1L, () -> load("after"))).contains("after");
+        assertThat(accountProfileCache.get(2L, () -> load("after"))).contains("after");
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    private AccountResponseDto load(String nickName) {
+        loads.incrementAndGet();
+        return new AccountResponseDto(Account.builder().id(1L).nickName(nickName).build());
+    }
+}
@@ -2,15 +2,13 @@ package com.pickmebackend.annotation.account;
 
 import com.pickmebackend.common.ErrorsFormatter;
 import com.pickmebackend.domain.Account;
-import com.pickmebackend.domain.VerificationCode;
 import com.pickmebackend.domain.dto.account.AccountInitialRequestDto;
 import com.pickmebackend.domain.dto.account.AccountRequestDto;
 import com.pickmebackend.domain.dto.verificationCode.SendCodeRequestDto;
 import com.pickmebackend.domain.dto.verificationCode.VerifyCodeRequestDto;
 import com.pickmebackend.exception.UserNotFoundException;
-import com.pickmebackend.repository.VerificationCodeRepository;
-import com.pickmebackend.repository.account.AccountRepository;
 import com.pickmebackend.service.AccountService;
+import com.pickmebackend.verification.VerificationCodeStore;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -20,8 +18,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.validation.Errors;
 
 import javax.servlet.http.HttpServletRequest;
-import javax.servlet.http.HttpServletResponse;
-import java.util.Optional;
 
 import static com.pickmebackend.error.ErrorMessage.*;
 
@@ -30,13 +26,11 @@ import static com.pickmebackend.error.ErrorMessage.*;
 @RequiredArgsConstructor
 public class AccountAspect {
 
-    private final AccountRepository accountRepository;
-
     private final ErrorsFormatter errorsFormatter;
 
     private final AccountService accountService;
 
-    private final VerificationCodeRepository verificationCodeRepository;
+    private final VerificationCodeStore verificationCodeStore;
 
     @Pointcut("@annotation(com.pickmebackend.annotation.account.AccountValidation)")
     public void accountIsPresent() {}
@@ -46,8 +40,7 @@ public class AccountAspect {
         if (errors.hasErrors()) {
             return errorsFormatter.badRequest(errors);
         }
-        Optional<VerificationCode> verificationCodeOptional = this.verificationCodeRepository.findByEmail(accountDto.getEmail());
-        if (verificationCodeOptional.isPresent())   {
+        if (this.verificationCodeStore.hasPendingCode(VerificationCodeStore.normalize(accountDto.getEmail())))   {
             return errorsFormatter.badRequest(UNVERIFIED_USER.getValue());
         }
         if(accountService.isDuplicatedAccount(accountDto.getEmail()))  {
@@ -56,13 +49,13 @@ public class AccountAspect {
         return joinPoint.proceed();
     }
 
-    @Around("accountIsPresent() && args(accountId, accountDto, errors, currentUser)")
+    @Around("accountIsPresent() && args(accountId, accountDto, errors, currentUser, account)")
     public Object updateAccount(ProceedingJoinPoint joinPoint, Long accountId, AccountRequestDto accountDto, Errors errors,
-                                Account currentUser) throws Throwable {
+                                Account currentUser, Account account) throws Throwable {
         if (errors.hasErrors()) {
             return errorsFormatter.badRequest(errors);
         }
-        if (!accountRepository.findById(accountId).isPresent()) {
+        if (account == null) {
             return errorsFormatter.badRequest(USER_NOT_FOUND.getValue());
         }
         if (!accountId.equals(currentUser.getId())) {
@@ -71,9 +64,9 @@ public class AccountAspect {
         return joinPoint.proceed();
     }
 
-    @Around("accountIsPresent() && args(accountId, currentUser)")
-    public Object deleteAccount(ProceedingJoinPoint joinPoint, Long accountId, Account currentUser) throws Throwable {
-        if (!accountRepository.findById(accountId).isPresent()) {
+    @Around("accountIsPresent() && args(accountId, currentUser, account)")
+    public Object deleteAccount(ProceedingJoinPoint joinPoint, Long accountId, Account currentUser, Account account) throws Throwable {
+        if (account == null) {
             return errorsFormatter.badRequest(USER_NOT_FOUND.getValue());
         }
         if (!accountId.equals(currentUser.getId())) {
@@ -87,25 +80,21 @@ public class AccountAspect {
         if (currentUser == null) {
             return errorsFormatter.badRequest(USER_NOT_FOUND.getValue());
         }
-        Optional<Account> accountOptional = accountRepository.findById(currentUser.getId());
-        if (!accountOptional.isPresent()) {
-            return errorsFormatter.badRequest(USER_NOT_FOUND.getValue());
-        }
         return joinPoint.proceed();
     }
 
-    @Around("accountIsPresent() && args(accountId, currentUser, request, response)")
+    @Around("accountIsPresent() && args(accountId, currentUser, request, account)")
     public Object loadAccount(ProceedingJoinPoint joinPoint, Long accountId, Account currentUser,
-                              HttpServletRequest request, HttpServletResponse response) throws Throwable {
-        Optional<Account> accountOptional = accountRepository.findById(accountId);
-        if (!accountOptional.isPresent() || currentUser == null) {
+                              HttpServletRequest request, Account account) throws Throwable {
+        if (account == null || currentUser == null) {
             return errorsFormatter.badRequest(USER_NOT_FOUND.getValue());
         }
         return joinPoint.proceed();
     }
 
-    @Around("accountIsPresent() && args(sendCodeRequestDto, errors)")
-    public Object sendVerificationCode(ProceedingJoinPoint joinPoint, SendCodeRequestDto sendCodeRequestDto, Errors errors) throws Throwable {
+    @Around("accountIsPresent() && args(sendCodeRequestDto, errors, request)")
+    public Object sendVerificationCode(ProceedingJoinPoint joinPoint, SendCodeRequestDto sendCodeRequestDto, Errors errors,
+                                       HttpServletRequest request) throws Throwable {
         if(errors.hasErrors())  {
             return errorsFormatter.badRequest(errors);
         }
@@ -3,8 +3,6 @@ package com.pickmebackend.annotation.enterprise;
 import com.pickmebackend.common.ErrorsFormatter;
 import com.pickmebackend.domain.Account;
 import com.pickmebackend.domain.dto.enterprise.EnterpriseRequestDto;
-import com.pickmebackend.error.ErrorMessage;
-import com.pickmebackend.repository.account.AccountRepository;
 import com.pickmebackend.service.EnterpriseService;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -16,8 +14,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.Errors;
 
-import java.util.Optional;
-
 import static com.pickmebackend.error.ErrorMessage.*;
 
 @RequiredArgsConstructor
@@ -29,18 +25,12 @@ public class EnterpriseAspect {
 
     private final ErrorsFormatter errorsFormatter;
 
-    private final AccountRepository accountRepository;
-
     @Pointcut("@annotation(com.pickmebackend.annotation.enterprise.EnterpriseValidation)")
     public void enterpriseValidation() {}
 
-    @Around("enterpriseValidation() && args(enterpriseId)")
-    public Object loadEnterprise(ProceedingJoinPoint joinPoint, Long enterpriseId) throws Throwable {
-        if(enterpriseService.isNonEnterprise(enterpriseId)) {
-            return errorsFormatter.badRequest(USER_NOT_FOUND.getValue());
-        }
-        Optional<Account> accountOptional = this.accountRepository.findById(enterpriseId);
-        if (!accountOptional.isPresent()) {
+    @Around("enterpriseValidation() && args(enterpriseId, account)")
+    public Object loadEnterprise(ProceedingJoinPoint joinPoint, Long enterpriseId, Account account) throws Throwable {
+        if (account == null) {
             return errorsFormatter.badRequest(USER_NOT_FOUND.getValue());
         }
         return joinPoint.proceed();
@@ -58,37 +48,30 @@ public class EnterpriseAspect {
         return joinPoint.proceed();
     }
 
-    @Around("enterpriseValidation() && args(enterpriseId, enterpriseRequestDto, errors, currentUser)")
+    @Around("enterpriseValidation() && args(enterpriseId, enterpriseRequestDto, errors, currentUser, account)")
     public Object updateEnterprise(ProceedingJoinPoint joinPoint, Long enterpriseId,
-                                   EnterpriseRequestDto enterpriseRequestDto, Errors errors, Account currentUser) throws Throwable {
+                                   EnterpriseRequestDto enterpriseRequestDto, Errors errors, Account currentUser,
+                                   Account account) throws Throwable {
         if(errors.hasErrors())  {
             return errorsFormatter.badRequest(errors);
         }
-        if(enterpriseService.isNonEnterprise(enterpriseId)) {
+        if (account == null) {
             return errorsFormatter.badRequest(USER_NOT_FOUND.getValue());
         }
-        Optional<Account> accountOptional = this.accountRepository.findById(enterpriseId);
         if (!enterpriseId.equals(currentUser.getId())) {
             return errorsFormatter.badRequest(UNAUTHORIZED_USER.getValue());
         }
-        if (!accountOptional.isPresent()) {
-            return errorsFormatter.badRequest(USER_NOT_FOUND.getValue());
-        }
         return joinPoint.proceed();
     }
 
-    @Around("enterpriseValidation() && args(enterpriseId, currentUser)")
-    public Object deleteEnterprise(ProceedingJoinPoint joinPoint, Long enterpriseId, Account currentUser) throws Throwable {
-        if (enterpriseService.isNonEnterprise(enterpriseId)) {
+    @Around("enterpriseValidation() && args(enterpriseId, currentUser, account)")
+    public Object deleteEnterprise(ProceedingJoinPoint joinPoint, Long enterpriseId, Account currentUser, Account account) throws Throwable {
+        if (account == null) {
             return errorsFormatter.badRequest(USER_NOT_FOUND.getValue());
         }
         if (!enterpriseId.equals(currentUser.getId())) {
             return errorsFormatter.badRequest(UNAUTHORIZED_USER.getValue());
         }
-        Optional<Account> optionalAccount = this.accountRepository.findById(enterpriseId);
-        if (!optionalAccount.isPresent()) {
-            return errorsFormatter.badRequest(USER_NOT_FOUND.getValue());
-        }
         return joinPoint.proceed();
     }
 
@@ -5,7 +5,6 @@ import com.pickmebackend.common.ErrorsFormatter;
 import com.pickmebackend.domain.Account;
 import com.pickmebackend.domain.Experience;
 import com.pickmebackend.domain.dto.experience.ExperienceRequestDto;
-import com.pickmebackend.repository.ExperienceRepository;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -16,8 +15,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.annotation.RequestBody;
 
-import java.util.Optional;
-
 import static com.pickmebackend.error.ErrorMessage.EXPERIENCE_NOT_FOUND;
 import static com.pickmebackend.error.ErrorMessage.UNAUTHORIZED_USER;
 
@@ -26,36 +23,29 @@ import static com.pickmebackend.error.ErrorMessage.UNAUTHORIZED_USER;
 @Aspect
 public class ExperienceAspect {
 
-    private final ExperienceRepository experienceRepository;
-
     private final ErrorsFormatter errorsFormatter;
 
     @Pointcut("@annotation(ExperienceValidation)")
     public void experienceValidation() {}
 
-    @Around("experienceValidation() && args(experienceId, experienceRequestDto, currentUser)")
+    @Around("experienceValidation() && args(experienceId, experienceRequestDto, currentUser, experience)")
     public Object updateExperience(ProceedingJoinPoint joinPoint, Long experienceId,
-                                   ExperienceRequestDto experienceRequestDto, Account currentUser) throws Throwable {
-        Optional<Experience> experienceOptional = this.experienceRepository.findById(experienceId);
-        if (!experienceOptional.isPresent()) {
+                                   ExperienceRequestDto experienceRequestDto, Account currentUser,
+                                   Experience experience) throws Throwable {
+        if (experience == null) {
             return errorsFormatter.badRequest(EXPERIENCE_NOT_FOUND.getValue());
         }
-
-        Experience experience = experienceOptional.get();
         if (!experience.getAccount().getId().equals(currentUser.getId())) {
             return errorsFormatter.badRequest(UNAUTHORIZED_USER.getValue());
         }
         return joinPoint.proceed();
     }
 
-    @Around("experienceValidation() && args(experienceId, currentUser)")
-    public Object deleteExperience(ProceedingJoinPoint joinPoint, Long experienceId, Account currentUser) throws Throwable {
-        Optional<Experience> experienceOptional = this.experienceRepository.findById(experienceId);
-        if (!experienceOptional.isPresent()) {
+    @Around("experienceValidation() && args(experienceId, currentUser, experience)")
+    public Object deleteExperience(ProceedingJoinPoint joinPoint, Long experienceId, Account currentUser, Experience experience) throws Throwable {
+        if (experience == null) {
             return errorsFormatter.badRequest(EXPERIENCE_NOT_FOUND.getValue());
         }
-
-        Experience experience = experienceOptional.get();
         if (!experience.getAccount().getId().equals(currentUser.getId())) {
             return errorsFormatter.badRequest(UNAUTHORIZED_USER.getValue());
         }
@@ -4,7 +4,6 @@ import com.pickmebackend.common.ErrorsFormatter;
 import com.pickmebackend.domain.Account;
 import com.pickmebackend.domain.License;
 import com.pickmebackend.domain.dto.license.LicenseRequestDto;
-import com.pickmebackend.repository.LicenseRepository;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -12,8 +11,6 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
-
 import static com.pickmebackend.error.ErrorMessage.LICENSE_NOT_FOUND;
 import static com.pickmebackend.error.ErrorMessage.UNAUTHORIZED_USER;
 
@@ -22,36 +19,29 @@ import static com.pickmebackend.error.ErrorMessage.UNAUTHORIZED_USER;
 @Aspect
 public class LicenseAspect {
 
-    private final LicenseRepository licenseRepository;
-
     private final ErrorsFormatter errorsFormatter;
 
     @Pointcut("@annotation(LicenseValidation)")
     public void licenseValidation() {}
 
-    @Around("licenseValidation() && args(licenseId, licenseRequestDto, currentUser)")
+    @Around("licenseValidation() && args(licenseId, licenseRequestDto, currentUser, license)")
     public Object updateLicense(ProceedingJoinPoint joinPoint, Long licenseId,
-                                   LicenseRequestDto licenseRequestDto, Account currentUser) throws Throwable {
-        Optional<License> licenseOptional = this.licenseRepository.findById(licenseId);
-        if (!licenseOptional.isPresent()) {
+                                   LicenseRequestDto licenseRequestDto, Account currentUser,
+                                   License license) throws Throwable {
+        if (license == null) {
             return errorsFormatter.badRequest(LICENSE_NOT_FOUND.getValue());
         }
-
-        License license = licenseOptional.get();
         if (!license.getAccount().getId().equals(currentUser.getId())) {
             return errorsFormatter.badRequest(UNAUTHORIZED_USER.getValue());
         }
         return joinPoint.proceed();
     }
 
-    @Around("licenseValidation() && args(licenseId, currentUser)")
-    public Object deleteLicense(ProceedingJoinPoint joinPoint, Long licenseId, Account currentUser) throws Throwable {
-        Optional<License> licenseOptional = this.licenseRepository.findById(licenseId);
-        if (!licenseOptional.isPresent()) {
+    @Around("licenseValidation() && args(licenseId, currentUser, license)")
+    public Object deleteLicense(ProceedingJoinPoint joinPoint, Long licenseId, Account currentUser, License license) throws Throwable {
+        if (license == null) {
             return errorsFormatter.badRequest(LICENSE_NOT_FOUND.getValue());
         }
-
-        License license = licenseOptional.get();
         if (!license.getAccount().getId().equals(currentUser.getId())) {
             return errorsFormatter.badRequest(UNAUTHORIZED_USER.getValue());
         }
@@ -4,7 +4,6 @@ import com.pickmebackend.common.ErrorsFormatter;
 import com.pickmebackend.domain.Account;
 import com.pickmebackend.domain.Prize;
 import com.pickmebackend.domain.dto.prize.PrizeRequestDto;
-import com.pickmebackend.repository.PrizeRepository;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -12,8 +11,6 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
-
 import static com.pickmebackend.error.ErrorMessage.PRIZE_NOT_FOUND;
 import static com.pickmebackend.error.ErrorMessage.UNAUTHORIZED_USER;
 
@@ -22,36 +19,29 @@ import static com.pickmebackend.error.ErrorMessage.UNAUTHORIZED_USER;
 @Aspect
 public class PrizeAspect {
 
-    private final PrizeRepository prizeRepository;
-
     private final ErrorsFormatter errorsFormatter;
 
     @Pointcut("@annotation(PrizeValidation)")
     public void prizeValidation() {}
 
-    @Around("prizeValidation() && args(prizeId, prizeRequestDto, currentUser)")
+    @Around("prizeValidation() && args(prizeId, prizeRequestDto, currentUser, prize)")
     public Object updatePrize(ProceedingJoinPoint joinPoint, Long prizeId,
-                              PrizeRequestDto prizeRequestDto, Account currentUser) throws Throwable {
-        Optional<Prize> prizeOptional = this.prizeRepository.findById(prizeId);
-        if (!prizeOptional.isPresent()) {
+                              PrizeRequestDto prizeRequestDto, Account currentUser,
+                              Prize prize) throws Throwable {
+        if (prize == null) {
             return errorsFormatter.badRequest(PRIZE_NOT_FOUND.getValue());
         }
-
-        Prize prize = prizeOptional.get();
         if (!prize.getAccount().getId().equals(currentUser.getId())) {
             return errorsFormatter.badRequest(UNAUTHORIZED_USER.getValue());
         }
         return joinPoint.proceed();
     }
 
-    @Around("prizeValidation() && args(prizeId, currentUser)")
-    public Object deletePrize(ProceedingJoinPoint joinPoint, Long prizeId, Account currentUser) throws Throwable {
-        Optional<Prize> prizeOptional = this.prizeRepository.findById(prizeId);
-        if (!prizeOptional.isPresent()) {
+    @Around("prizeValidation() && args(prizeId, currentUser, prize)")
+    public Object deletePrize(ProceedingJoinPoint joinPoint, Long prizeId, Account currentUser, Prize prize) throws Throwable {
+        if (prize == null) {
             return errorsFormatter.badRequest(PRIZE_NOT_FOUND.getValue());
         }
-
-        Prize prize = prizeOptional.get();
         if (!prize.getAccount().getId().equals(currentUser.getId())) {
             return errorsFormatter.badRequest(UNAUTHORIZED_USER.getValue());
         }
@@ -0,0 +1,25 @@
+package com.pickmebackend.annotation.resolve;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * path variable 의 식별자로 엔티티를 읽어 컨트롤러 파라미터로 넘긴다. 없는 식별자면 null 이 넘어간다.
+ * 검증 aspect 는 같은 인자를 받아 존재 여부와 권한을 확인하므로, 한 요청에서 엔티티를 한 번만 읽는다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ResolvedEntity {
+
+    /**
+     * 식별자를 담은 path variable 이름
+     */
+    String value();
+
+    /**
+     * 함께 읽어 올 entity graph 이름. 비어 있으면 엔티티만 읽는다.
+     */
+    String graph() default "";
+}
@@ -0,0 +1,87 @@
+package com.pickmebackend.annotation.resolve;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link ResolvedEntity} 파라미터를 채운다. 읽은 엔티티는 요청 속성에 (타입, 식별자) 로 남겨 두어
+ * 같은 요청에서 다시 필요하면 조회 없이 돌려준다. open-in-view 로 요청 동안 유지되는 영속성 컨텍스트에서 읽으므로
+ * 컨트롤러와 서비스가 받은 엔티티의 지연 로딩도 그대로 동작한다.
+ */
+@Component
+public class ResolvedEntityArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private static final String LOAD_GRAPH = "javax.persistence.loadgraph";
+
+    private static final String RESOLVED_ENTITIES = ResolvedEntityArgumentResolver.class.getName() + ".RESOLVED_ENTITIES";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(ResolvedEntity.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        ResolvedEntity resolvedEntity = parameter.getParameterAnnotation(ResolvedEntity.class);
+        Long id = pathVariable(webRequest, resolvedEntity.value());
+        if (id == null) {
+            return null;
+        }
+
+        Map<String, Object> resolvedEntities = resolvedEntities(webRequest);
+        String key = parameter.getParameterType().getName() + "#" + id;
+        if (resolvedEntities.containsKey(key)) {
+            return resolvedEntities.get(key);
+        }
+        Object entity = find(parameter.getParameterType(), id, resolvedEntity.graph());
+        resolvedEntities.put(key, entity);
+        return entity;
+    }
+
+    private Object find(Class<?> type, Long id, String graph) {
+        if (graph.isEmpty()) {
+            return entityManager.find(type, id);
+        }
+        return entityManager.find(type, id, Collections.singletonMap(LOAD_GRAPH, entityManager.getEntityGraph(graph)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Long pathVariable(NativeWebRequest webRequest, String name) {
+        Map<String, String> uriVariables = (Map<String, String>) webRequest.getAttribute(
+                HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (uriVariables == null || uriVariables.get(name) == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(uriVariables.get(name));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> resolvedEntities(NativeWebRequest webRequest) {
+        Map<String, Object> resolvedEntities = (Map<String, Object>) webRequest.getAttribute(RESOLVED_ENTITIES, RequestAttributes.SCOPE_REQUEST);
+        if (resolvedEntities == null) {
+            resolvedEntities = new HashMap<>();
+            webRequest.setAttribute(RESOLVED_ENTITIES, resolvedEntities, RequestAttributes.SCOPE_REQUEST);
+        }
+        return resolvedEntities;
+    }
+}
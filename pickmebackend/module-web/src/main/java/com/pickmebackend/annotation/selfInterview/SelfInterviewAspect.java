@@ -4,7 +4,6 @@ import com.pickmebackend.common.ErrorsFormatter;
 import com.pickmebackend.domain.Account;
 import com.pickmebackend.domain.SelfInterview;
 import com.pickmebackend.domain.dto.selfInterview.SelfInterviewRequestDto;
-import com.pickmebackend.repository.SelfInterviewRepository;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -12,8 +11,6 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
-
 import static com.pickmebackend.error.ErrorMessage.SELF_INTERVIEW_NOT_FOUND;
 import static com.pickmebackend.error.ErrorMessage.UNAUTHORIZED_USER;
 
@@ -22,36 +19,29 @@ import static com.pickmebackend.error.ErrorMessage.UNAUTHORIZED_USER;
 @Aspect
 public class SelfInterviewAspect {
 
-    private final SelfInterviewRepository selfInterviewRepository;
-
     private final ErrorsFormatter errorsFormatter;
 
     @Pointcut("@annotation(SelfInterviewValidation)")
     public void selfInterviewValidation() {}
 
-    @Around("selfInterviewValidation() && args(selfInterviewId, selfInterviewRequestDto, currentUser)")
+    @Around("selfInterviewValidation() && args(selfInterviewId, selfInterviewRequestDto, currentUser, selfInterview)")
     public Object updateSelfInterview(ProceedingJoinPoint joinPoint, Long selfInterviewId,
-                                      SelfInterviewRequestDto selfInterviewRequestDto, Account currentUser) throws Throwable {
-        Optional<SelfInterview> selfInterviewOptional = this.selfInterviewRepository.findById(selfInterviewId);
-        if (!selfInterviewOptional.isPresent()) {
+                                      SelfInterviewRequestDto selfInterviewRequestDto, Account currentUser,
+                                      SelfInterview selfInterview) throws Throwable {
+        if (selfInterview == null) {
             return errorsFormatter.badRequest(SELF_INTERVIEW_NOT_FOUND.getValue());
         }
-
-        SelfInterview selfInterview = selfInterviewOptional.get();
         if (!selfInterview.getAccount().getId().equals(currentUser.getId())) {
             return errorsFormatter.badRequest(UNAUTHORIZED_USER.getValue());
         }
         return joinPoint.proceed();
     }
 
-    @Around("selfInterviewValidation() && args(selfInterviewId, currentUser)")
-    public Object deleteSelfInterview(ProceedingJoinPoint joinPoint, Long selfInterviewId, Account currentUser) throws Throwable {
-        Optional<SelfInterview> selfInterviewOptional = this.selfInterviewRepository.findById(selfInterviewId);
-        if (!selfInterviewOptional.isPresent()) {
+    @Around("selfInterviewValidation() && args(selfInterviewId, currentUser, selfInterview)")
+    public Object deleteSelfInterview(ProceedingJoinPoint joinPoint, Long selfInterviewId, Account currentUser, SelfInterview selfInterview) throws Throwable {
+        if (selfInterview == null) {
             return errorsFormatter.badRequest(SELF_INTERVIEW_NOT_FOUND.getValue());
         }
-
-        SelfInterview selfInterview = selfInterviewOptional.get();
         if (!selfInterview.getAccount().getId().equals(currentUser.getId())) {
             return errorsFormatter.badRequest(UNAUTHORIZED_USER.getValue());
         }
@@ -2,6 +2,8 @@ package com.pickmebackend.controller;
 
 import com.pickmebackend.annotation.account.AccountValidation;
 import com.pickmebackend.annotation.account.CurrentUser;
+import com.pickmebackend.annotation.resolve.ResolvedEntity;
+import com.pickmebackend.common.ErrorsFormatter;
 import com.pickmebackend.domain.Account;
 import com.pickmebackend.domain.dto.account.*;
 import com.pickmebackend.domain.dto.verificationCode.SendCodeRequestDto;
@@ -9,28 +11,37 @@ import com.pickmebackend.domain.dto.verificationCode.VerifyCodeRequestDto;
 import com.pickmebackend.exception.CodeNotExist;
 import com.pickmebackend.exception.UserNotFoundException;
 import com.pickmebackend.repository.account.AccountRepository;
+import com.pickmebackend.resource.AccountCardResource;
 import com.pickmebackend.resource.AccountFavoriteFlagResource;
 import com.pickmebackend.resource.AccountResource;
+import com.pickmebackend.resource.AccountSliceResource;
 import com.pickmebackend.resource.HateoasFormatter;
+import com.pickmebackend.resource.ItemLinkTemplate;
 import com.pickmebackend.service.AccountService;
+import com.pickmebackend.verification.ClientIpResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import javax.servlet.http.HttpServletRequest;
-import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
+import static com.pickmebackend.error.ErrorMessage.INVALID_CURSOR;
 import static com.pickmebackend.properties.RestDocsConstants.*;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 
@@ -45,13 +56,16 @@ public class AccountController {
 
     private final HateoasFormatter hateoasFormatter;
 
+    private final ErrorsFormatter errorsFormatter;
+
+    private final ClientIpResolver clientIpResolver;
+
     @GetMapping("/profile")
     @AccountValidation
     public ResponseEntity<?> loadProfile(@CurrentUser Account currentUser) throws UserNotFoundException {
-        Optional<Account> accountOptional = accountRepository.findById(currentUser.getId());
+        Optional<Account> accountOptional = accountRepository.findWithProfileById(currentUser.getId());
         Account account = accountOptional.orElseThrow(UserNotFoundException::new);
         AccountResponseDto accountResponseDto = accountService.loadProfile(account);
-        accountResponseDto.setFavoriteCount(account.getFavorite().size());
 
         WebMvcLinkBuilder selfLinkBuilder = linkTo(AccountController.class).slash(accountResponseDto.getId());
         AccountResource accountResource = new AccountResource(accountResponseDto);
@@ -64,11 +78,9 @@ public class AccountController {
 
     @GetMapping("/{accountId}")
     @AccountValidation
-    public ResponseEntity<?> loadAccount(@PathVariable Long accountId, @CurrentUser Account currentUser,
-                                         HttpServletRequest request, HttpServletResponse response) throws UserNotFoundException {
-        Optional<Account> accountOptional = accountRepository.findById(accountId);
-        Account account = accountOptional.orElseThrow(UserNotFoundException::new);
-        AccountFavoriteFlagResponseDto accountResponseDto = accountService.loadAccount(accountId, account, request, response, currentUser);
+    public ResponseEntity<?> loadAccount(@PathVariable Long accountId, @CurrentUser Account currentUser, HttpServletRequest request,
+                                         @ResolvedEntity("accountId") Account account) {
+        CachedAccountResponseDto accountResponseDto = accountService.loadAccount(accountId, account, currentUser);
 
         AccountFavoriteFlagResource accountResource = new AccountFavoriteFlagResource(accountResponseDto);
         hateoasFormatter.addProfileRel(accountResource, "resources-account-load");
@@ -82,9 +94,13 @@ public class AccountController {
                                              @RequestParam(required = false) String career,
                                              @RequestParam(required = false) String positions,
                                              @RequestParam(required = false) String technology,
+                                             @RequestParam(required = false) String technologyMatch,
                                              @RequestParam(required = false) String orderBy,
+                                             @RequestParam(required = false) String cursor,
+                                             @RequestParam(defaultValue = "false") boolean count,
                                              Pageable pageable,
-                                             PagedResourcesAssembler<Account> assembler)    {
+                                             PagedResourcesAssembler<AccountCardResponseDto> assembler,
+                                             HttpServletRequest request)    {
 
         AccountFilteringRequestDto accountFilteringRequestDto = AccountFilteringRequestDto.builder()
                 .nickName(nickName)
@@ -92,25 +108,80 @@ public class AccountController {
                 .career(career)
                 .position(positions)
                 .technology(technology)
+                .technologyMatch(technologyMatch)
                 .orderBy(orderBy)
                 .build();
 
-        Page<Account> filteredAccount = accountService.loadAccountsWithFilter(accountFilteringRequestDto, pageable);
-        PagedModel<AccountResource> accountResources = assembler.toModel(filteredAccount, e -> new AccountResource(new AccountResponseDto(e)));
-        accountResources.add(new Link("/docs/index.html#resources-accounts-load").withRel(PROFILE.getValue()));
+        ItemLinkTemplate itemLinks = hateoasFormatter.itemLinks(AccountController.class, request);
+        if (cursor != null) {
+            return loadAccountsWithCursor(accountFilteringRequestDto, cursor, count, pageable.getPageSize(), itemLinks);
+        }
+
+        Page<AccountCardResponseDto> filteredAccount = accountService.loadAccountsWithFilter(accountFilteringRequestDto, pageable);
+        PagedModel<AccountCardResource> accountResources = assembler.toModel(filteredAccount,
+                accountCard -> new AccountCardResource(accountCard, itemLinks.linksOf(accountCard.getId())));
+        hateoasFormatter.addProfileRel(accountResources, "resources-accounts-load");
+
+        return ResponseEntity.ok().header(HttpHeaders.VARY, HttpHeaders.ACCEPT).body(accountResources);
+    }
 
-        return new ResponseEntity<>(accountResources, HttpStatus.OK);
+    private ResponseEntity<?> loadAccountsWithCursor(AccountFilteringRequestDto accountFilteringRequestDto, String cursor, boolean count, int size,
+                                                     ItemLinkTemplate itemLinks) {
+        AccountCursor accountCursor = null;
+        if (!cursor.isEmpty()) {
+            try {
+                accountCursor = AccountCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                return errorsFormatter.badRequest(INVALID_CURSOR.getValue());
+            }
+            if (!accountCursor.matches(accountFilteringRequestDto.getOrderBy())) {
+                return errorsFormatter.badRequest(INVALID_CURSOR.getValue());
+            }
+        }
+
+        Slice<AccountCardResponseDto> filteredAccount = accountService.loadAccountsWithCursor(accountFilteringRequestDto, accountCursor, size);
+        List<AccountCardResource> accountResources = filteredAccount.getContent().stream()
+                .map(accountCard -> new AccountCardResource(accountCard, itemLinks.linksOf(accountCard.getId())))
+                .collect(Collectors.toList());
+        String nextCursor = filteredAccount.hasNext()
+                ? AccountCursor.of(filteredAccount.getContent().get(filteredAccount.getNumberOfElements() - 1), accountFilteringRequestDto.getOrderBy()).encode()
+                : null;
+        Long totalElements = count ? accountService.countAccountsWithFilter(accountFilteringRequestDto) : null;
+
+        AccountSliceResource accountSliceResource = new AccountSliceResource(accountResources, nextCursor, totalElements);
+        accountSliceResource.add(new Link(ServletUriComponentsBuilder.fromCurrentRequest().toUriString()).withSelfRel());
+        if (nextCursor != null) {
+            accountSliceResource.add(new Link(ServletUriComponentsBuilder.fromCurrentRequest().replaceQueryParam("cursor", nextCursor).toUriString()).withRel("next"));
+        }
+        hateoasFormatter.addProfileRel(accountSliceResource, "resources-accounts-load");
+
+        return ResponseEntity.ok().header(HttpHeaders.VARY, HttpHeaders.ACCEPT).body(accountSliceResource);
     }
 
+    /**
+     * 좋아요를 누른 유저 목록은 본문에 그대로 담고, 다음 페이지가 있으면 Link 헤더에 rel="next" 로 커서를 넘긴다.
+     */
     @GetMapping("/{accountId}/favorite")
-    public ResponseEntity<?> getFavoriteUsers(@PathVariable Long accountId) throws UserNotFoundException {
-        return accountService.getFavoriteUsers(accountId);
+    public ResponseEntity<?> getFavoriteUsers(@PathVariable Long accountId, @RequestParam(required = false) Long cursor,
+                                              Pageable pageable) throws UserNotFoundException {
+        Slice<AccountListResponseDto> favoriters = accountService.getFavoriteUsers(accountId, cursor, pageable.getPageSize());
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (favoriters.hasNext()) {
+            Long nextCursor = favoriters.getContent().get(favoriters.getNumberOfElements() - 1).getId();
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", nextCursor)
+                    .replaceQueryParam("page")
+                    .toUriString();
+            response.header(HttpHeaders.LINK, new Link(next).withRel("next").toString());
+        }
+        return response.body(favoriters.getContent());
     }
 
     @PostMapping("/sendCode")
     @AccountValidation
-    public ResponseEntity<?> sendVerificationCode(@RequestBody SendCodeRequestDto sendCodeRequestDto, Errors errors) {
-        return accountService.sendVerificationCode(sendCodeRequestDto.getEmail());
+    public ResponseEntity<?> sendVerificationCode(@RequestBody SendCodeRequestDto sendCodeRequestDto, Errors errors,
+                                                  HttpServletRequest request) {
+        return accountService.sendVerificationCode(sendCodeRequestDto.getEmail(), clientIpResolver.resolve(request));
     }
 
     @PostMapping
@@ -139,9 +210,9 @@ public class AccountController {
     @PutMapping("/{accountId}")
     @AccountValidation
     public ResponseEntity<?> updateAccount(@PathVariable Long accountId, @Valid @RequestBody AccountRequestDto accountDto, Errors errors,
-                                           @CurrentUser Account currentUser) throws UserNotFoundException {
-        Optional<Account> accountOptional = accountRepository.findById(accountId);
-        AccountResponseDto accountResponseDto = accountService.updateAccount(accountOptional.orElseThrow(UserNotFoundException::new), accountDto);
+                                           @CurrentUser Account currentUser,
+                                           @ResolvedEntity(value = "accountId", graph = "Account.profile") Account account) {
+        AccountResponseDto accountResponseDto = accountService.updateAccount(account, accountDto);
 
         WebMvcLinkBuilder selfLinkBuilder = linkTo(AccountController.class).slash(accountResponseDto.getId());
         AccountResource accountResource = new AccountResource(accountResponseDto);
@@ -153,9 +224,9 @@ public class AccountController {
 
     @DeleteMapping("/{accountId}")
     @AccountValidation
-    public ResponseEntity<?> deleteAccount(@PathVariable Long accountId, @CurrentUser Account currentUser) {
-        Optional<Account> accountOptional = accountRepository.findById(accountId);
-        AccountResponseDto accountResponseDto = accountService.deleteAccount(accountOptional.get());
+    public ResponseEntity<?> deleteAccount(@PathVariable Long accountId, @CurrentUser Account currentUser,
+                                           @ResolvedEntity(value = "accountId", graph = "Account.profile") Account account) {
+        AccountResponseDto accountResponseDto = accountService.deleteAccount(account);
         AccountResource accountResource = new AccountResource(accountResponseDto);
         accountResource.add(linkTo(LoginController.class).withRel(LOGIN_ACCOUNT.getValue()));
         hateoasFormatter.addProfileRel(accountResource, "resources-account-delete");
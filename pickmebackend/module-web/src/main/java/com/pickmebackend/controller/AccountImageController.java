@@ -8,6 +8,8 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 
 @RestController
 @RequestMapping(value = "/api/images")
@@ -22,7 +24,8 @@ public class AccountImageController {
     }
 
     @GetMapping(value = "/{imageName:.+}")
-    public ResponseEntity<?> getImage(@PathVariable String imageName, HttpServletRequest request) {
-        return accountImageService.loadAsResource(imageName, request);
+    public ResponseEntity<?> getImage(@PathVariable String imageName, @RequestParam(defaultValue = "original") String size,
+                                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        return accountImageService.serveImage(imageName, size, request, response);
     }
 }
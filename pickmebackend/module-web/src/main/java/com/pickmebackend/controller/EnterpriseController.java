@@ -3,30 +3,34 @@ package com.pickmebackend.controller;
 import com.pickmebackend.annotation.account.AccountValidation;
 import com.pickmebackend.annotation.account.CurrentUser;
 import com.pickmebackend.annotation.enterprise.EnterpriseValidation;
+import com.pickmebackend.annotation.resolve.ResolvedEntity;
+import com.pickmebackend.common.ErrorsFormatter;
 import com.pickmebackend.domain.Account;
 import com.pickmebackend.domain.Enterprise;
 import com.pickmebackend.domain.dto.enterprise.EnterpriseFilterRequestDto;
 import com.pickmebackend.domain.dto.enterprise.EnterpriseRequestDto;
 import com.pickmebackend.domain.dto.enterprise.EnterpriseResponseDto;
+import com.pickmebackend.domain.dto.enterprise.SuggestionRequestDto;
 import com.pickmebackend.exception.UserNotFoundException;
 import com.pickmebackend.repository.account.AccountRepository;
 import com.pickmebackend.resource.EnterpriseResource;
 import com.pickmebackend.resource.HateoasFormatter;
+import com.pickmebackend.resource.ItemLinkTemplate;
 import com.pickmebackend.service.EnterpriseService;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedResourcesAssembler;
-import org.springframework.hateoas.Link;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import java.util.Optional;
 
@@ -42,14 +46,14 @@ public class EnterpriseController {
 
     private final AccountRepository accountRepository;
 
-    private final ModelMapper modelMapper;
-
     private final HateoasFormatter hateoasFormatter;
 
+    private final ErrorsFormatter errorsFormatter;
+
     @GetMapping("/profile")
     @AccountValidation
     public ResponseEntity<?> loadProfile(@CurrentUser Account currentUser) throws UserNotFoundException {
-        Optional<Account> accountOptional = accountRepository.findById(currentUser.getId());
+        Optional<Account> accountOptional = accountRepository.findWithEnterpriseById(currentUser.getId());
         Account account = accountOptional.orElseThrow(UserNotFoundException::new);
         EnterpriseResponseDto enterpriseResponseDto = enterpriseService.loadProfile(account);
 
@@ -63,9 +67,8 @@ public class EnterpriseController {
 
     @GetMapping("/{enterpriseId}")
     @EnterpriseValidation
-    public ResponseEntity<?> loadEnterprise(@PathVariable Long enterpriseId) {
-        Optional<Account> accountOptional = this.accountRepository.findById(enterpriseId);
-        Account account = accountOptional.get();
+    public ResponseEntity<?> loadEnterprise(@PathVariable Long enterpriseId,
+                                            @ResolvedEntity(value = "enterpriseId", graph = "Account.enterprise") Account account) {
         EnterpriseResponseDto enterpriseResponseDto = enterpriseService.loadEnterprise(account);
         EnterpriseResource enterpriseResource = new EnterpriseResource(enterpriseResponseDto);
         hateoasFormatter.addProfileRel(enterpriseResource, "resources-enterprise-load");
@@ -77,7 +80,8 @@ public class EnterpriseController {
     public ResponseEntity<?> loadEnterprisesWithFilter(@RequestParam(required = false) String name,
                                               @RequestParam(required = false) String address,
                                               Pageable pageable,
-                                              PagedResourcesAssembler<Enterprise> assembler)    {
+                                              PagedResourcesAssembler<Enterprise> assembler,
+                                              HttpServletRequest request)    {
 
         EnterpriseFilterRequestDto enterpriseFilterRequestDto = EnterpriseFilterRequestDto
                 .builder()
@@ -86,10 +90,11 @@ public class EnterpriseController {
                 .build();
 
         Page<Enterprise> filteredEnterprises = enterpriseService.loadEnterprisesWithFilter(enterpriseFilterRequestDto, pageable);
-        PagedModel<EnterpriseResource> enterpriseResources = getEnterpriseResources(assembler, filteredEnterprises);
-        enterpriseResources.add(new Link("/docs/index.html#resources-enterprises-load").withRel(PROFILE.getValue()));
+        ItemLinkTemplate itemLinks = hateoasFormatter.itemLinks(EnterpriseController.class, request);
+        PagedModel<EnterpriseResource> enterpriseResources = getEnterpriseResources(assembler, filteredEnterprises, itemLinks);
+        hateoasFormatter.addProfileRel(enterpriseResources, "resources-enterprises-load");
 
-        return new ResponseEntity<>(enterpriseResources, HttpStatus.OK);
+        return ResponseEntity.ok().header(HttpHeaders.VARY, HttpHeaders.ACCEPT).body(enterpriseResources);
     }
 
     @PostMapping
@@ -107,9 +112,9 @@ public class EnterpriseController {
     @PutMapping("/{enterpriseId}")
     @EnterpriseValidation
     public ResponseEntity<?> updateEnterprise(@PathVariable Long enterpriseId, @Valid @RequestBody EnterpriseRequestDto enterpriseRequestDto,
-                                              Errors errors, @CurrentUser Account currentUser) {
-        Optional<Account> accountOptional = this.accountRepository.findById(enterpriseId);
-        EnterpriseResponseDto enterpriseResponseDto = enterpriseService.updateEnterprise(accountOptional.get(), enterpriseRequestDto);
+                                              Errors errors, @CurrentUser Account currentUser,
+                                              @ResolvedEntity(value = "enterpriseId", graph = "Account.enterprise") Account account) {
+        EnterpriseResponseDto enterpriseResponseDto = enterpriseService.updateEnterprise(account, enterpriseRequestDto);
         WebMvcLinkBuilder selfLinkBuilder = linkTo(EnterpriseController.class).slash(enterpriseResponseDto.getId());
         EnterpriseResource enterpriseResource = new EnterpriseResource(enterpriseResponseDto);
         enterpriseResource.add(selfLinkBuilder.withRel(DELETE_ENTERPRISE.getValue()));
@@ -120,9 +125,9 @@ public class EnterpriseController {
 
     @DeleteMapping("/{enterpriseId}")
     @EnterpriseValidation
-    public ResponseEntity<?> deleteEnterprise(@PathVariable Long enterpriseId, @CurrentUser Account currentUser)    {
-        Optional<Account> optionalAccount = this.accountRepository.findById(enterpriseId);
-        EnterpriseResponseDto enterpriseResponseDto = enterpriseService.deleteEnterprise(optionalAccount.get());
+    public ResponseEntity<?> deleteEnterprise(@PathVariable Long enterpriseId, @CurrentUser Account currentUser,
+                                              @ResolvedEntity(value = "enterpriseId", graph = "Account.enterprise") Account account) {
+        EnterpriseResponseDto enterpriseResponseDto = enterpriseService.deleteEnterprise(account);
         EnterpriseResource enterpriseResource = new EnterpriseResource(enterpriseResponseDto);
         enterpriseResource.add(linkTo(LoginController.class).withRel(LOGIN_ENTERPRISE.getValue()));
         hateoasFormatter.addProfileRel(enterpriseResource, "resources-enterprise-delete");
@@ -135,12 +140,18 @@ public class EnterpriseController {
         return enterpriseService.sendSuggestion(accountId, currentUser);
     }
 
-    private PagedModel<EnterpriseResource> getEnterpriseResources(PagedResourcesAssembler<Enterprise> assembler, Page<Enterprise> filteredEnterprises) {
+    @PostMapping("/suggestion")
+    public ResponseEntity<?> sendSuggestions(@Valid @RequestBody SuggestionRequestDto suggestionRequestDto, Errors errors,
+                                             @CurrentUser Account currentUser) throws UserNotFoundException {
+        if (errors.hasErrors()) {
+            return errorsFormatter.badRequest(errors);
+        }
+        return enterpriseService.sendSuggestions(suggestionRequestDto.getAccountIds(), currentUser);
+    }
+
+    private PagedModel<EnterpriseResource> getEnterpriseResources(PagedResourcesAssembler<Enterprise> assembler, Page<Enterprise> filteredEnterprises,
+                                                                  ItemLinkTemplate itemLinks) {
         return assembler
-                .toModel(filteredEnterprises, e -> {
-                    EnterpriseResponseDto enterpriseResponseDto = modelMapper.map(e, EnterpriseResponseDto.class);
-                    enterpriseResponseDto.setEmail(e.getAccount().getEmail());
-                    return new EnterpriseResource(enterpriseResponseDto);
-                });
+                .toModel(filteredEnterprises, e -> new EnterpriseResource(new EnterpriseResponseDto(e), itemLinks.linksOf(e.getId())));
     }
 }
@@ -1,12 +1,13 @@
 package com.pickmebackend.controller;
 
 import com.pickmebackend.annotation.account.CurrentUser;
+import com.pickmebackend.annotation.resolve.ResolvedEntity;
 import com.pickmebackend.annotation.experience.ExperienceValidation;
 import com.pickmebackend.domain.Account;
 import com.pickmebackend.domain.Experience;
 import com.pickmebackend.domain.dto.experience.ExperienceRequestDto;
 import com.pickmebackend.domain.dto.experience.ExperienceResponseDto;
-import com.pickmebackend.repository.ExperienceRepository;
+import com.pickmebackend.exception.UserNotFoundException;
 import com.pickmebackend.resource.ExperienceResource;
 import com.pickmebackend.resource.HateoasFormatter;
 import com.pickmebackend.service.ExperienceService;
@@ -17,7 +18,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Optional;
 
 import static com.pickmebackend.properties.RestDocsConstants.*;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
@@ -29,12 +29,10 @@ public class ExperienceController {
 
     private final ExperienceService experienceService;
 
-    private final ExperienceRepository experienceRepository;
-
     private final HateoasFormatter hateoasFormatter;
 
     @PostMapping
-    public ResponseEntity<?> saveExperience(@RequestBody ExperienceRequestDto experienceRequestDto, @CurrentUser Account currentUser) {
+    public ResponseEntity<?> saveExperience(@RequestBody ExperienceRequestDto experienceRequestDto, @CurrentUser Account currentUser) throws UserNotFoundException {
         ExperienceResponseDto experienceResponseDto =  experienceService.saveExperience(experienceRequestDto, currentUser);
 
         WebMvcLinkBuilder selfLinkBuilder = linkTo(ExperienceController.class).slash(experienceResponseDto.getId());
@@ -48,9 +46,9 @@ public class ExperienceController {
 
     @PutMapping(value = "/{experienceId}")
     @ExperienceValidation
-    public ResponseEntity<?> updateExperience(@PathVariable Long experienceId, @RequestBody ExperienceRequestDto experienceRequestDto, @CurrentUser Account currentUser) {
-        Optional<Experience> experienceOptional = this.experienceRepository.findById(experienceId);
-        ExperienceResponseDto modifiedExperienceResponseDto = experienceService.updateExperience(experienceOptional.get(), experienceRequestDto);
+    public ResponseEntity<?> updateExperience(@PathVariable Long experienceId, @RequestBody ExperienceRequestDto experienceRequestDto, @CurrentUser Account currentUser,
+                                              @ResolvedEntity("experienceId") Experience experience) {
+        ExperienceResponseDto modifiedExperienceResponseDto = experienceService.updateExperience(experience, experienceRequestDto);
 
         WebMvcLinkBuilder selfLinkBuilder = linkTo(ExperienceController.class).slash(modifiedExperienceResponseDto.getId());
         ExperienceResource experienceResource = new ExperienceResource(modifiedExperienceResponseDto);
@@ -63,9 +61,9 @@ public class ExperienceController {
 
     @DeleteMapping(value = "/{experienceId}")
     @ExperienceValidation
-    public ResponseEntity<?> deleteExperience(@PathVariable Long experienceId, @CurrentUser Account currentUser) {
-        Optional<Experience> experienceOptional = this.experienceRepository.findById(experienceId);
-        ExperienceResponseDto experienceResponseDto = experienceService.deleteExperience(experienceOptional.get());
+    public ResponseEntity<?> deleteExperience(@PathVariable Long experienceId, @CurrentUser Account currentUser,
+                                              @ResolvedEntity("experienceId") Experience experience) {
+        ExperienceResponseDto experienceResponseDto = experienceService.deleteExperience(experience);
         ExperienceResource experienceResource = new ExperienceResource(experienceResponseDto);
         experienceResource.add(linkTo(ExperienceController.class).withRel(CREATE_EXPERIENCE.getValue()));
         hateoasFormatter.addProfileRel(experienceResource, "resources-experiences-delete");
@@ -1,12 +1,13 @@
 package com.pickmebackend.controller;
 
 import com.pickmebackend.annotation.account.CurrentUser;
+import com.pickmebackend.annotation.resolve.ResolvedEntity;
 import com.pickmebackend.annotation.license.LicenseValidation;
 import com.pickmebackend.domain.Account;
 import com.pickmebackend.domain.License;
 import com.pickmebackend.domain.dto.license.LicenseRequestDto;
 import com.pickmebackend.domain.dto.license.LicenseResponseDto;
-import com.pickmebackend.repository.LicenseRepository;
+import com.pickmebackend.exception.UserNotFoundException;
 import com.pickmebackend.resource.HateoasFormatter;
 import com.pickmebackend.resource.LicenseResource;
 import com.pickmebackend.service.LicenseService;
@@ -17,7 +18,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Optional;
 
 import static com.pickmebackend.properties.RestDocsConstants.*;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
@@ -29,12 +29,10 @@ public class LicenseController {
 
     private final LicenseService licenseService;
 
-    private final LicenseRepository licenseRepository;
-
     private final HateoasFormatter hateoasFormatter;
 
     @PostMapping
-    public ResponseEntity<?> saveLicense(@RequestBody LicenseRequestDto licenseRequestDto, @CurrentUser Account currentUser) {
+    public ResponseEntity<?> saveLicense(@RequestBody LicenseRequestDto licenseRequestDto, @CurrentUser Account currentUser) throws UserNotFoundException {
         LicenseResponseDto licenseResponseDto = licenseService.saveLicense(licenseRequestDto, currentUser);
 
         WebMvcLinkBuilder selfLinkBuilder = linkTo(LicenseController.class).slash(licenseResponseDto.getId());
@@ -48,10 +46,10 @@ public class LicenseController {
 
     @PutMapping("/{licenseId}")
     @LicenseValidation
-    public ResponseEntity<?> updateLicense(@PathVariable Long licenseId, @RequestBody LicenseRequestDto licenseRequestDto, @CurrentUser Account currentUser) {
-        Optional<License> licenseOptional = this.licenseRepository.findById(licenseId);
+    public ResponseEntity<?> updateLicense(@PathVariable Long licenseId, @RequestBody LicenseRequestDto licenseRequestDto, @CurrentUser Account currentUser,
+                                           @ResolvedEntity("licenseId") License license) {
 
-        LicenseResponseDto modifiedLicenseResponseDto = licenseService.updateLicense(licenseOptional.get(), licenseRequestDto);
+        LicenseResponseDto modifiedLicenseResponseDto = licenseService.updateLicense(license, licenseRequestDto);
         WebMvcLinkBuilder selfLinkBuilder = linkTo(LicenseController.class).slash(modifiedLicenseResponseDto.getId());
         LicenseResource licenseResource = new LicenseResource(modifiedLicenseResponseDto);
         licenseResource.add(linkTo(LicenseController.class).withRel(CREATE_LICENSE.getValue()));
@@ -63,9 +61,9 @@ public class LicenseController {
 
     @DeleteMapping("/{licenseId}")
     @LicenseValidation
-    public ResponseEntity<?> deleteLicense(@PathVariable Long licenseId, @CurrentUser Account currentUser) {
-        Optional<License> licenseOptional = this.licenseRepository.findById(licenseId);
-        LicenseResponseDto licenseResponseDto = licenseService.deleteLicense(licenseOptional.get());
+    public ResponseEntity<?> deleteLicense(@PathVariable Long licenseId, @CurrentUser Account currentUser,
+                                           @ResolvedEntity("licenseId") License license) {
+        LicenseResponseDto licenseResponseDto = licenseService.deleteLicense(license);
         LicenseResource licenseResource = new LicenseResource(licenseResponseDto);
         licenseResource.add(linkTo(LicenseController.class).withRel(CREATE_LICENSE.getValue()));
         hateoasFormatter.addProfileRel(licenseResource, "resources-licenses-delete");
@@ -5,10 +5,11 @@ import com.pickmebackend.config.jwt.JwtProvider;
 import com.pickmebackend.domain.Account;
 import com.pickmebackend.domain.dto.login.JwtResponseDto;
 import com.pickmebackend.domain.dto.login.LoginRequestDto;
+import com.pickmebackend.exception.UserNotFoundException;
+import com.pickmebackend.repository.account.AccountRepository;
 import com.pickmebackend.resource.HateoasFormatter;
 import com.pickmebackend.resource.LoginResource;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.Errors;
@@ -29,14 +30,14 @@ public class LoginController {
 
     private final JwtProvider jwtProvider;
 
-    private final ModelMapper modelMapper;
+    private final AccountRepository accountRepository;
 
     private final HateoasFormatter hateoasFormatter;
 
     @PostMapping
     @LoginValidation
-    public ResponseEntity<?> login(@Valid @RequestBody LoginRequestDto loginRequestDto, Errors errors) {
-        Account account = modelMapper.map(loginRequestDto, Account.class);
+    public ResponseEntity<?> login(@Valid @RequestBody LoginRequestDto loginRequestDto, Errors errors) throws UserNotFoundException {
+        Account account = accountRepository.findByEmail(loginRequestDto.getEmail()).orElseThrow(UserNotFoundException::new);
         String jwt = jwtProvider.generateToken(account);
 
         JwtResponseDto jwtResponseDto = new JwtResponseDto(jwt);
@@ -1,12 +1,13 @@
 package com.pickmebackend.controller;
 
 import com.pickmebackend.annotation.account.CurrentUser;
+import com.pickmebackend.annotation.resolve.ResolvedEntity;
 import com.pickmebackend.annotation.prize.PrizeValidation;
 import com.pickmebackend.domain.Account;
 import com.pickmebackend.domain.Prize;
 import com.pickmebackend.domain.dto.prize.PrizeRequestDto;
 import com.pickmebackend.domain.dto.prize.PrizeResponseDto;
-import com.pickmebackend.repository.PrizeRepository;
+import com.pickmebackend.exception.UserNotFoundException;
 import com.pickmebackend.resource.HateoasFormatter;
 import com.pickmebackend.resource.PrizeResource;
 import com.pickmebackend.service.PrizeService;
@@ -17,7 +18,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Optional;
 
 import static com.pickmebackend.properties.RestDocsConstants.*;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
@@ -29,12 +29,10 @@ public class PrizeController {
 
     private final PrizeService prizeService;
 
-    private final PrizeRepository prizeRepository;
-
     private final HateoasFormatter hateoasFormatter;
 
     @PostMapping
-    public ResponseEntity<?> savePrize(@RequestBody PrizeRequestDto prizeRequestDto, @CurrentUser Account currentUser) {
+    public ResponseEntity<?> savePrize(@RequestBody PrizeRequestDto prizeRequestDto, @CurrentUser Account currentUser) throws UserNotFoundException {
         PrizeResponseDto prizeResponseDto = prizeService.savePrize(prizeRequestDto, currentUser);
 
         WebMvcLinkBuilder selfLinkBuilder = linkTo(PrizeController.class).slash(prizeResponseDto.getId());
@@ -48,9 +46,9 @@ public class PrizeController {
 
     @PutMapping("/{prizeId}")
     @PrizeValidation
-    public ResponseEntity<?> updatePrize(@PathVariable Long prizeId, @RequestBody PrizeRequestDto prizeRequestDto, @CurrentUser Account currentUser) {
-        Optional<Prize> prizeOptional = this.prizeRepository.findById(prizeId);
-        PrizeResponseDto modifiedPrizeResponseDto = prizeService.updatePrize(prizeOptional.get(), prizeRequestDto);
+    public ResponseEntity<?> updatePrize(@PathVariable Long prizeId, @RequestBody PrizeRequestDto prizeRequestDto, @CurrentUser Account currentUser,
+                                         @ResolvedEntity("prizeId") Prize prize) {
+        PrizeResponseDto modifiedPrizeResponseDto = prizeService.updatePrize(prize, prizeRequestDto);
         WebMvcLinkBuilder selfLinkBuilder = linkTo(PrizeController.class).slash(modifiedPrizeResponseDto.getId());
         PrizeResource prizeResource = new PrizeResource(modifiedPrizeResponseDto);
         prizeResource.add(linkTo(PrizeController.class).withRel(CREATE_PRIZE.getValue()));
@@ -62,10 +60,10 @@ public class PrizeController {
 
     @DeleteMapping("/{prizeId}")
     @PrizeValidation
-    public ResponseEntity<?> deletePrize(@PathVariable Long prizeId, @CurrentUser Account currentUser) {
-        Optional<Prize> prizeOptional = this.prizeRepository.findById(prizeId);
+    public ResponseEntity<?> deletePrize(@PathVariable Long prizeId, @CurrentUser Account currentUser,
+                                         @ResolvedEntity("prizeId") Prize prize) {
 
-        PrizeResponseDto prizeResponseDto = prizeService.deletePrize(prizeOptional.get());
+        PrizeResponseDto prizeResponseDto = prizeService.deletePrize(prize);
         PrizeResource prizeResource = new PrizeResource(prizeResponseDto);
         prizeResource.add(linkTo(PrizeController.class).withRel(CREATE_PRIZE.getValue()));
         hateoasFormatter.addProfileRel(prizeResource, "resources-prizes-delete");
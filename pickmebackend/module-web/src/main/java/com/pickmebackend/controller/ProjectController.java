@@ -1,12 +1,13 @@
 package com.pickmebackend.controller;
 
 import com.pickmebackend.annotation.account.CurrentUser;
+import com.pickmebackend.annotation.resolve.ResolvedEntity;
 import com.pickmebackend.annotation.project.ProjectValidation;
 import com.pickmebackend.domain.Account;
 import com.pickmebackend.domain.Project;
 import com.pickmebackend.domain.dto.project.ProjectRequestDto;
 import com.pickmebackend.domain.dto.project.ProjectResponseDto;
-import com.pickmebackend.repository.ProjectRepository;
+import com.pickmebackend.exception.UserNotFoundException;
 import com.pickmebackend.resource.HateoasFormatter;
 import com.pickmebackend.resource.ProjectResource;
 import com.pickmebackend.service.ProjectService;
@@ -17,7 +18,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Optional;
 
 import static com.pickmebackend.properties.RestDocsConstants.*;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
@@ -29,12 +29,10 @@ public class ProjectController {
 
     private final ProjectService projectService;
 
-    private final ProjectRepository projectRepository;
-
     private final HateoasFormatter hateoasFormatter;
 
     @PostMapping
-    public ResponseEntity<?> saveProject(@RequestBody ProjectRequestDto projectRequestDto, @CurrentUser Account currentUser) {
+    public ResponseEntity<?> saveProject(@RequestBody ProjectRequestDto projectRequestDto, @CurrentUser Account currentUser) throws UserNotFoundException {
         ProjectResponseDto projectResponseDto = projectService.saveProject(projectRequestDto, currentUser);
 
         WebMvcLinkBuilder selfLinkBuilder = linkTo(ProjectController.class).slash(projectResponseDto.getId());
@@ -48,9 +46,9 @@ public class ProjectController {
 
     @PutMapping("/{projectId}")
     @ProjectValidation
-    public ResponseEntity<?> updateProject(@PathVariable Long projectId, @RequestBody ProjectRequestDto projectRequestDto, @CurrentUser Account currentUser) {
-        Optional<Project> projectOptional = this.projectRepository.findById(projectId);
-        ProjectResponseDto modifiedProjectResponseDto = projectService.updateProject(projectOptional.get(), projectRequestDto);
+    public ResponseEntity<?> updateProject(@PathVariable Long projectId, @RequestBody ProjectRequestDto projectRequestDto, @CurrentUser Account currentUser,
+                                           @ResolvedEntity("projectId") Project project) {
+        ProjectResponseDto modifiedProjectResponseDto = projectService.updateProject(project, projectRequestDto);
         WebMvcLinkBuilder selfLinkBuilder = linkTo(ProjectController.class).slash(modifiedProjectResponseDto.getId());
         ProjectResource projectResource = new ProjectResource(modifiedProjectResponseDto);
         projectResource.add(linkTo(ProjectController.class).withRel(CREATE_PROJECT.getValue()));
@@ -62,9 +60,9 @@ public class ProjectController {
 
     @DeleteMapping("/{projectId}")
     @ProjectValidation
-    public ResponseEntity<?> deleteProject(@PathVariable Long projectId, @CurrentUser Account currentUser) {
-        Optional<Project> projectOptional = this.projectRepository.findById(projectId);
-        ProjectResponseDto projectResponseDto = projectService.deleteProject(projectOptional.get());
+    public ResponseEntity<?> deleteProject(@PathVariable Long projectId, @CurrentUser Account currentUser,
+                                           @ResolvedEntity("projectId") Project project) {
+        ProjectResponseDto projectResponseDto = projectService.deleteProject(project);
         ProjectResource projectResource = new ProjectResource(projectResponseDto);
         projectResource.add(linkTo(ProjectController.class).withRel(CREATE_PROJECT.getValue()));
         hateoasFormatter.addProfileRel(projectResource, "resources-projects-delete");
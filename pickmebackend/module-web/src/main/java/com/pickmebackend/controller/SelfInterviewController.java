@@ -1,12 +1,13 @@
 package com.pickmebackend.controller;
 
 import com.pickmebackend.annotation.account.CurrentUser;
+import com.pickmebackend.annotation.resolve.ResolvedEntity;
 import com.pickmebackend.annotation.selfInterview.SelfInterviewValidation;
 import com.pickmebackend.domain.Account;
 import com.pickmebackend.domain.SelfInterview;
 import com.pickmebackend.domain.dto.selfInterview.SelfInterviewRequestDto;
 import com.pickmebackend.domain.dto.selfInterview.SelfInterviewResponseDto;
-import com.pickmebackend.repository.SelfInterviewRepository;
+import com.pickmebackend.exception.UserNotFoundException;
 import com.pickmebackend.resource.HateoasFormatter;
 import com.pickmebackend.resource.SelfInterviewResource;
 import com.pickmebackend.service.SelfInterviewService;
@@ -17,7 +18,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Optional;
 
 import static com.pickmebackend.properties.RestDocsConstants.*;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
@@ -29,12 +29,10 @@ public class SelfInterviewController {
 
     private final SelfInterviewService selfInterviewService;
 
-    private final SelfInterviewRepository selfInterviewRepository;
-
     private final HateoasFormatter hateoasFormatter;
 
     @PostMapping
-    public ResponseEntity<?> saveSelfInterview(@RequestBody SelfInterviewRequestDto selfInterviewRequestDto, @CurrentUser Account currentUser) {
+    public ResponseEntity<?> saveSelfInterview(@RequestBody SelfInterviewRequestDto selfInterviewRequestDto, @CurrentUser Account currentUser) throws UserNotFoundException {
         SelfInterviewResponseDto selfInterviewResponseDto = selfInterviewService.saveSelfInterview(selfInterviewRequestDto, currentUser);
 
         WebMvcLinkBuilder selfLinkBuilder = linkTo(SelfInterviewController.class).slash(selfInterviewResponseDto.getId());
@@ -48,10 +46,10 @@ public class SelfInterviewController {
 
     @PutMapping("/{selfInterviewId}")
     @SelfInterviewValidation
-    public ResponseEntity<?> updateSelfInterview(@PathVariable Long selfInterviewId, @RequestBody SelfInterviewRequestDto selfInterviewRequestDto, @CurrentUser Account currentUser) {
-        Optional<SelfInterview> selfInterviewOptional = this.selfInterviewRepository.findById(selfInterviewId);
+    public ResponseEntity<?> updateSelfInterview(@PathVariable Long selfInterviewId, @RequestBody SelfInterviewRequestDto selfInterviewRequestDto, @CurrentUser Account currentUser,
+                                                 @ResolvedEntity("selfInterviewId") SelfInterview selfInterview) {
         SelfInterviewResponseDto modifiedSelfInterviewResponseDto =
-                selfInterviewService.updateSelfInterview(selfInterviewOptional.get(), selfInterviewRequestDto);
+                selfInterviewService.updateSelfInterview(selfInterview, selfInterviewRequestDto);
         WebMvcLinkBuilder selfLinkBuilder = linkTo(SelfInterviewController.class).slash(modifiedSelfInterviewResponseDto.getId());
         SelfInterviewResource selfInterviewResource = new SelfInterviewResource(modifiedSelfInterviewResponseDto);
         selfInterviewResource.add(linkTo(SelfInterviewController.class).withRel(CREATE_SELF_INTERVIEW.getValue()));
@@ -63,9 +61,9 @@ public class SelfInterviewController {
 
     @DeleteMapping("/{selfInterviewId}")
     @SelfInterviewValidation
-    public ResponseEntity<?> deleteSelfInterview(@PathVariable Long selfInterviewId, @CurrentUser Account currentUser) {
-        Optional<SelfInterview> selfInterviewOptional = this.selfInterviewRepository.findById(selfInterviewId);
-        SelfInterviewResponseDto selfInterviewResponseDto = selfInterviewService.deleteSelfInterview(selfInterviewOptional.get());
+    public ResponseEntity<?> deleteSelfInterview(@PathVariable Long selfInterviewId, @CurrentUser Account currentUser,
+                                                 @ResolvedEntity("selfInterviewId") SelfInterview selfInterview) {
+        SelfInterviewResponseDto selfInterviewResponseDto = selfInterviewService.deleteSelfInterview(selfInterview);
         SelfInterviewResource selfInterviewResource = new SelfInterviewResource(selfInterviewResponseDto);
         selfInterviewResource.add(linkTo(SelfInterviewController.class).withRel(CREATE_SELF_INTERVIEW.getValue()));
         hateoasFormatter.addProfileRel(selfInterviewResource, "resources-selfInterviews-delete");
@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RequiredArgsConstructor
@@ -15,7 +16,8 @@ public class SkillController {
     private final SkillService skillService;
 
     @GetMapping("/technologies")
-    public ResponseEntity<?> getTechnology() {
-        return skillService.getTechnology();
+    public ResponseEntity<?> getTechnology(@RequestParam(required = false) String prefix,
+                                           @RequestParam(defaultValue = "10") int limit) {
+        return skillService.getTechnology(prefix, limit);
     }
 }
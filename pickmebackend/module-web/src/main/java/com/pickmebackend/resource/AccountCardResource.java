@@ -0,0 +1,17 @@
+package com.pickmebackend.resource;
+
+import com.pickmebackend.domain.dto.account.AccountCardResponseDto;
+import lombok.NoArgsConstructor;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+
+/**
+ * 목록에서만 쓰이므로 self 링크를 직접 만들지 않고, 요청마다 한 번 만든 ItemLinkTemplate 의 링크를 받는다.
+ */
+@NoArgsConstructor
+public class AccountCardResource extends EntityModel<AccountCardResponseDto> {
+
+    public AccountCardResource(AccountCardResponseDto accountCardResponseDto, Iterable<Link> links) {
+        super(accountCardResponseDto, links);
+    }
+}
@@ -0,0 +1,24 @@
+package com.pickmebackend.resource;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.Link;
+
+@Getter
+@NoArgsConstructor
+public class AccountSliceResource extends CollectionModel<AccountCardResource> {
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalElements;
+
+    public AccountSliceResource(Iterable<AccountCardResource> content, String nextCursor, Long totalElements, Link... links) {
+        super(content, links);
+        this.nextCursor = nextCursor;
+        this.totalElements = totalElements;
+    }
+}
@@ -14,4 +14,11 @@ public class EnterpriseResource extends EntityModel<EnterpriseResponseDto> {
         super(enterpriseResponseDto, links);
         add(linkTo(EnterpriseController.class).slash(enterpriseResponseDto.getId()).withSelfRel());
     }
+
+    /**
+     * 목록 항목용. self 링크를 만들지 않고 ItemLinkTemplate 이 만든 링크만 담는다.
+     */
+    public EnterpriseResource(EnterpriseResponseDto enterpriseResponseDto, Iterable<Link> links) {
+        super(enterpriseResponseDto, links);
+    }
 }
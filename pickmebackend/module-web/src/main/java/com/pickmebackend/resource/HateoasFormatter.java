@@ -1,16 +1,49 @@
 package com.pickmebackend.resource;
 
-import com.pickmebackend.properties.RestDocsConstants;
-import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 
+import javax.servlet.http.HttpServletRequest;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import static com.pickmebackend.properties.RestDocsConstants.*;
 
 @Component
 public class HateoasFormatter {
 
-    public void addProfileRel(EntityModel<?> resource, String message) {
-        resource.add(new Link("/docs/index.html#" + message).withRel(PROFILE.getValue()));
+    /**
+     * 목록을 이 타입으로 요청하면 항목마다 붙는 self 링크를 빼고 응답한다. 페이지 링크는 그대로 둔다.
+     */
+    public static final MediaType HAL_JSON_COMPACT = new MediaType(MediaTypes.HAL_JSON, Collections.singletonMap("view", "compact"));
+
+    private final Map<String, Link> profileLinks = new ConcurrentHashMap<>();
+
+    public void addProfileRel(RepresentationModel<?> resource, String message) {
+        resource.add(profileLinks.computeIfAbsent(message, m -> new Link("/docs/index.html#" + m).withRel(PROFILE.getValue())));
+    }
+
+    public ItemLinkTemplate itemLinks(Class<?> controller, HttpServletRequest request) {
+        return isCompact(request) ? ItemLinkTemplate.none() : ItemLinkTemplate.of(controller);
+    }
+
+    private boolean isCompact(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return false;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                    .anyMatch(mediaType -> mediaType.isCompatibleWith(HAL_JSON_COMPACT)
+                            && HAL_JSON_COMPACT.getParameter("view").equals(mediaType.getParameter("view")));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
     }
 }
@@ -0,0 +1,42 @@
+package com.pickmebackend.resource;
+
+import org.springframework.hateoas.Link;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+/**
+ * 목록 항목의 self 링크를 만드는 틀.
+ * 항목마다 linkTo 로 컨트롤러 매핑을 찾고 현재 요청에서 URI 를 다시 만드는 대신,
+ * 요청마다 한 번 만든 컨트롤러 URI 뒤에 식별자만 붙인다.
+ */
+public class ItemLinkTemplate {
+
+    private static final ItemLinkTemplate NONE = new ItemLinkTemplate(null);
+
+    private final String prefix;
+
+    private ItemLinkTemplate(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public static ItemLinkTemplate of(Class<?> controller) {
+        return new ItemLinkTemplate(linkTo(controller).toUri().toString() + "/");
+    }
+
+    /**
+     * 항목에 링크를 달지 않는 compact 응답용.
+     */
+    public static ItemLinkTemplate none() {
+        return NONE;
+    }
+
+    public List<Link> linksOf(Long id) {
+        if (prefix == null) {
+            return Collections.emptyList();
+        }
+        return Collections.singletonList(new Link(prefix + id));
+    }
+}
@@ -2,17 +2,30 @@ package com.pickmebackend.controller;
 
 import com.pickmebackend.controller.common.BaseControllerTest;
 import com.pickmebackend.domain.Account;
+import com.pickmebackend.domain.AccountTech;
 import com.pickmebackend.domain.Technology;
 import com.pickmebackend.domain.VerificationCode;
 import com.pickmebackend.domain.dto.account.AccountInitialRequestDto;
 import com.pickmebackend.domain.dto.account.AccountRequestDto;
 import com.pickmebackend.domain.dto.account.AccountResponseDto;
+import com.pickmebackend.domain.dto.experience.ExperienceRequestDto;
 import com.pickmebackend.domain.dto.verificationCode.SendCodeRequestDto;
 import com.pickmebackend.domain.dto.verificationCode.VerifyCodeRequestDto;
 import com.pickmebackend.domain.enums.UserRole;
+import com.pickmebackend.properties.VerificationCodeProperties;
+import com.pickmebackend.repository.ExperienceRepository;
+import com.pickmebackend.repository.FilterCountCache;
+import com.pickmebackend.repository.FavoriteRepository;
+import com.pickmebackend.repository.SearchTokenRepository;
 import com.pickmebackend.repository.TechnologyRepository;
+import com.pickmebackend.repository.account.AccountHitsCounter;
 import com.pickmebackend.repository.account.AccountTechRepository;
+import com.jayway.jsonpath.JsonPath;
 import com.pickmebackend.resource.AccountResource;
+import com.pickmebackend.resource.HateoasFormatter;
+import com.pickmebackend.search.SearchIndexReconciler;
+import com.pickmebackend.verification.VerificationCodeStore;
+import com.pickmebackend.verification.VerificationCodeSweeper;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -21,16 +34,27 @@ import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.ResultActions;
-import javax.servlet.http.Cookie;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.IntStream;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.restdocs.headers.HeaderDocumentation.*;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.linkWithRel;
 import static org.springframework.restdocs.hypermedia.HypermediaDocumentation.links;
@@ -52,8 +76,36 @@ class AccountControllerTest extends BaseControllerTest {
     @Autowired
     private AccountTechRepository accountTechRepository;
 
+    @Autowired
+    private AccountHitsCounter accountHitsCounter;
+
+    @Autowired
+    private FavoriteRepository favoriteRepository;
+
+    @Autowired
+    private ExperienceRepository experienceRepository;
+
+    @Autowired
+    private VerificationCodeStore verificationCodeStore;
+
+    @Autowired
+    private VerificationCodeSweeper verificationCodeSweeper;
+
+    @Autowired
+    private VerificationCodeProperties verificationCodeProperties;
+
+    @Autowired
+    private SearchTokenRepository searchTokenRepository;
+
+    @Autowired
+    private SearchIndexReconciler searchIndexReconciler;
+
+    @Autowired
+    private FilterCountCache filterCountCache;
+
     @AfterEach
     void setUp() {
+        experienceRepository.deleteAll();
         accountTechRepository.deleteAll();
         accountRepository.deleteAll();
         enterpriseRepository.deleteAll();
@@ -73,7 +125,7 @@ class AccountControllerTest extends BaseControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(sendCodeRequestDto)))
                 .andDo(print())
-                .andExpect(status().isCreated())
+                .andExpect(status().isAccepted())
                 .andExpect(jsonPath("email").value(appProperties.getTestEmail()))
         ;
     }
@@ -92,6 +144,137 @@ class AccountControllerTest extends BaseControllerTest {
         ;
     }
 
+    @Test
+    @DisplayName("같은 이메일로 인증코드를 연달아 요청하면 Too Many Requests")
+    void send_code_rate_limited() throws Exception {
+        SendCodeRequestDto sendCodeRequestDto = SendCodeRequestDto.builder()
+                .email(appProperties.getTestEmail())
+                .build();
+
+        for (int i = 0; i < 3; i++) {
+            this.mockMvc.perform(post(accountURL + "sendCode")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(sendCodeRequestDto)))
+                    .andExpect(status().isAccepted());
+        }
+
+        this.mockMvc.perform(post(accountURL + "sendCode")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(sendCodeRequestDto)))
+                .andDo(print())
+                .andExpect(status().isTooManyRequests());
+
+        assertEquals(1, verificationCodeRepository.count());
+    }
+
+    @Test
+    @DisplayName("대소문자만 다른 이메일은 같은 인증코드와 발송 제한을 공유")
+    void send_code_case_insensitive() throws Exception {
+        String upperCaseEmail = appProperties.getTestEmail().toUpperCase(Locale.ROOT);
+        String code = null;
+        for (String email : Arrays.asList(upperCaseEmail, appProperties.getTestEmail(), upperCaseEmail)) {
+            String contentAsString = this.mockMvc.perform(post(accountURL + "sendCode")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(SendCodeRequestDto.builder().email(email).build())))
+                    .andExpect(status().isAccepted())
+                    .andReturn().getResponse().getContentAsString();
+            code = objectMapper.readValue(contentAsString, VerifyCodeRequestDto.class).getCode();
+        }
+
+        this.mockMvc.perform(post(accountURL + "sendCode")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(SendCodeRequestDto.builder().email(appProperties.getTestEmail()).build())))
+                .andDo(print())
+                .andExpect(status().isTooManyRequests());
+        assertEquals(1, verificationCodeRepository.count());
+
+        this.mockMvc.perform(put(accountURL + "matchCode")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(VerifyCodeRequestDto.builder().email(appProperties.getTestEmail()).code(code).build())))
+                .andDo(print())
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("프록시 헤더를 지정하면 프록시가 본 클라이언트 주소마다 발송 제한")
+    void send_code_rate_limited_by_client_ip() throws Exception {
+        verificationCodeProperties.setClientIpHeader("X-Forwarded-For");
+        try {
+            for (int i = 0; i < verificationCodeProperties.getIpCapacity(); i++) {
+                this.mockMvc.perform(post(accountURL + "sendCode")
+                        .header("X-Forwarded-For", "10.0.0." + i + ", 10.0.1.1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(SendCodeRequestDto.builder().email("user" + i + "@email.com").build())))
+                        .andExpect(status().isAccepted());
+            }
+
+            this.mockMvc.perform(post(accountURL + "sendCode")
+                    .header("X-Forwarded-For", "10.0.1.1")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(SendCodeRequestDto.builder().email("other@email.com").build())))
+                    .andDo(print())
+                    .andExpect(status().isTooManyRequests());
+
+            this.mockMvc.perform(post(accountURL + "sendCode")
+                    .header("X-Forwarded-For", "10.0.1.1, 10.0.1.2")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(SendCodeRequestDto.builder().email("other@email.com").build())))
+                    .andDo(print())
+                    .andExpect(status().isAccepted());
+        } finally {
+            verificationCodeProperties.setClientIpHeader(null);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 이메일로 동시에 처음 인증코드를 저장해도 하나만 남음")
+    void save_code_concurrent() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 10; round++) {
+                String email = round + appProperties.getTestEmail();
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> saves = new ArrayList<>();
+                for (int i = 0; i < 2; i++) {
+                    String code = String.valueOf(i);
+                    saves.add(executor.submit(() -> {
+                        start.await();
+                        verificationCodeStore.save(email, code, Duration.ofMinutes(10));
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> save : saves) {
+                    save.get();
+                }
+                assertTrue(verificationCodeStore.hasPendingCode(email));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(10, verificationCodeRepository.count());
+    }
+
+    @Test
+    @DisplayName("만료된 인증코드는 검증되지 않고 sweeper 가 지운다")
+    void expired_code() throws Exception {
+        verificationCodeStore.save(appProperties.getTestEmail(), "111111", Duration.ZERO);
+        verificationCodeStore.save(appProperties.getTestAnotherEmail(), "222222", Duration.ZERO);
+        VerifyCodeRequestDto verifyCodeRequestDto = VerifyCodeRequestDto.builder()
+                .email(appProperties.getTestEmail())
+                .code("111111")
+                .build();
+
+        this.mockMvc.perform(put(accountURL + "matchCode")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(verifyCodeRequestDto)))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+
+        assertEquals(1, verificationCodeSweeper.sweep());
+        assertEquals(0, verificationCodeRepository.count());
+    }
+
     @Test
     @DisplayName("정상적으로 인증코드 검증 성공")
     @Disabled
@@ -99,6 +282,7 @@ class AccountControllerTest extends BaseControllerTest {
         VerificationCode verificationCode = VerificationCode.builder()
                 .email(appProperties.getTestEmail())
                 .code("111111")
+                .expiresAt(LocalDateTime.now().plusMinutes(10))
                 .build();
 
         VerificationCode savedVerificationCode = this.verificationCodeRepository.save(verificationCode);
@@ -122,6 +306,7 @@ class AccountControllerTest extends BaseControllerTest {
         VerificationCode verificationCode = VerificationCode.builder()
                 .email(appProperties.getTestEmail())
                 .code("111111")
+                .expiresAt(LocalDateTime.now().plusMinutes(10))
                 .build();
 
         VerificationCode savedVerificationCode = this.verificationCodeRepository.save(verificationCode);
@@ -152,6 +337,7 @@ class AccountControllerTest extends BaseControllerTest {
         VerificationCode verificationCode = VerificationCode.builder()
                 .email(appProperties.getTestEmail())
                 .code("111111")
+                .expiresAt(LocalDateTime.now().plusMinutes(10))
                 .build();
 
         this.verificationCodeRepository.save(verificationCode);
@@ -172,6 +358,7 @@ class AccountControllerTest extends BaseControllerTest {
         VerificationCode verificationCode = VerificationCode.builder()
                 .email(appProperties.getTestEmail())
                 .code("111111")
+                .expiresAt(LocalDateTime.now().plusMinutes(10))
                 .build();
 
         VerificationCode savedVerificationCode = this.verificationCodeRepository.save(verificationCode);
@@ -926,6 +1113,108 @@ class AccountControllerTest extends BaseControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("캐시된 유저 프로필은 경력 추가, 삭제와 유저 수정 시 비워지고, 좋아요 여부와 수는 요청마다 반영")
+    void getAccount_cached_profile() throws Exception {
+        Account newAccount = createAccount();
+        Account anotherAccount = createAnotherAccount();
+        String ownerJwt = BEARER + jwtProvider.generateToken(newAccount);
+        String viewerJwt = BEARER + jwtProvider.generateToken(anotherAccount);
+
+        mockMvc.perform(get(accountURL + "{accountId}", newAccount.getId())
+                .header(HttpHeaders.AUTHORIZATION, viewerJwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("experiences.length()", is(0)))
+                .andExpect(jsonPath("favoriteFlag", is(false)))
+                .andExpect(jsonPath("favoriteCount", is(0)));
+
+        String experience = mockMvc.perform(post("/api/experiences/")
+                .header(HttpHeaders.AUTHORIZATION, ownerJwt)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(ExperienceRequestDto.builder().companyName("D&D").build())))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        mockMvc.perform(post(accountURL + "{accountId}/favorite", newAccount.getId())
+                .header(HttpHeaders.AUTHORIZATION, viewerJwt))
+                .andExpect(status().isOk());
+        accountHitsCounter.flush();
+
+        mockMvc.perform(get(accountURL + "{accountId}", newAccount.getId())
+                .header(HttpHeaders.AUTHORIZATION, viewerJwt))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("experiences.length()", is(1)))
+                .andExpect(jsonPath("experiences[0].companyName", is("D&D")))
+                .andExpect(jsonPath("favoriteFlag", is(true)))
+                .andExpect(jsonPath("favoriteCount", is(1)))
+                .andExpect(jsonPath("hits", is(1)));
+
+        mockMvc.perform(get(accountURL + "{accountId}", newAccount.getId())
+                .header(HttpHeaders.AUTHORIZATION, ownerJwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("experiences.length()", is(1)))
+                .andExpect(jsonPath("favoriteFlag", is(false)))
+                .andExpect(jsonPath("favoriteCount", is(1)));
+
+        AccountRequestDto accountRequestDto = AccountRequestDto.builder()
+                .email(newAccount.getEmail())
+                .nickName("changed")
+                .oneLineIntroduce("changed")
+                .career("신입")
+                .build();
+        mockMvc.perform(put(accountURL + "{accountId}", newAccount.getId())
+                .header(HttpHeaders.AUTHORIZATION, ownerJwt)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(accountRequestDto)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(accountURL + "{accountId}", newAccount.getId())
+                .header(HttpHeaders.AUTHORIZATION, viewerJwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("nickName", is("changed")))
+                .andExpect(jsonPath("experiences.length()", is(1)));
+
+        mockMvc.perform(delete("/api/experiences/{experienceId}", JsonPath.<Object>read(experience, "id"))
+                .header(HttpHeaders.AUTHORIZATION, ownerJwt))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(accountURL + "{accountId}", newAccount.getId())
+                .header(HttpHeaders.AUTHORIZATION, viewerJwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("experiences.length()", is(0)));
+    }
+
+    @Test
+    @DisplayName("기술 이름이 바뀌면 캐시된 유저 프로필에도 반영")
+    void getAccount_cached_profile_technology_renamed() throws Exception {
+        Technology java = technologyRepository.save(Technology.builder().id(1L).name("Java").build());
+        Account newAccount = createAccount();
+        Account anotherAccount = createAnotherAccount();
+        String ownerJwt = BEARER + jwtProvider.generateToken(newAccount);
+        String viewerJwt = BEARER + jwtProvider.generateToken(anotherAccount);
+        AccountRequestDto accountRequestDto = modelMapper.map(newAccount, AccountRequestDto.class);
+        accountRequestDto.setTechnologies(Collections.singletonList(java));
+
+        mockMvc.perform(put(accountURL + "{accountId}", newAccount.getId())
+                .header(HttpHeaders.AUTHORIZATION, ownerJwt)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(accountRequestDto)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(accountURL + "{accountId}", newAccount.getId())
+                .header(HttpHeaders.AUTHORIZATION, viewerJwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("technologies[0].name", is("Java")));
+
+        technologyRepository.save(Technology.builder().id(java.getId()).name("Kotlin").build());
+
+        mockMvc.perform(get(accountURL + "{accountId}", newAccount.getId())
+                .header(HttpHeaders.AUTHORIZATION, viewerJwt))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("technologies[0].name", is("Kotlin")));
+    }
+
     @Test
     @DisplayName("정상적으로 모든 유저 조회")
     void getAllAccounts() throws Exception  {
@@ -943,16 +1232,15 @@ class AccountControllerTest extends BaseControllerTest {
                 .queryParam("orderBy", "favorite"))
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].id").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].email").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].password").doesNotExist())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].nickName").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].userRole").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].socialLink").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].career").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].positions").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].oneLineIntroduce").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*]._links.self").exists())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*].id").exists())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*].password").doesNotExist())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*].nickName").exists())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*].career").exists())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*].positions").exists())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*].oneLineIntroduce").exists())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*].experiences").doesNotExist())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[0].technologies.length()", is(1)))
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*]._links.self").exists())
                 .andExpect(jsonPath("_links.self").exists())
                 .andExpect(jsonPath("_links.profile").exists())
                 .andExpect(jsonPath("page.size").exists())
@@ -971,26 +1259,18 @@ class AccountControllerTest extends BaseControllerTest {
                                 headerWithName(HttpHeaders.CONTENT_TYPE).description("Content Type Header")
                         ),
                         responseFields(
-                                fieldWithPath("_embedded.accountResponseDtoList[*].id").description("사용자 식별자"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].email").description("사용자 이메일"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].nickName").description("사용자 이름"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].favoriteCount").description("사용자가 받은 좋아요 수"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].oneLineIntroduce").description("사용자의 한 줄 소개"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].image").description("사용자 이미지"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].career").description("사용자의 경력"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].positions").description("사용자의 역할"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].socialLink").description("사용자의 소셜링크"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].userRole").description("사용자 권한"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].createdAt").description("사용자 생성 날짜"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].hits").description("조회 수"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].experiences").ignored(),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].licenses").ignored(),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].prizes").ignored(),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].technologies[*].id").description("사용자의 기술스택 식별자"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].technologies[*].name").description("사용자의 기술스택 이름"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].projects").ignored(),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].selfInterviews").ignored(),
-                                fieldWithPath("_embedded.accountResponseDtoList[*]._links.self.href").ignored(),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].id").description("사용자 식별자"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].nickName").description("사용자 이름"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].favoriteCount").description("사용자가 받은 좋아요 수"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].oneLineIntroduce").description("사용자의 한 줄 소개"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].image").description("사용자 이미지"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].career").description("사용자의 경력"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].positions").description("사용자의 역할"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].createdAt").description("사용자 생성 날짜"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].hits").description("조회 수"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].technologies[*].id").description("사용자의 기술스택 식별자"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].technologies[*].name").description("사용자의 기술스택 이름"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*]._links.self.href").ignored(),
                                 fieldWithPath("_links.*.*").ignored(),
                                 fieldWithPath("page.size").description("size of page"),
                                 fieldWithPath("page.totalElements").description("total elements of pages"),
@@ -1023,16 +1303,13 @@ class AccountControllerTest extends BaseControllerTest {
                 .queryParam("orderBy", "hits"))
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].id").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].email").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].password").doesNotExist())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].nickName").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].userRole").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].socialLink").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].career").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].positions").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].oneLineIntroduce").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*]._links.self").exists())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*].id").exists())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*].password").doesNotExist())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*].nickName").exists())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*].career").exists())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*].positions").exists())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*].oneLineIntroduce").exists())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*]._links.self").exists())
                 .andExpect(jsonPath("_links.self").exists())
                 .andExpect(jsonPath("_links.profile").exists())
                 .andExpect(jsonPath("page.size").exists())
@@ -1048,26 +1325,18 @@ class AccountControllerTest extends BaseControllerTest {
                                 headerWithName(HttpHeaders.CONTENT_TYPE).description("Content Type Header")
                         ),
                         responseFields(
-                                fieldWithPath("_embedded.accountResponseDtoList[*].id").description("사용자 식별자"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].email").description("사용자 이메일"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].nickName").description("사용자 이름"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].favoriteCount").description("사용자가 받은 좋아요 수"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].oneLineIntroduce").description("사용자의 한 줄 소개"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].image").description("사용자 이미지"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].career").description("사용자의 경력"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].positions").description("사용자의 역할"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].socialLink").description("사용자의 소셜링크"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].userRole").description("사용자 권한"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].createdAt").description("사용자 생성 날짜"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].hits").description("조회 수"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].experiences").ignored(),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].licenses").ignored(),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].prizes").ignored(),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].technologies[*].id").description("사용자의 기술스택 식별자"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].technologies[*].name").description("사용자의 기술스택 이름"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].projects").ignored(),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].selfInterviews").ignored(),
-                                fieldWithPath("_embedded.accountResponseDtoList[*]._links.self.href").ignored(),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].id").description("사용자 식별자"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].nickName").description("사용자 이름"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].favoriteCount").description("사용자가 받은 좋아요 수"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].oneLineIntroduce").description("사용자의 한 줄 소개"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].image").description("사용자 이미지"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].career").description("사용자의 경력"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].positions").description("사용자의 역할"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].createdAt").description("사용자 생성 날짜"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].hits").description("조회 수"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].technologies[*].id").description("사용자의 기술스택 식별자"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].technologies[*].name").description("사용자의 기술스택 이름"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*]._links.self.href").ignored(),
                                 fieldWithPath("_links.*.*").ignored(),
                                 fieldWithPath("page.size").description("size of page"),
                                 fieldWithPath("page.totalElements").description("total elements of pages"),
@@ -1093,16 +1362,13 @@ class AccountControllerTest extends BaseControllerTest {
 
         this.mockMvc.perform(get(accountURL))
                 .andDo(print())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].id").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].email").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].password").doesNotExist())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].nickName").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].userRole").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].socialLink").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].career").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].positions").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].oneLineIntroduce").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*]._links.self").exists())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*].id").exists())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*].password").doesNotExist())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*].nickName").exists())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*].career").exists())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*].positions").exists())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*].oneLineIntroduce").exists())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*]._links.self").exists())
                 .andExpect(jsonPath("_links.self").exists())
                 .andExpect(jsonPath("_links.profile").exists())
                 .andExpect(jsonPath("page.size").exists())
@@ -1121,26 +1387,18 @@ class AccountControllerTest extends BaseControllerTest {
                                 headerWithName(HttpHeaders.CONTENT_TYPE).description("Content Type Header")
                         ),
                         relaxedResponseFields(
-                                fieldWithPath("_embedded.accountResponseDtoList[*].id").description("사용자 식별자"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].email").description("사용자 이메일"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].nickName").description("사용자 이름"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].favoriteCount").description("사용자가 받은 좋아요 수"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].oneLineIntroduce").description("사용자의 한 줄 소개"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].image").description("사용자 이미지"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].career").description("사용자의 경력"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].positions").description("사용자의 역할"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].socialLink").description("사용자의 소셜링크"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].userRole").description("사용자 권한"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].createdAt").description("사용자 생성 날짜"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].hits").description("조회 수"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].experiences").ignored(),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].licenses").ignored(),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].prizes").ignored(),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].technologies[*].id").description("사용자의 기술스택 식별자"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].technologies[*].name").description("사용자의 기술스택 이름"),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].projects").ignored(),
-                                fieldWithPath("_embedded.accountResponseDtoList[*].selfInterviews").ignored(),
-                                fieldWithPath("_embedded.accountResponseDtoList[*]._links.self.href").ignored(),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].id").description("사용자 식별자"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].nickName").description("사용자 이름"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].favoriteCount").description("사용자가 받은 좋아요 수"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].oneLineIntroduce").description("사용자의 한 줄 소개"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].image").description("사용자 이미지"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].career").description("사용자의 경력"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].positions").description("사용자의 역할"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].createdAt").description("사용자 생성 날짜"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].hits").description("조회 수"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].technologies[*].id").description("사용자의 기술스택 식별자"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].technologies[*].name").description("사용자의 기술스택 이름"),
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*]._links.self.href").ignored(),
                                 fieldWithPath("_links.*.*").ignored(),
                                 fieldWithPath("page.size").description("size of page"),
                                 fieldWithPath("page.totalElements").description("total elements of pages"),
@@ -1241,6 +1499,37 @@ class AccountControllerTest extends BaseControllerTest {
                 .andExpect(jsonPath("favoriteFlag", is(false)));
     }
 
+    @Test
+    @DisplayName("같은 유저의 좋아요가 동시에 들어와도 모두 성공하고 좋아요 수가 행 수와 일치")
+    void favorite_concurrent() throws Exception {
+        Account account = createAccount();
+        Account anotherAccount = createAnotherAccount();
+        String anotherAccountJwt = BEARER + jwtProvider.generateToken(anotherAccount);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 10; round++) {
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Integer>> statuses = new ArrayList<>();
+                for (int i = 0; i < 2; i++) {
+                    statuses.add(executor.submit(() -> {
+                        start.await();
+                        return mockMvc.perform(post(accountURL + "{accountId}/favorite", account.getId())
+                                .header(HttpHeaders.AUTHORIZATION, anotherAccountJwt))
+                                .andReturn().getResponse().getStatus();
+                    }));
+                }
+                start.countDown();
+                for (Future<Integer> status : statuses) {
+                    assertEquals(200, (int) status.get());
+                }
+                boolean favorited = favoriteRepository.existsByFromAccount_IdAndToAccount_Id(anotherAccount.getId(), account.getId());
+                assertEquals(favorited ? 1 : 0, accountRepository.findById(account.getId()).get().getFavoriteCount());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     @DisplayName("좋아요를 누를 유저가 존재하지 않을 때")
     void favorite_not_found() throws Exception {
@@ -1292,6 +1581,37 @@ class AccountControllerTest extends BaseControllerTest {
                 .andExpect(jsonPath("[*].image").exists());
     }
 
+    @Test
+    @DisplayName("좋아요를 누른 유저를 커서로 나누어 조회")
+    void getFavoriteUsersWithCursor() throws Exception {
+        IntStream.rangeClosed(1, 4).forEach(this::createAccount_need_index);
+        List<Account> all = accountRepository.findAll();
+        Account account = all.get(0);
+        for (Account favoriter : all.subList(1, 4)) {
+            mockMvc.perform(post(accountURL + "{accountId}/favorite", account.getId())
+                    .header(HttpHeaders.AUTHORIZATION, BEARER + jwtProvider.generateToken(favoriter)))
+                    .andExpect(status().isOk());
+        }
+
+        String next = mockMvc.perform(get(accountURL + "{accountId}/favorite", account.getId())
+                .param("size", "2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("length()", is(2)))
+                .andExpect(jsonPath("[0].id", is(all.get(3).getId().intValue())))
+                .andExpect(jsonPath("[1].id", is(all.get(2).getId().intValue())))
+                .andExpect(jsonPath("[0].nickName").doesNotExist())
+                .andExpect(header().string(HttpHeaders.LINK, containsString("cursor=" + all.get(2).getId())))
+                .andReturn().getResponse().getHeader(HttpHeaders.LINK);
+
+        mockMvc.perform(get(next.substring(next.indexOf('<') + 1, next.indexOf('>'))))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("length()", is(1)))
+                .andExpect(jsonPath("[0].id", is(all.get(1).getId().intValue())))
+                .andExpect(header().doesNotExist(HttpHeaders.LINK));
+    }
+
     @Test
     @DisplayName("좋아요 순으로 정렬하여 반환")
     void orderByFavorite() throws Exception {
@@ -1358,11 +1678,10 @@ class AccountControllerTest extends BaseControllerTest {
             }
         });
 
-        List<Account> accountList = accountRepository.findAll();
-        int fourthFavoriteCount = accountList.get(3).getFavorite().size();
-        int thirdFavoriteCount = accountList.get(2).getFavorite().size();
-        int secondFavoriteCount = accountList.get(1).getFavorite().size();
-        int firstFavoriteCount = accountList.get(0).getFavorite().size();
+        int fourthFavoriteCount = (int) accountRepository.findById(fourth.getId()).get().getFavoriteCount();
+        int thirdFavoriteCount = (int) accountRepository.findById(third.getId()).get().getFavoriteCount();
+        int secondFavoriteCount = (int) accountRepository.findById(second.getId()).get().getFavoriteCount();
+        int firstFavoriteCount = (int) accountRepository.findById(first.getId()).get().getFavoriteCount();
 
         assertEquals(fourthFavoriteCount, 3);
         assertEquals(thirdFavoriteCount, 2);
@@ -1373,18 +1692,211 @@ class AccountControllerTest extends BaseControllerTest {
                         .queryParam("orderBy", "favorite"))
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].id").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].email").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].password").doesNotExist())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].nickName").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].userRole").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].socialLink").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*].oneLineIntroduce").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[*]._links.self").exists())
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[0].favoriteCount", is(3)))
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[1].favoriteCount", is(2)))
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[2].favoriteCount", is(1)))
-                .andExpect(jsonPath("_embedded.accountResponseDtoList[3].favoriteCount", is(0)));
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*].id").exists())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*].password").doesNotExist())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*].nickName").exists())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*].oneLineIntroduce").exists())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*]._links.self").exists())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[0].favoriteCount", is(3)))
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[1].favoriteCount", is(2)))
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[2].favoriteCount", is(1)))
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[3].favoriteCount", is(0)));
+    }
+
+    @Test
+    @DisplayName("n-gram 색인으로 필터링 하고 검색어와 가까운 순으로 유저 조회")
+    void load_filtered_accounts_by_relevance() throws Exception {
+        IntStream.rangeClosed(1, 21).forEach(this::createAccounts);
+
+        mockMvc.perform(get(accountURL)
+                .queryParam("nickName", "1" + appProperties.getTestNickname())
+                .queryParam("orderBy", "relevance"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements", is(3)))
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[0].nickName", is("1" + appProperties.getTestNickname())));
+
+        mockMvc.perform(get(accountURL)
+                .queryParam("oneLineIntroduce", "줄 소"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements", is(21)));
+
+        mockMvc.perform(get(accountURL)
+                .queryParam("oneLineIntroduce", "줄소"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("검색 토큰이 빠진 유저도 reconcile 뒤에는 검색")
+    void load_filtered_accounts_after_reconcile() throws Exception {
+        IntStream.rangeClosed(1, 3).forEach(this::createAccounts);
+        searchTokenRepository.deleteAll();
+
+        mockMvc.perform(get(accountURL)
+                .queryParam("oneLineIntroduce", "줄 소"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded").doesNotExist());
+
+        assertThat(searchIndexReconciler.reconcile()).isEqualTo(3);
+        assertThat(searchIndexReconciler.reconcile()).isZero();
+        filterCountCache.evictAccountCounts();
+
+        mockMvc.perform(get(accountURL)
+                .queryParam("oneLineIntroduce", "줄 소"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements", is(3)));
+    }
+
+    @Test
+    @DisplayName("여러 기술스택을 모두 가진 유저, 하나라도 가진 유저 조회")
+    void load_filtered_accounts_by_technologies() throws Exception {
+        List<Technology> technologyList = technologyRepository.saveAll(Arrays.asList(Technology.builder().id(1L).name("Java").build(), Technology.builder().id(2L).name("Python").build()));
+        IntStream.rangeClosed(1, 3).forEach(this::createAccounts);
+        List<Account> accounts = accountRepository.findAll();
+        accountTechRepository.saveAll(Arrays.asList(
+                AccountTech.builder().account(accounts.get(0)).technology(technologyList.get(0)).build(),
+                AccountTech.builder().account(accounts.get(0)).technology(technologyList.get(1)).build(),
+                AccountTech.builder().account(accounts.get(1)).technology(technologyList.get(0)).build(),
+                AccountTech.builder().account(accounts.get(2)).technology(technologyList.get(1)).build()));
+
+        mockMvc.perform(get(accountURL)
+                .queryParam("technology", "Java", "Python"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements", is(1)))
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[0].id", is(accounts.get(0).getId().intValue())));
+
+        mockMvc.perform(get(accountURL)
+                .queryParam("technology", "Java,Python")
+                .queryParam("technologyMatch", "any"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements", is(3)));
+
+        mockMvc.perform(get(accountURL)
+                .queryParam("technology", "Java,vim"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("커서 기반으로 모든 유저 조회")
+    void load_allAccounts_with_cursor() throws Exception {
+        IntStream.rangeClosed(1, 30).forEach(this::createAccounts);
+
+        mockMvc.perform(get(accountURL)
+                .queryParam("orderBy", "hits")
+                .queryParam("cursor", "")
+                .queryParam("count", "true")
+                .queryParam("size", "10"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList.length()", is(10)))
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*]._links.self").exists())
+                .andExpect(jsonPath("nextCursor").exists())
+                .andExpect(jsonPath("totalElements", is(30)))
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.next").exists())
+                .andExpect(jsonPath("_links.profile").exists())
+                .andDo(document("load-allAccounts-cursor",
+                        links(
+                                linkWithRel("self").description("link to self"),
+                                linkWithRel("next").description("link to next slice"),
+                                linkWithRel("profile").description("link to profile")
+                        ),
+                        relaxedResponseFields(
+                                fieldWithPath("_embedded.accountCardResponseDtoList[*].id").description("사용자 식별자"),
+                                fieldWithPath("nextCursor").description("다음 목록을 조회할 때 cursor 로 전달할 값, 마지막 목록이면 없음"),
+                                fieldWithPath("totalElements").description("count=true 일 때만 포함되는 전체 사용자 수")
+                        )
+                ));
+
+        Set<Object> loadedIds = new HashSet<>();
+        String cursor = "";
+        int slices = 0;
+        while (cursor != null) {
+            String response = mockMvc.perform(get(accountURL)
+                    .queryParam("orderBy", "hits")
+                    .queryParam("cursor", cursor)
+                    .queryParam("size", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("totalElements").doesNotExist())
+                    .andReturn().getResponse().getContentAsString();
+            List<Object> ids = JsonPath.read(response, "_embedded.accountCardResponseDtoList[*].id");
+            loadedIds.addAll(ids);
+            cursor = JsonPath.<List<String>>read(response, "$..nextCursor").stream().findFirst().orElse(null);
+            slices++;
+        }
+
+        assertEquals(30, loadedIds.size());
+        assertEquals(3, slices);
+    }
+
+    @Test
+    @DisplayName("정렬 기준이 다른 커서로 유저 조회 시 Bad Request")
+    void load_allAccounts_with_invalid_cursor() throws Exception {
+        IntStream.rangeClosed(1, 3).forEach(this::createAccounts);
+
+        String response = mockMvc.perform(get(accountURL)
+                .queryParam("orderBy", "hits")
+                .queryParam("cursor", "")
+                .queryParam("size", "1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = JsonPath.read(response, "nextCursor");
+
+        mockMvc.perform(get(accountURL)
+                .queryParam("orderBy", "favorite")
+                .queryParam("cursor", nextCursor))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get(accountURL)
+                .queryParam("cursor", "invalid"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("compact 타입으로 유저 목록 조회 시 항목의 링크 없이 응답")
+    void load_allAccounts_compact() throws Exception {
+        IntStream.rangeClosed(1, 3).forEach(this::createAccounts);
+
+        String response = mockMvc.perform(get(accountURL)
+                .queryParam("orderBy", "hits"))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItems(HttpHeaders.ACCEPT)))
+                .andReturn().getResponse().getContentAsString();
+        List<Object> ids = JsonPath.read(response, "_embedded.accountCardResponseDtoList[*].id");
+        List<String> selfLinks = JsonPath.read(response, "_embedded.accountCardResponseDtoList[*]._links.self.href");
+        assertTrue(selfLinks.get(0).endsWith(accountURL + ids.get(0)));
+
+        mockMvc.perform(get(accountURL)
+                .queryParam("orderBy", "hits")
+                .accept(HateoasFormatter.HAL_JSON_COMPACT))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList.length()", is(3)))
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*]._links").doesNotExist())
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.profile").exists());
+
+        mockMvc.perform(get(accountURL)
+                .queryParam("orderBy", "hits")
+                .queryParam("cursor", "")
+                .queryParam("size", "2")
+                .accept(HateoasFormatter.HAL_JSON_COMPACT))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList.length()", is(2)))
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[*]._links").doesNotExist())
+                .andExpect(jsonPath("_links.next").exists());
     }
 
     @Test
@@ -1415,13 +1927,11 @@ class AccountControllerTest extends BaseControllerTest {
                 .andExpect(jsonPath("nickName", is(appProperties.getTestNickname())))
                 .andExpect(jsonPath("userRole").exists())
                 .andExpect(jsonPath("technologies").exists())
-                .andExpect(jsonPath("hits", is(1)))
-                .andExpect(cookie().exists("cookie" + newAccount.getId()));
+                .andExpect(jsonPath("hits", is(1)));
 
         //유저1을 두번 조회했을 경우
         mockMvc.perform(get(accountURL + "{accountId}", newAccount.getId())
-                .header(HttpHeaders.AUTHORIZATION, jwt)
-                .cookie(new Cookie("cookie" + newAccount.getId(), "|" + newAccount.getId() + "|")))
+                .header(HttpHeaders.AUTHORIZATION, jwt))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("id").exists())
@@ -1443,13 +1953,11 @@ class AccountControllerTest extends BaseControllerTest {
                 .andExpect(jsonPath("nickName", is(thirdAccount.getNickName())))
                 .andExpect(jsonPath("userRole").exists())
                 .andExpect(jsonPath("technologies").exists())
-                .andExpect(jsonPath("hits", is(1)))
-                .andExpect(cookie().exists("cookie" + thirdAccount.getId()));
+                .andExpect(jsonPath("hits", is(1)));
 
         //유저3을 두번 조회했을 경우
         mockMvc.perform(get(accountURL + "{accountId}", thirdAccount.getId())
-                .header(HttpHeaders.AUTHORIZATION, jwt)
-                .cookie(new Cookie("cookie" + thirdAccount.getId(), "|" + thirdAccount.getId() + "|")))
+                .header(HttpHeaders.AUTHORIZATION, jwt))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("id").exists())
@@ -1462,8 +1970,7 @@ class AccountControllerTest extends BaseControllerTest {
 
         //유저1을 다시 조회했을 경우
         mockMvc.perform(get(accountURL + "{accountId}", newAccount.getId())
-                .header(HttpHeaders.AUTHORIZATION, jwt)
-                .cookie(new Cookie("cookie" + newAccount.getId(), "|" + newAccount.getId() + "|")))
+                .header(HttpHeaders.AUTHORIZATION, jwt))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("id").exists())
@@ -1475,6 +1982,35 @@ class AccountControllerTest extends BaseControllerTest {
                 .andExpect(jsonPath("hits", is(1)));
     }
 
+    @Test
+    @DisplayName("조회 수는 모아 두었다가 한 번에 반영되고, 반영된 조회 수로 정렬")
+    void flush_hits() throws Exception {
+        Account newAccount = createAccount();
+        Account anotherAccount = createAnotherAccount();
+        IntStream.rangeClosed(1, 2).forEach(this::createAccounts);
+        List<Account> viewers = Arrays.asList(anotherAccount,
+                accountRepository.findByEmail(1 + appProperties.getTestEmail()).get(),
+                accountRepository.findByEmail(2 + appProperties.getTestEmail()).get());
+
+        for (int i = 0; i < viewers.size(); i++) {
+            mockMvc.perform(get(accountURL + "{accountId}", newAccount.getId())
+                    .header(HttpHeaders.AUTHORIZATION, BEARER + jwtProvider.generateToken(viewers.get(i))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("hits", is(i + 1)));
+        }
+        assertEquals(0L, accountRepository.findById(newAccount.getId()).get().getHits());
+
+        accountHitsCounter.flush();
+
+        assertEquals(3L, accountRepository.findById(newAccount.getId()).get().getHits());
+        assertEquals(0L, accountHitsCounter.pending(newAccount.getId()));
+        mockMvc.perform(get(accountURL)
+                .queryParam("orderBy", "hits"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[0].id", is(newAccount.getId().intValue())))
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[0].hits", is(3)));
+    }
+
     protected Account createAccount_need_index(int index) {
         Account account = Account.builder()
                 .email("test" + index + "@email.com")
@@ -4,9 +4,15 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pickmebackend.config.jwt.JwtProvider;
 import com.pickmebackend.controller.common.BaseControllerTest;
 import com.pickmebackend.domain.Account;
+import com.pickmebackend.domain.Experience;
 import com.pickmebackend.domain.dto.account.AccountInitialRequestDto;
 import com.pickmebackend.domain.enums.UserRole;
+import com.jayway.jsonpath.JsonPath;
+import com.pickmebackend.image.ImageBlobCollector;
+import com.pickmebackend.image.ImageBlobStore;
+import com.pickmebackend.properties.AccountImageProperties;
 import com.pickmebackend.properties.AppProperties;
+import com.pickmebackend.repository.ExperienceRepository;
 import com.pickmebackend.repository.account.AccountRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Disabled;
@@ -14,15 +20,34 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 class AccountImageControllerTest extends BaseControllerTest {
 
@@ -38,11 +63,27 @@ class AccountImageControllerTest extends BaseControllerTest {
     @Autowired
     private AccountRepository accountRepository;
 
+    @Autowired
+    private ExperienceRepository experienceRepository;
+
     @Autowired
     private JwtProvider jwtProvider;
 
+    @Autowired
+    private AccountImageProperties accountImageProperties;
+
+    @Autowired
+    private ImageBlobStore imageBlobStore;
+
+    @Autowired
+    private ImageBlobCollector imageBlobCollector;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @AfterEach
     void setUp() {
+        experienceRepository.deleteAll();
         accountRepository.deleteAll();
     }
 
@@ -71,7 +112,7 @@ class AccountImageControllerTest extends BaseControllerTest {
     @Test
     @DisplayName("이미지가 정상적으로 저장되는지 테스트")
     void save_image() throws Exception {
-        MockMultipartFile mockImage = new MockMultipartFile("image", "test.png", MediaType.IMAGE_PNG_VALUE, "test image content".getBytes());
+        MockMultipartFile mockImage = new MockMultipartFile("image", "test.png", MediaType.IMAGE_PNG_VALUE, createPng(800, 600));
 
         Account savedAccount = generateAccount();
         String jwt = jwtProvider.generateToken(savedAccount);
@@ -83,6 +124,206 @@ class AccountImageControllerTest extends BaseControllerTest {
                 .andExpect(status().isCreated());
     }
 
+    @Test
+    @DisplayName("경력이 있는 유저도 이미지를 저장하면 유저 정보를 반환")
+    void save_image_with_experience() throws Exception {
+        MockMultipartFile mockImage = new MockMultipartFile("image", "test.png", MediaType.IMAGE_PNG_VALUE, createPng(800, 600));
+
+        Account savedAccount = generateAccount();
+        experienceRepository.save(Experience.builder().companyName("D&D").account(savedAccount).build());
+        String jwt = jwtProvider.generateToken(savedAccount);
+
+        mockMvc.perform(multipart("/api/images")
+                        .file(mockImage)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwt))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("id", is(savedAccount.getId().intValue())))
+                .andExpect(jsonPath("experiences.length()", is(1)))
+                .andExpect(jsonPath("experiences[0].companyName", is("D&D")))
+                .andExpect(jsonPath("experiences[0].account").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("업로드 시 만든 썸네일을 크기별로 조회")
+    void load_thumbnails() throws Exception {
+        String imageName = uploadImage();
+
+        assertEquals(accountImageProperties.getListSize(), loadImage(imageName, "list").getWidth());
+        assertEquals(accountImageProperties.getProfileSize(), loadImage(imageName, "profile").getHeight());
+        assertEquals(800, loadImage(imageName, "original").getWidth());
+
+        mockMvc.perform(get("/api/images/{imageName}", imageName).param("size", "huge"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("원본은 다시 인코딩해서 업로드에 있던 메타데이터를 내려주지 않음")
+    void original_without_metadata() throws Exception {
+        byte[] content = withTextChunk(createPng(800, 600), "GPSPosition", "37.5665 N, 126.9780 E " + UUID.randomUUID());
+        String imageName = uploadImage(jwtProvider.generateToken(generateAccount()), content);
+
+        String original = mockMvc.perform(get("/api/images/{imageName}", imageName).param("size", "original"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.ISO_8859_1);
+        assertFalse(original.contains("GPSPosition"));
+        assertEquals(800, loadImage(imageName, "original").getWidth());
+    }
+
+    @Test
+    @DisplayName("프로필에는 profile 썸네일, 목록에는 list 썸네일 주소를 내려줌")
+    void image_url_with_size() throws Exception {
+        Account savedAccount = generateAccount();
+        String imageName = uploadImage(jwtProvider.generateToken(savedAccount), createPng(800, 600));
+        String imageUrl = accountImageProperties.getUrlPrefix() + imageName;
+
+        mockMvc.perform(get("/api/accounts/{accountId}", savedAccount.getId()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("image", is(imageUrl + "?size=profile")));
+
+        mockMvc.perform(get("/api/accounts"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[0].image", is(imageUrl + "?size=list")));
+    }
+
+    @Test
+    @DisplayName("ETag 가 같으면 본문 없이 304 를 반환")
+    void load_image_not_modified() throws Exception {
+        String imageName = uploadImage();
+
+        String eTag = mockMvc.perform(get("/api/images/{imageName}", imageName))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")))
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.IMAGE_PNG_VALUE))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/images/{imageName}", imageName).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("Range 요청 시 요청한 구간만 206 으로 반환")
+    void load_image_range() throws Exception {
+        String imageName = uploadImage();
+        byte[] image = mockMvc.perform(get("/api/images/{imageName}", imageName))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        mockMvc.perform(get("/api/images/{imageName}", imageName).header(HttpHeaders.RANGE, "bytes=8-15"))
+                .andDo(print())
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 8-15/" + image.length))
+                .andExpect(content().bytes(Arrays.copyOfRange(image, 8, 16)));
+
+        mockMvc.perform(get("/api/images/{imageName}", imageName).header(HttpHeaders.RANGE, "bytes=" + image.length + "-"))
+                .andDo(print())
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + image.length));
+    }
+
+    @Test
+    @DisplayName("같은 이미지를 다시 올리면 같은 파일을 가리킴")
+    void save_same_image() throws Exception {
+        String imageName = uploadImage();
+        String eTag = mockMvc.perform(get("/api/images/{imageName}", imageName))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        Account anotherAccount = accountRepository.save(Account.builder()
+                .email("another@email.com")
+                .password(appProperties.getTestPassword())
+                .nickName("another")
+                .userRole(UserRole.USER)
+                .build());
+        MockMultipartFile sameImage = new MockMultipartFile("image", "another.png", MediaType.IMAGE_PNG_VALUE, createPng(800, 600));
+
+        mockMvc.perform(multipart("/api/images")
+                .file(sameImage)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtProvider.generateToken(anotherAccount)))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("image", is(accountImageProperties.getUrlPrefix() + imageName + "?size=profile")));
+        assertTrue(ImageBlobStore.isBlobName(imageName));
+        assertTrue(Files.exists(imageBlobStore.resolve(imageName)));
+
+        mockMvc.perform(get("/api/images/{imageName}", imageName).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andDo(print())
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("image.url-prefix 가 바뀌기 전 주소로 가리키는 이미지는 지우지 않음")
+    void collect_keeps_images_with_old_url_prefix() throws Exception {
+        Account account = generateAccount();
+        String imageName = uploadImage(jwtProvider.generateToken(account), createPng(300, 200));
+        Account savedAccount = accountRepository.findById(account.getId()).get();
+        savedAccount.setImage("https://old-host.example.com/api/images/" + imageName);
+        accountRepository.save(savedAccount);
+        Path image = imageBlobStore.resolve(imageName);
+        Files.setLastModifiedTime(image, FileTime.fromMillis(System.currentTimeMillis() - accountImageProperties.getGcGracePeriod().toMillis() * 2));
+
+        imageBlobCollector.collect();
+
+        assertTrue(Files.exists(image));
+        assertTrue(Files.exists(image.resolveSibling("list_" + imageName)));
+    }
+
+    @Test
+    @DisplayName("파일 이름이 따로 저장되기 전에 연결된 이미지는 이름을 채우고 지우지 않음")
+    void collect_keeps_images_without_image_blob() throws Exception {
+        Account account = generateAccount();
+        String imageName = uploadImage(jwtProvider.generateToken(account), createPng(300, 200));
+        jdbcTemplate.update("update account set image_blob = null where id = ?", account.getId());
+        Path image = imageBlobStore.resolve(imageName);
+        Files.setLastModifiedTime(image, FileTime.fromMillis(System.currentTimeMillis() - accountImageProperties.getGcGracePeriod().toMillis() * 2));
+
+        imageBlobCollector.collect();
+
+        assertTrue(Files.exists(image));
+        assertEquals(imageName, accountRepository.findById(account.getId()).get().getImageBlob());
+    }
+
+    @Test
+    @DisplayName("어떤 계정도 가리키지 않는 오래된 이미지는 썸네일과 함께 지워짐")
+    void collect_orphan_images() throws Exception {
+        Account account = generateAccount();
+        String jwt = jwtProvider.generateToken(account);
+        String orphanName = uploadImage(jwt, createPng(300, 200));
+        String referencedName = uploadImage(jwt, createPng(200, 300));
+        Path orphan = imageBlobStore.resolve(orphanName);
+        Path referenced = imageBlobStore.resolve(referencedName);
+        FileTime old = FileTime.fromMillis(System.currentTimeMillis() - accountImageProperties.getGcGracePeriod().toMillis() * 2);
+        Files.setLastModifiedTime(orphan, old);
+        Files.setLastModifiedTime(referenced, old);
+
+        assertTrue(imageBlobCollector.collect() >= 1);
+
+        assertFalse(Files.exists(orphan));
+        assertFalse(Files.exists(orphan.resolveSibling("list_" + orphanName)));
+        assertTrue(Files.exists(referenced));
+        assertTrue(Files.exists(referenced.resolveSibling("profile_" + referencedName)));
+    }
+
+    @Test
+    @DisplayName("이미지로 읽을 수 없는 내용인 경우")
+    void save_image_undecodable_content() throws Exception {
+        MockMultipartFile image = new MockMultipartFile("image", "test.png", MediaType.IMAGE_PNG_VALUE, "test image content".getBytes());
+
+        Account savedAccount = generateAccount();
+        String jwt = jwtProvider.generateToken(savedAccount);
+
+        mockMvc.perform(multipart("/api/images")
+                .file(image)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwt))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("이미지 파일이 아닌 경우")
     void save_image_not_image() throws Exception {
@@ -128,6 +369,54 @@ class AccountImageControllerTest extends BaseControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    private String uploadImage() throws Exception {
+        return uploadImage(jwtProvider.generateToken(generateAccount()), createPng(800, 600));
+    }
+
+    private String uploadImage(String jwt, byte[] content) throws Exception {
+        MockMultipartFile mockImage = new MockMultipartFile("image", "test.png", MediaType.IMAGE_PNG_VALUE, content);
+
+        String imageUrl = JsonPath.read(mockMvc.perform(multipart("/api/images")
+                        .file(mockImage)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwt))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString(), "image");
+        return UriComponentsBuilder.fromUriString(imageUrl).build().getPathSegments().stream().reduce((first, second) -> second).get();
+    }
+
+    private BufferedImage loadImage(String imageName, String size) throws Exception {
+        byte[] content = mockMvc.perform(get("/api/images/{imageName}", imageName).param("size", size))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        return ImageIO.read(new ByteArrayInputStream(content));
+    }
+
+    private byte[] createPng(int width, int height) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * IHDR 바로 뒤에 tEXt 청크를 끼워 넣는다.
+     */
+    private byte[] withTextChunk(byte[] png, String keyword, String text) {
+        byte[] data = (keyword + "\0" + text).getBytes(StandardCharsets.ISO_8859_1);
+        byte[] type = "tEXt".getBytes(StandardCharsets.ISO_8859_1);
+        CRC32 crc = new CRC32();
+        crc.update(type);
+        crc.update(data);
+        int ihdrEnd = 8 + 25;
+        return ByteBuffer.allocate(png.length + 12 + data.length)
+                .put(png, 0, ihdrEnd)
+                .putInt(data.length)
+                .put(type)
+                .put(data)
+                .putInt((int) crc.getValue())
+                .put(png, ihdrEnd, png.length - ihdrEnd)
+                .array();
+    }
+
     private AccountInitialRequestDto createInitialAccount() {
         return AccountInitialRequestDto.builder()
                 .email(appProperties.getTestEmail())
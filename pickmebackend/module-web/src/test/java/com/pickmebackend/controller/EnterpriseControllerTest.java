@@ -7,6 +7,7 @@ import com.pickmebackend.domain.dto.enterprise.EnterpriseRequestDto;
 import com.pickmebackend.domain.dto.enterprise.EnterpriseResponseDto;
 import com.pickmebackend.domain.enums.UserRole;
 import com.pickmebackend.resource.EnterpriseResource;
+import com.pickmebackend.resource.HateoasFormatter;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
@@ -27,6 +28,7 @@ import java.util.Optional;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -101,21 +103,10 @@ class EnterpriseControllerTest extends BaseControllerTest {
                                 fieldWithPath("account.id").description("기업 담당자 식별자"),
                                 fieldWithPath("account.email").ignored(),
                                 fieldWithPath("account.nickName").ignored(),
-                                fieldWithPath("account.favorite").ignored(),
-                                fieldWithPath("account.positions").ignored(),
                                 fieldWithPath("account.userRole").description("기업 담당자 권한"),
-                                fieldWithPath("account.career").ignored(),
                                 fieldWithPath("account.createdAt").description("기업 담당자 생성 날짜"),
                                 fieldWithPath("account.oneLineIntroduce").ignored(),
                                 fieldWithPath("account.image").ignored(),
-                                fieldWithPath("account.socialLink").ignored(),
-                                fieldWithPath("account.enterprise.*").ignored(),
-                                fieldWithPath("account.experiences").ignored(),
-                                fieldWithPath("account.licenses").ignored(),
-                                fieldWithPath("account.prizes").ignored(),
-                                fieldWithPath("account.hits").ignored(),
-                                fieldWithPath("account.projects").ignored(),
-                                fieldWithPath("account.selfInterviews").ignored(),
                                 fieldWithPath("_links.*.*").ignored()
                         )
                 ))
@@ -186,21 +177,10 @@ class EnterpriseControllerTest extends BaseControllerTest {
                                 fieldWithPath("account.id").description("기업 담당자 식별자"),
                                 fieldWithPath("account.email").ignored(),
                                 fieldWithPath("account.nickName").ignored(),
-                                fieldWithPath("account.favorite").ignored(),
-                                fieldWithPath("account.positions").ignored(),
                                 fieldWithPath("account.userRole").description("기업 담당자 권한"),
-                                fieldWithPath("account.career").ignored(),
                                 fieldWithPath("account.createdAt").description("기업 담당자 생성 날짜"),
                                 fieldWithPath("account.oneLineIntroduce").ignored(),
                                 fieldWithPath("account.image").ignored(),
-                                fieldWithPath("account.socialLink").ignored(),
-                                fieldWithPath("account.enterprise.*").ignored(),
-                                fieldWithPath("account.experiences").ignored(),
-                                fieldWithPath("account.hits").ignored(),
-                                fieldWithPath("account.licenses").ignored(),
-                                fieldWithPath("account.prizes").ignored(),
-                                fieldWithPath("account.projects").ignored(),
-                                fieldWithPath("account.selfInterviews").ignored(),
                                 fieldWithPath("_links.*.*").ignored()
                         )
                         ))
@@ -255,21 +235,10 @@ class EnterpriseControllerTest extends BaseControllerTest {
                                 fieldWithPath("account.id").description("기업 담당자 식별자"),
                                 fieldWithPath("account.email").ignored(),
                                 fieldWithPath("account.nickName").ignored(),
-                                fieldWithPath("account.favorite").ignored(),
-                                fieldWithPath("account.positions").ignored(),
                                 fieldWithPath("account.userRole").description("기업 담당자 권한"),
-                                fieldWithPath("account.career").ignored(),
                                 fieldWithPath("account.createdAt").description("기업 담당자 생성 날짜"),
                                 fieldWithPath("account.oneLineIntroduce").ignored(),
                                 fieldWithPath("account.image").ignored(),
-                                fieldWithPath("account.socialLink").ignored(),
-                                fieldWithPath("account.enterprise.*").ignored(),
-                                fieldWithPath("account.experiences").ignored(),
-                                fieldWithPath("account.licenses").ignored(),
-                                fieldWithPath("account.hits").ignored(),
-                                fieldWithPath("account.prizes").ignored(),
-                                fieldWithPath("account.projects").ignored(),
-                                fieldWithPath("account.selfInterviews").ignored(),
                                 fieldWithPath("_links.*.*").ignored()
                         )
                 ))
@@ -336,21 +305,10 @@ class EnterpriseControllerTest extends BaseControllerTest {
                                 fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.id").description("기업 담당자 식별자"),
                                 fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.email").ignored(),
                                 fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.nickName").ignored(),
-                                fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.favorite").ignored(),
-                                fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.hits").ignored(),
-                                fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.positions").ignored(),
                                 fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.userRole").description("기업 담당자 권한"),
-                                fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.career").ignored(),
                                 fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.createdAt").description("기업 담당자 생성 날짜"),
                                 fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.oneLineIntroduce").ignored(),
                                 fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.image").ignored(),
-                                fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.socialLink").ignored(),
-                                fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.enterprise.*").ignored(),
-                                fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.experiences").ignored(),
-                                fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.licenses").ignored(),
-                                fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.prizes").ignored(),
-                                fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.projects").ignored(),
-                                fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.selfInterviews").ignored(),
                                 fieldWithPath("_embedded.enterpriseResponseDtoList[*]._links.self.href").ignored(),
                                 fieldWithPath("_links.*.*").ignored(),
                                 fieldWithPath("page.size").description("size of page"),
@@ -362,6 +320,23 @@ class EnterpriseControllerTest extends BaseControllerTest {
         ;
     }
 
+    @Test
+    @DisplayName("compact 타입으로 기업 담당자 목록 조회 시 항목의 링크 없이 응답")
+    void load_all_enterprises_compact() throws Exception {
+        IntStream.rangeClosed(1, 3).forEach(this::createEnterpriseDtos);
+
+        this.mockMvc.perform(get(enterpriseURL)
+                .accept(HateoasFormatter.HAL_JSON_COMPACT))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItems(HttpHeaders.ACCEPT)))
+                .andExpect(jsonPath("_embedded.enterpriseResponseDtoList.length()", is(3)))
+                .andExpect(jsonPath("_embedded.enterpriseResponseDtoList[*].id").exists())
+                .andExpect(jsonPath("_embedded.enterpriseResponseDtoList[*]._links").doesNotExist())
+                .andExpect(jsonPath("_links.self").exists())
+                .andExpect(jsonPath("_links.profile").exists());
+    }
+
     @Test
     @DisplayName("정상적으로 필터링 된 기업 담당자가 없을 때")
     void load_filtered_enterprises_is_empty() throws Exception   {
@@ -438,21 +413,10 @@ class EnterpriseControllerTest extends BaseControllerTest {
                                 fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.id").description("기업 담당자 식별자"),
                                 fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.email").ignored(),
                                 fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.nickName").ignored(),
-                                fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.favorite").ignored(),
-                                fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.hits").ignored(),
-                                fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.positions").ignored(),
                                 fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.userRole").description("기업 담당자 권한"),
-                                fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.career").ignored(),
                                 fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.createdAt").description("기업 담당자 생성 날짜"),
                                 fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.oneLineIntroduce").ignored(),
                                 fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.image").ignored(),
-                                fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.socialLink").ignored(),
-                                fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.enterprise.*").ignored(),
-                                fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.experiences").ignored(),
-                                fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.licenses").ignored(),
-                                fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.prizes").ignored(),
-                                fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.projects").ignored(),
-                                fieldWithPath("_embedded.enterpriseResponseDtoList[*].account.selfInterviews").ignored(),
                                 fieldWithPath("_embedded.enterpriseResponseDtoList[*]._links.self.href").ignored(),
                                 fieldWithPath("_links.*.*").ignored(),
                                 fieldWithPath("page.size").description("size of page"),
@@ -525,24 +489,10 @@ class EnterpriseControllerTest extends BaseControllerTest {
                                 fieldWithPath("account.id").description("사용자 식별자"),
                                 fieldWithPath("account.email").description("사용자 이메일"),
                                 fieldWithPath("account.nickName").description("회사 이름"),
-                                fieldWithPath("account.favorite").ignored(),
                                 fieldWithPath("account.userRole").description("사용자 권한"),
                                 fieldWithPath("account.createdAt").description("사용자 생성 날짜"),
                                 fieldWithPath("account.oneLineIntroduce").ignored(),
                                 fieldWithPath("account.image").ignored(),
-
-                                fieldWithPath("account.enterprise.id").ignored(),
-                                fieldWithPath("account.enterprise.registrationNumber").ignored(),
-                                fieldWithPath("account.enterprise.name").ignored(),
-                                fieldWithPath("account.enterprise.address").ignored(),
-                                fieldWithPath("account.enterprise.ceoName").ignored(),
-                                fieldWithPath("account.enterprise.account").ignored(),
-
-                                fieldWithPath("account.experiences").ignored(),
-                                fieldWithPath("account.licenses").ignored(),
-                                fieldWithPath("account.prizes").ignored(),
-                                fieldWithPath("account.projects").ignored(),
-                                fieldWithPath("account.selfInterviews").ignored(),
                                 fieldWithPath("_links.*.*").ignored()
                         )
                 ))
@@ -560,7 +510,7 @@ class EnterpriseControllerTest extends BaseControllerTest {
         assertEquals(account.getNickName(), appProperties.getTestName());
         assertEquals(account.getUserRole(), UserRole.ENTERPRISE);
         assertNotNull(account.getCreatedAt());
-        assertEquals(account.getEnterprise(), enterprise);
+        assertEquals(account.getEnterprise().getId(), enterprise.getId());
 
         assertNotNull(enterprise.getId());
         assertEquals(enterprise.getRegistrationNumber(), appProperties.getTestRegistrationNumber());
@@ -693,24 +643,10 @@ class EnterpriseControllerTest extends BaseControllerTest {
                                 fieldWithPath("account.id").description("수정할 사용자 식별자"),
                                 fieldWithPath("account.email").description("수정할 사용자 이메일"),
                                 fieldWithPath("account.nickName").description("수정할 회사 이름"),
-                                fieldWithPath("account.favorite").ignored(),
                                 fieldWithPath("account.userRole").description("수정할 사용자 권한"),
                                 fieldWithPath("account.createdAt").description("수정할 사용자 생성 날짜"),
                                 fieldWithPath("account.oneLineIntroduce").ignored(),
                                 fieldWithPath("account.image").ignored(),
-
-                                fieldWithPath("account.enterprise.id").ignored(),
-                                fieldWithPath("account.enterprise.registrationNumber").ignored(),
-                                fieldWithPath("account.enterprise.name").ignored(),
-                                fieldWithPath("account.enterprise.address").ignored(),
-                                fieldWithPath("account.enterprise.ceoName").ignored(),
-                                fieldWithPath("account.enterprise.account").ignored(),
-
-                                fieldWithPath("account.experiences").ignored(),
-                                fieldWithPath("account.licenses").ignored(),
-                                fieldWithPath("account.prizes").ignored(),
-                                fieldWithPath("account.projects").ignored(),
-                                fieldWithPath("account.selfInterviews").ignored(),
                                 fieldWithPath("_links.*.*").ignored()
                         )
                 ))
@@ -726,7 +662,7 @@ class EnterpriseControllerTest extends BaseControllerTest {
         assertEquals(modifiedAccount.getNickName(), "newName");
         assertEquals(modifiedAccount.getUserRole(), UserRole.ENTERPRISE);
         assertNotNull(modifiedAccount.getCreatedAt());
-        assertEquals(modifiedAccount.getEnterprise(), modifiedEnterprise);
+        assertEquals(modifiedAccount.getEnterprise().getId(), modifiedEnterprise.getId());
 
         assertNotNull(modifiedEnterprise.getId());
         assertEquals(modifiedEnterprise.getRegistrationNumber(), "newRegistrationNumber");
@@ -735,6 +671,43 @@ class EnterpriseControllerTest extends BaseControllerTest {
         assertEquals(modifiedEnterprise.getCeoName(), "newCeoName");
     }
 
+    @Test
+    @DisplayName("비밀번호를 바꾸면 이전에 발급된 토큰은 거절되고, 비밀번호가 그대로면 토큰이 유지됨")
+    void update_enterprise_password_revokes_token() throws Exception {
+        EnterpriseRequestDto enterpriseRequestDto = createEnterpriseDto();
+        Account account = accountRepository.findByEmail(enterpriseRequestDto.getEmail()).get();
+        jwt = jwtProvider.generateToken(account);
+
+        enterpriseRequestDto.setName("newName");
+        this.mockMvc.perform(put(enterpriseURL + "{enterpriseId}", account.getId())
+                .header(HttpHeaders.AUTHORIZATION, BEARER + jwt)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(enterpriseRequestDto)))
+                .andExpect(status().isOk());
+
+        enterpriseRequestDto.setPassword("newPassword");
+        this.mockMvc.perform(put(enterpriseURL + "{enterpriseId}", account.getId())
+                .header(HttpHeaders.AUTHORIZATION, BEARER + jwt)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(enterpriseRequestDto)))
+                .andExpect(status().isOk());
+
+        this.mockMvc.perform(put(enterpriseURL + "{enterpriseId}", account.getId())
+                .header(HttpHeaders.AUTHORIZATION, BEARER + jwt)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(enterpriseRequestDto)))
+                .andDo(print())
+                .andExpect(status().isUnauthorized());
+
+        String newJwt = jwtProvider.generateToken(accountRepository.findByEmail(enterpriseRequestDto.getEmail()).get());
+        this.mockMvc.perform(put(enterpriseURL + "{enterpriseId}", account.getId())
+                .header(HttpHeaders.AUTHORIZATION, BEARER + newJwt)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(enterpriseRequestDto)))
+                .andDo(print())
+                .andExpect(status().isOk());
+    }
+
     @Test
     @DisplayName("수정시 존재 하지 않는 기업 담당자 수정 할 경우 Bad Request 반환")
     void update_non_enterprise() throws Exception {
@@ -986,7 +959,7 @@ class EnterpriseControllerTest extends BaseControllerTest {
                 .queryParam("accountId", String.valueOf(savedWorker.getId()))
                 .header(HttpHeaders.AUTHORIZATION, jwt))
                 .andDo(print())
-                .andExpect(status().isOk());
+                .andExpect(status().isAccepted());
     }
     private static Stream<Arguments> streamForEmptyStringCheck() {
         return Stream.of(
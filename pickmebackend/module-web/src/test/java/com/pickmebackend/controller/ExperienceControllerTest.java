@@ -71,6 +71,7 @@ class ExperienceControllerTest extends BaseControllerTest {
                 .andExpect(jsonPath("joinedAt").value(joinedAt.toString()))
                 .andExpect(jsonPath("retiredAt").value(retiredAt.toString()))
                 .andExpect(jsonPath("account").isNotEmpty())
+                .andExpect(jsonPath("account.experiences").doesNotExist())
                 .andExpect(jsonPath("_links.self").exists())
                 .andExpect(jsonPath("_links.update-experience").exists())
                 .andExpect(jsonPath("_links.delete-experience").exists())
@@ -108,18 +109,10 @@ class ExperienceControllerTest extends BaseControllerTest {
                                 fieldWithPath("account.id").description("경력 내역 등록자 식별자"),
                                 fieldWithPath("account.email").description("경력 내역 등록자 이메일"),
                                 fieldWithPath("account.nickName").description("경력 내역 등록자 닉네임"),
-                                fieldWithPath("account.favorite").description("경력 내역 등록자를 좋아요한 사용자 목록"),
                                 fieldWithPath("account.userRole").description("경력 내역 등록자의 권한"),
                                 fieldWithPath("account.createdAt").description("경력 내역 등록자의 생성 날짜"),
                                 fieldWithPath("account.oneLineIntroduce").description("경력 내역 등록자의 한 줄 소개"),
                                 fieldWithPath("account.image").description("경력 내역 등록자의 프로필 이미지"),
-                                fieldWithPath("account.enterprise").description("경력 내역 등록자의 기업 정보"),
-                                fieldWithPath("account.hits").description("조회 수"),
-                                fieldWithPath("account.experiences[*].*").ignored(),
-                                fieldWithPath("account.licenses").description("경력 내역 등록자의 자격증"),
-                                fieldWithPath("account.prizes").description("경력 내역 등록자의 수상 내역"),
-                                fieldWithPath("account.projects").description("경력 내역 등록자의 프로젝트"),
-                                fieldWithPath("account.selfInterviews").description("경력 내역 등록자의 셀프 인터뷰"),
                                 fieldWithPath("_links.*.*").ignored()
                         )
                 ))
@@ -219,17 +212,10 @@ class ExperienceControllerTest extends BaseControllerTest {
                                 fieldWithPath("account.id").description("수정된 경력 내역 등록자 식별자"),
                                 fieldWithPath("account.email").description("수정된 경력 내역 등록자 이메일"),
                                 fieldWithPath("account.nickName").description("수정된 경력 내역 등록자 닉네임"),
-                                fieldWithPath("account.favorite").description("수정된 경력 내역 등록자를 좋아요한 사용자 목록"),
                                 fieldWithPath("account.userRole").description("수정된 경력 내역 등록자의 권한"),
                                 fieldWithPath("account.createdAt").description("수정된 경력 내역 등록자의 생성 날짜"),
                                 fieldWithPath("account.oneLineIntroduce").description("수정된 경력 내역 등록자의 한 줄 소개"),
                                 fieldWithPath("account.image").description("수정된 경력 내역 등록자의 프로필 이미지"),
-                                fieldWithPath("account.enterprise").description("수정된 경력 내역 등록자의 기업 정보"),
-                                fieldWithPath("account.experiences[*].*").ignored(),
-                                fieldWithPath("account.licenses").description("수정된 경력 내역 등록자의 자격증"),
-                                fieldWithPath("account.prizes").description("수정된 경력 내역 등록자의 수상 내역"),
-                                fieldWithPath("account.projects").description("수정된 경력 내역 등록자의 프로젝트"),
-                                fieldWithPath("account.selfInterviews").description("수정된 경력 내역 등록자의 셀프 인터뷰"),
                                 fieldWithPath("_links.*.*").ignored()
                         )
                 ))
@@ -345,17 +331,10 @@ class ExperienceControllerTest extends BaseControllerTest {
                                 fieldWithPath("account.id").description("삭제된 경력 내역 등록자 식별자"),
                                 fieldWithPath("account.email").description("삭제된 경력 내역 등록자 이메일"),
                                 fieldWithPath("account.nickName").description("삭제된 경력 내역 등록자 닉네임"),
-                                fieldWithPath("account.favorite").description("삭제된 경력 내역 등록자를 좋아요한 사용자 목록"),
                                 fieldWithPath("account.userRole").description("삭제된 경력 내역 등록자의 권한"),
                                 fieldWithPath("account.createdAt").description("삭제된 경력 내역 등록자의 생성 날짜"),
                                 fieldWithPath("account.oneLineIntroduce").description("삭제된 경력 내역 등록자의 한 줄 소개"),
                                 fieldWithPath("account.image").description("삭제된 경력 내역 등록자의 프로필 이미지"),
-                                fieldWithPath("account.enterprise").description("삭제된 경력 내역 등록자의 기업 정보"),
-                                fieldWithPath("account.experiences").ignored(),
-                                fieldWithPath("account.licenses").description("삭제된 경력 내역 등록자의 자격증"),
-                                fieldWithPath("account.prizes").description("삭제된 경력 내역 등록자의 수상 내역"),
-                                fieldWithPath("account.projects").description("삭제된 경력 내역 등록자의 프로젝트"),
-                                fieldWithPath("account.selfInterviews").description("삭제된 경력 내역 등록자의 셀프 인터뷰"),
                                 fieldWithPath("_links.*.*").ignored()
                         ))
                 )
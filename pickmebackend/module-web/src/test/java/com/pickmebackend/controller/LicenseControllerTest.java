@@ -104,17 +104,10 @@ class LicenseControllerTest extends BaseControllerTest {
                                 fieldWithPath("account.id").description("자격증 등록자 식별자"),
                                 fieldWithPath("account.email").description("자격증 등록자 이메일"),
                                 fieldWithPath("account.nickName").description("자격증 등록자 닉네임"),
-                                fieldWithPath("account.favorite").description("자격증 등록자를 좋아요한 사용자 목록"),
                                 fieldWithPath("account.userRole").description("자격증 등록자의 권한"),
                                 fieldWithPath("account.createdAt").description("자격증 등록자의 생성 날짜"),
                                 fieldWithPath("account.oneLineIntroduce").description("자격증 등록자의 한 줄 소개"),
                                 fieldWithPath("account.image").description("자격증 등록자의 프로필 이미지"),
-                                fieldWithPath("account.enterprise").description("자격증 등록자의 기업 정보"),
-                                fieldWithPath("account.experiences").description("자격증 등록자의 경력 사항"),
-                                fieldWithPath("account.licenses[*].*").ignored(),
-                                fieldWithPath("account.prizes").description("자격증 등록자의 수상 내역"),
-                                fieldWithPath("account.projects").description("자격증 등록자의 프로젝트"),
-                                fieldWithPath("account.selfInterviews").description("자격증 등록자의 셀프 인터뷰"),
                                 fieldWithPath("_links.*.*").ignored()
                         )
                 ))
@@ -209,17 +202,10 @@ class LicenseControllerTest extends BaseControllerTest {
                                 fieldWithPath("account.id").description("수정된 자격증 등록자 식별자"),
                                 fieldWithPath("account.email").description("수정된 자격증 등록자 이메일"),
                                 fieldWithPath("account.nickName").description("수정된 자격증 등록자 닉네임"),
-                                fieldWithPath("account.favorite").description("수정된 자격증 등록자를 좋아요한 사용자 목록"),
                                 fieldWithPath("account.userRole").description("수정된 자격증 등록자의 권한"),
                                 fieldWithPath("account.createdAt").description("수정된 자격증 등록자의 생성 날짜"),
                                 fieldWithPath("account.oneLineIntroduce").description("수정된 자격증 등록자의 한 줄 소개"),
                                 fieldWithPath("account.image").description("수정된 자격증 등록자의 프로필 이미지"),
-                                fieldWithPath("account.enterprise").description("수정된 자격증 등록자의 기업 정보"),
-                                fieldWithPath("account.experiences").description("수정된 자격증 등록자의 경력 사항"),
-                                fieldWithPath("account.licenses[*].*").ignored(),
-                                fieldWithPath("account.prizes").description("수정된 자격증 등록자의 수상 내역"),
-                                fieldWithPath("account.projects").description("수정된 자격증 등록자의 프로젝트"),
-                                fieldWithPath("account.selfInterviews").description("수정된 자격증 등록자의 셀프 인터뷰"),
                                 fieldWithPath("_links.*.*").ignored()
                         )
                 ))
@@ -334,17 +320,10 @@ class LicenseControllerTest extends BaseControllerTest {
                                 fieldWithPath("account.id").description("삭제된 자격증 등록자 식별자"),
                                 fieldWithPath("account.email").description("삭제된 자격증 등록자 이메일"),
                                 fieldWithPath("account.nickName").description("삭제된 자격증 등록자 닉네임"),
-                                fieldWithPath("account.favorite").description("삭제된 자격증 등록자를 좋아요한 사용자 목록"),
                                 fieldWithPath("account.userRole").description("삭제된 자격증 등록자의 권한"),
                                 fieldWithPath("account.createdAt").description("삭제된 자격증 등록자의 생성 날짜"),
                                 fieldWithPath("account.oneLineIntroduce").description("삭제된 자격증 등록자의 한 줄 소개"),
                                 fieldWithPath("account.image").description("삭제된 자격증 등록자의 프로필 이미지"),
-                                fieldWithPath("account.enterprise").description("삭제된 자격증 등록자의 기업 정보"),
-                                fieldWithPath("account.experiences").description("삭제된 자격증 등록자의 경력 사항"),
-                                fieldWithPath("account.licenses").ignored(),
-                                fieldWithPath("account.prizes").description("삭제된 자격증 등록자의 수상 내역"),
-                                fieldWithPath("account.projects").description("삭제된 자격증 등록자의 프로젝트"),
-                                fieldWithPath("account.selfInterviews").description("삭제된 자격증 등록자의 셀프 인터뷰"),
                                 fieldWithPath("_links.*.*").ignored()
                         ))
                 )
@@ -0,0 +1,207 @@
+package com.pickmebackend.controller;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.pickmebackend.controller.common.BaseControllerTest;
+import com.pickmebackend.domain.Account;
+import com.pickmebackend.domain.MailOutbox;
+import com.pickmebackend.domain.dto.enterprise.EnterpriseRequestDto;
+import com.pickmebackend.domain.dto.enterprise.SuggestionRequestDto;
+import com.pickmebackend.domain.dto.verificationCode.SendCodeRequestDto;
+import com.pickmebackend.domain.enums.MailStatus;
+import com.pickmebackend.domain.enums.UserRole;
+import com.pickmebackend.repository.MailOutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = {
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025",
+        "mail-outbox.initial-backoff=200ms",
+        "mail-outbox.poll-interval=1h"
+})
+class MailOutboxTest extends BaseControllerTest {
+
+    private final String accountURL = "/api/accounts/";
+
+    private final String enterpriseURL = "/api/enterprises/";
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    private GreenMail greenMail;
+
+    @BeforeEach
+    void setUp() {
+        greenMail = new GreenMail(ServerSetupTest.SMTP);
+        greenMail.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        greenMail.stop();
+        mailOutboxRepository.deleteAll();
+        verificationCodeRepository.deleteAll();
+        accountRepository.deleteAll();
+        enterpriseRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("인증코드 전송 요청은 메일 발송을 기다리지 않고 202를 반환하고, 메일은 outbox 를 거쳐 전송")
+    void sendCode() throws Exception {
+        SendCodeRequestDto sendCodeRequestDto = SendCodeRequestDto.builder()
+                .email(appProperties.getTestEmail())
+                .build();
+
+        mockMvc.perform(post(accountURL + "sendCode")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(sendCodeRequestDto)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("email").value(appProperties.getTestEmail()));
+
+        assertThat(greenMail.waitForIncomingEmail(5_000, 1)).isTrue();
+        MimeMessage message = greenMail.getReceivedMessages()[0];
+        assertThat(message.getAllRecipients()[0].toString()).isEqualTo(appProperties.getTestEmail());
+        assertThat(message.getSubject()).isEqualTo("[PickMe] 인증 번호가 도착했습니다!");
+        assertThat(await(() -> mailOutboxRepository.findAll().stream().allMatch(mail -> mail.getStatus() == MailStatus.SENT))).isTrue();
+    }
+
+    @Test
+    @DisplayName("채용 제안 메일 요청은 202를 반환하고, 메일은 outbox 를 거쳐 전송")
+    void sendSuggestion() throws Exception {
+        EnterpriseRequestDto enterpriseRequestDto = createEnterpriseDto();
+        Account enterprise = accountRepository.findByEmail(enterpriseRequestDto.getEmail()).get();
+        Account account = createAccount();
+        jwt = jwtProvider.generateToken(enterprise);
+
+        mockMvc.perform(get(enterpriseURL + "suggestion")
+                .queryParam("accountId", String.valueOf(account.getId()))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwt))
+                .andExpect(status().isAccepted());
+
+        assertThat(greenMail.waitForIncomingEmail(5_000, 1)).isTrue();
+        MimeMessage message = greenMail.getReceivedMessages()[0];
+        assertThat(message.getAllRecipients()[0].toString()).isEqualTo(account.getEmail());
+        assertThat(message.getSubject()).contains(appProperties.getTestName());
+    }
+
+    @Test
+    @DisplayName("여러 유저에게 한 번에 채용 제안을 보내면 유저마다 메일이 전송")
+    void sendSuggestions() throws Exception {
+        EnterpriseRequestDto enterpriseRequestDto = createEnterpriseDto();
+        Account enterprise = accountRepository.findByEmail(enterpriseRequestDto.getEmail()).get();
+        IntStream.rangeClosed(1, 5).forEach(this::createAccounts);
+        List<Long> accountIds = accountRepository.findAll().stream()
+                .filter(account -> account.getUserRole() == UserRole.USER)
+                .map(Account::getId)
+                .collect(Collectors.toList());
+        jwt = jwtProvider.generateToken(enterprise);
+
+        mockMvc.perform(post(enterpriseURL + "suggestion")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwt)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new SuggestionRequestDto(accountIds))))
+                .andExpect(status().isAccepted());
+
+        assertThat(greenMail.waitForIncomingEmail(5_000, 5)).isTrue();
+        assertThat(Arrays.stream(greenMail.getReceivedMessages())
+                .map(this::recipient)
+                .collect(Collectors.toSet()))
+                .containsExactlyInAnyOrder(IntStream.rangeClosed(1, 5).mapToObj(i -> i + appProperties.getTestEmail()).toArray(String[]::new));
+    }
+
+    @Test
+    @DisplayName("여러 유저에게 채용 제안 시 존재하지 않는 유저나 기업이 있거나 유저를 고르지 않으면 Bad Request")
+    void sendSuggestionsWithInvalidAccounts() throws Exception {
+        EnterpriseRequestDto enterpriseRequestDto = createEnterpriseDto();
+        Account enterprise = accountRepository.findByEmail(enterpriseRequestDto.getEmail()).get();
+        Account anotherEnterprise = accountRepository.findByEmail(createAnotherEnterpriseDto().getEmail()).get();
+        Account account = createAccount();
+        jwt = jwtProvider.generateToken(enterprise);
+
+        mockMvc.perform(post(enterpriseURL + "suggestion")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwt)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new SuggestionRequestDto(Arrays.asList(account.getId(), -1L)))))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post(enterpriseURL + "suggestion")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwt)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new SuggestionRequestDto(Arrays.asList(account.getId(), anotherEnterprise.getId())))))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post(enterpriseURL + "suggestion")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwt)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new SuggestionRequestDto(Collections.emptyList()))))
+                .andExpect(status().isBadRequest());
+
+        assertThat(mailOutboxRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("SMTP 서버에 연결할 수 없으면 요청은 성공하고, 메일은 다시 시도하여 전송")
+    void retryWhenSmtpIsDown() throws Exception {
+        greenMail.stop();
+        SendCodeRequestDto sendCodeRequestDto = SendCodeRequestDto.builder()
+                .email(appProperties.getTestEmail())
+                .build();
+
+        mockMvc.perform(post(accountURL + "sendCode")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(sendCodeRequestDto)))
+                .andExpect(status().isAccepted());
+
+        assertThat(await(() -> mailOutboxRepository.findAll().stream().anyMatch(mail -> mail.getAttempts() > 0))).isTrue();
+        MailOutbox failed = mailOutboxRepository.findAll().get(0);
+        assertThat(failed.getStatus()).isEqualTo(MailStatus.PENDING);
+        assertThat(failed.getLastError()).isNotBlank();
+
+        greenMail = new GreenMail(ServerSetupTest.SMTP);
+        greenMail.start();
+
+        assertThat(greenMail.waitForIncomingEmail(10_000, 1)).isTrue();
+        assertThat(await(() -> mailOutboxRepository.findAll().get(0).getStatus() == MailStatus.SENT)).isTrue();
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+    }
+
+    private String recipient(MimeMessage message) {
+        try {
+            return message.getAllRecipients()[0].toString();
+        } catch (MessagingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private boolean await(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(100);
+        }
+        return false;
+    }
+}
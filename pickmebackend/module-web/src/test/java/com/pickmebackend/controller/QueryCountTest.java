@@ -0,0 +1,353 @@
+package com.pickmebackend.controller;
+
+import com.pickmebackend.controller.common.BaseControllerTest;
+import com.pickmebackend.domain.Account;
+import com.pickmebackend.domain.AccountTech;
+import com.pickmebackend.domain.Experience;
+import com.pickmebackend.domain.Technology;
+import com.pickmebackend.domain.dto.account.AccountCardResponseDto;
+import com.pickmebackend.domain.dto.account.AccountRequestDto;
+import com.pickmebackend.domain.dto.enterprise.EnterpriseRequestDto;
+import com.pickmebackend.domain.dto.experience.ExperienceRequestDto;
+import com.pickmebackend.repository.ExperienceRepository;
+import com.pickmebackend.repository.account.AccountTechRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class QueryCountTest extends BaseControllerTest {
+
+    private final String accountURL = "/api/accounts/";
+
+    private final String enterpriseURL = "/api/enterprises/";
+
+    private final String experienceURL = "/api/experiences/";
+
+    private final String BEARER = "Bearer ";
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AccountTechRepository accountTechRepository;
+
+    @Autowired
+    private ExperienceRepository experienceRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        experienceRepository.deleteAll();
+        accountTechRepository.deleteAll();
+        technologyRepository.deleteAll();
+        accountRepository.deleteAll();
+        enterpriseRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("자신의 프로필 조회 시 실행되는 쿼리 수")
+    void loadProfile() throws Exception {
+        Account account = createAccountWithProfile();
+        jwt = jwtProvider.generateToken(account);
+
+        perform(get(accountURL + "profile").header(HttpHeaders.AUTHORIZATION, BEARER + jwt));
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(7);
+        assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("다른 유저 조회 시 실행되는 쿼리 수")
+    void loadAccount() throws Exception {
+        Account account = createAccountWithProfile();
+        jwt = jwtProvider.generateToken(createAnotherAccount());
+
+        perform(get(accountURL + "{accountId}", account.getId()).header(HttpHeaders.AUTHORIZATION, BEARER + jwt));
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(9);
+        assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(11);
+
+        perform(get(accountURL + "{accountId}", account.getId()).header(HttpHeaders.AUTHORIZATION, BEARER + jwt));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("유저 삭제 시 실행되는 쿼리 수")
+    void deleteAccount() throws Exception {
+        Account account = createAccount();
+        jwt = jwtProvider.generateToken(account);
+
+        perform(delete(accountURL + "{accountId}", account.getId()).header(HttpHeaders.AUTHORIZATION, BEARER + jwt));
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(13);
+    }
+
+    @Test
+    @DisplayName("경력 수정과 삭제 시 경력은 한 번만 조회")
+    void updateAndDeleteExperience() throws Exception {
+        Account account = createAccount();
+        Experience experience = experienceRepository.save(Experience.builder().companyName("company").account(account).build());
+        jwt = jwtProvider.generateToken(account);
+
+        perform(put(experienceURL + "{experienceId}", experience.getId())
+                .header(HttpHeaders.AUTHORIZATION, BEARER + jwt)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(ExperienceRequestDto.builder().companyName("changed").build())));
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(9);
+        assertThat(statistics.getEntityStatistics(Experience.class.getName()).getLoadCount()).isEqualTo(1);
+
+        perform(delete(experienceURL + "{experienceId}", experience.getId()).header(HttpHeaders.AUTHORIZATION, BEARER + jwt));
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(8);
+        assertThat(statistics.getEntityStatistics(Experience.class.getName()).getLoadCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("유저 목록 조회 시 페이지 크기와 관계없이 일정한 쿼리 수")
+    void loadAccountsWithFilter() throws Exception {
+        IntStream.rangeClosed(1, 20).forEach(this::createAccounts);
+
+        perform(get(accountURL).param("size", "20"));
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("유저 목록 카드는 역할과 기술이 있어도 두 번의 쿼리로 조회")
+    void loadAccountCards() throws Exception {
+        List<Technology> technologies = technologyRepository.saveAll(IntStream.range(0, 7)
+                .mapToObj(i -> Technology.builder().name("tech" + i).build())
+                .collect(Collectors.toList()));
+        IntStream.rangeClosed(1, 25).forEach(this::createAccounts);
+        accountRepository.findAll().forEach(account -> accountTechRepository.saveAll(technologies.stream()
+                .map(technology -> AccountTech.builder().account(account).technology(technology).build())
+                .collect(Collectors.toList())));
+        mockMvc.perform(get(accountURL).param("size", "20")).andExpect(status().isOk());
+
+        statistics.clear();
+        mockMvc.perform(get(accountURL).param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList.length()", is(20)))
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[0].positions.length()", is(1)))
+                .andExpect(jsonPath("_embedded.accountCardResponseDtoList[0].technologies.length()", is(AccountCardResponseDto.TOP_TECHNOLOGIES)));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 필터로 유저 목록을 다시 조회하면 캐시된 전체 개수를 사용")
+    void loadAccountsWithCachedCount() throws Exception {
+        IntStream.rangeClosed(1, 25).forEach(this::createAccounts);
+
+        perform(get(accountURL).param("size", "20"));
+        assertThat(countQueries()).isEqualTo(1);
+
+        mockMvc.perform(get(accountURL).param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements", is(25)));
+        assertThat(countQueries()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("페이지가 가득 차지 않으면 count 쿼리가 실행되지 않음")
+    void loadAccountsWithoutCount() throws Exception {
+        IntStream.rangeClosed(1, 25).forEach(this::createAccounts);
+
+        statistics.clear();
+        mockMvc.perform(get(accountURL).param("page", "1").param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("page.totalElements", is(25)));
+
+        assertThat(countQueries()).isZero();
+    }
+
+    @Test
+    @DisplayName("커서 기반 유저 목록 조회 시 count 쿼리가 실행되지 않음")
+    void loadAccountsWithCursor() throws Exception {
+        IntStream.rangeClosed(1, 20).forEach(this::createAccounts);
+
+        perform(get(accountURL).param("cursor", "").param("size", "20"));
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("좋아요를 누른 유저 조회 시 실행되는 쿼리 수")
+    void getFavoriteUsers() throws Exception {
+        Account account = createAccount();
+
+        perform(get(accountURL + "{accountId}/favorite", account.getId()));
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 반복 요청 시 인증을 위한 계정 조회가 실행되지 않음")
+    void authenticateWithCachedPrincipal() throws Exception {
+        Account account = createAccount();
+        jwt = jwtProvider.generateToken(account);
+
+        perform(get(accountURL + "{accountId}/favorite", account.getId()).header(HttpHeaders.AUTHORIZATION, BEARER + jwt));
+        perform(get(accountURL + "{accountId}/favorite", account.getId()).header(HttpHeaders.AUTHORIZATION, BEARER + jwt));
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("거절된 토큰으로 반복 요청해도 계정을 다시 조회하지 않고, 캐시된 계정도 비우지 않음")
+    void authenticateWithRejectedToken() throws Exception {
+        Account account = createAccount();
+        String oldJwt = jwtProvider.generateToken(account);
+        account.changePassword(passwordEncoder.encode("newPassword"));
+        accountRepository.save(account);
+        jwt = jwtProvider.generateToken(account);
+        String otherJwt = jwtProvider.generateToken(Account.builder()
+                .id(account.getId() + 1)
+                .email(account.getEmail())
+                .passwordVersion(account.getPasswordVersion())
+                .build());
+
+        perform(get(accountURL + "{accountId}/favorite", account.getId()).header(HttpHeaders.AUTHORIZATION, BEARER + jwt));
+        perform(get(accountURL + "{accountId}/favorite", account.getId()).header(HttpHeaders.AUTHORIZATION, BEARER + oldJwt));
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(1);
+
+        perform(get(accountURL + "{accountId}/favorite", account.getId()).header(HttpHeaders.AUTHORIZATION, BEARER + otherJwt));
+        perform(get(accountURL + "{accountId}/favorite", account.getId()).header(HttpHeaders.AUTHORIZATION, BEARER + otherJwt));
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(1);
+
+        perform(get(accountURL + "{accountId}/favorite", account.getId()).header(HttpHeaders.AUTHORIZATION, BEARER + jwt));
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기술스택 30개를 모두 바꾸는 프로필 수정 시 실행되는 쿼리 수")
+    void updateTechnologies() throws Exception {
+        Account account = createAccount();
+        List<Technology> technologies = technologyRepository.saveAll(IntStream.range(0, 60)
+                .mapToObj(i -> Technology.builder().name("tech" + i).build())
+                .collect(Collectors.toList()));
+        accountTechRepository.saveAll(technologies.subList(0, 30).stream()
+                .map(technology -> AccountTech.builder().account(account).technology(technology).build())
+                .collect(Collectors.toList()));
+        AccountRequestDto accountRequestDto = modelMapper.map(account, AccountRequestDto.class);
+        accountRequestDto.setTechnologies(technologies.subList(30, 60));
+        jwt = jwtProvider.generateToken(account);
+
+        perform(put(accountURL + "{accountId}", account.getId())
+                .header(HttpHeaders.AUTHORIZATION, BEARER + jwt)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(accountRequestDto)));
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(38);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(30);
+        assertThat(accountTechRepository.findAllByAccount_Id(account.getId())).hasSize(30);
+    }
+
+    @Test
+    @DisplayName("기술 목록 조회는 메모리의 스냅샷을 사용")
+    void getTechnologies() throws Exception {
+        technologyRepository.saveAll(IntStream.range(0, 30)
+                .mapToObj(i -> Technology.builder().name("tech" + i).build())
+                .collect(Collectors.toList()));
+        mockMvc.perform(get("/api/technologies")).andExpect(status().isOk());
+
+        perform(get("/api/technologies"));
+        perform(get("/api/technologies").param("prefix", "tech1"));
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("기업 담당자 프로필 조회 시 실행되는 쿼리 수")
+    void loadEnterpriseProfile() throws Exception {
+        EnterpriseRequestDto enterpriseRequestDto = createEnterpriseDto();
+        Account enterprise = accountRepository.findByEmail(enterpriseRequestDto.getEmail()).get();
+        jwt = jwtProvider.generateToken(enterprise);
+
+        perform(get(enterpriseURL + "profile").header(HttpHeaders.AUTHORIZATION, BEARER + jwt));
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(8);
+        assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("기업 담당자 조회 시 실행되는 쿼리 수")
+    void loadEnterprise() throws Exception {
+        EnterpriseRequestDto enterpriseRequestDto = createEnterpriseDto();
+        Account enterprise = accountRepository.findByEmail(enterpriseRequestDto.getEmail()).get();
+
+        perform(get(enterpriseURL + "{enterpriseId}", enterprise.getId()));
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(7);
+        assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("기업 담당자 목록 조회 시 페이지 크기와 관계없이 일정한 쿼리 수")
+    void loadEnterprisesWithFilter() throws Exception {
+        IntStream.rangeClosed(1, 20).forEach(this::createEnterpriseDtos);
+
+        perform(get(enterpriseURL).param("size", "20"));
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(16);
+        assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(40);
+    }
+
+    private long countQueries() {
+        return Arrays.stream(statistics.getQueries())
+                .filter(query -> query.startsWith("select count("))
+                .mapToLong(query -> statistics.getQueryStatistics(query).getExecutionCount())
+                .sum();
+    }
+
+    private void perform(RequestBuilder requestBuilder) throws Exception {
+        statistics.clear();
+        mockMvc.perform(requestBuilder).andExpect(status().isOk());
+    }
+
+    private Account createAccountWithProfile() {
+        Account account = createAccount();
+        IntStream.rangeClosed(1, 3).forEach(i -> {
+            Technology technology = technologyRepository.save(Technology.builder().name("tech" + i).build());
+            accountTechRepository.save(AccountTech.builder().account(account).technology(technology).build());
+            experienceRepository.save(Experience.builder().companyName("company" + i).account(account).build());
+        });
+        return account;
+    }
+}
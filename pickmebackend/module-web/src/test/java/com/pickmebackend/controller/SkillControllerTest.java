@@ -0,0 +1,82 @@
+package com.pickmebackend.controller;
+
+import com.pickmebackend.controller.common.BaseControllerTest;
+import com.pickmebackend.domain.Technology;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class SkillControllerTest extends BaseControllerTest {
+
+    private final String technologyURL = "/api/technologies";
+
+    @AfterEach
+    void tearDown() {
+        technologyRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("기술 목록 조회 후 같은 ETag 로 다시 조회하면 304")
+    void getTechnologies_not_modified() throws Exception {
+        saveTechnologies("Java", "JavaScript", "Spring");
+
+        String eTag = mockMvc.perform(get(technologyURL))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("[*].name", hasItems("Java", "JavaScript", "Spring")))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(technologyURL).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andDo(print())
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("기술이 추가되면 새 ETag 와 함께 추가된 목록을 반환")
+    void getTechnologies_after_change() throws Exception {
+        saveTechnologies("Java");
+        String eTag = mockMvc.perform(get(technologyURL))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        saveTechnologies("Kotlin");
+
+        mockMvc.perform(get(technologyURL).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)))
+                .andExpect(jsonPath("[*].name", hasItems("Java", "Kotlin")));
+    }
+
+    @Test
+    @DisplayName("접두사로 기술 이름 자동 완성")
+    void getTechnologies_by_prefix() throws Exception {
+        saveTechnologies("Spring", "QPA", "qavascript", "Qava", "Qenkins", "QUnit");
+
+        mockMvc.perform(get(technologyURL).param("prefix", "qa").param("limit", "5"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("[*].name", contains("Qava", "qavascript")));
+
+        mockMvc.perform(get(technologyURL).param("prefix", "Q").param("limit", "3"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("[*].name", contains("Qava", "qavascript", "Qenkins")));
+    }
+
+    private void saveTechnologies(String... names) {
+        technologyRepository.saveAll(Arrays.stream(names)
+                .map(name -> Technology.builder().name(name).build())
+                .collect(Collectors.toList()));
+    }
+}
@@ -16,6 +16,8 @@ import com.pickmebackend.repository.TechnologyRepository;
 import com.pickmebackend.repository.VerificationCodeRepository;
 import com.pickmebackend.repository.account.AccountRepository;
 import com.pickmebackend.repository.enterprise.EnterpriseRepository;
+import com.pickmebackend.verification.VerificationCodeRateLimiter;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -50,8 +52,7 @@ public class BaseControllerTest {
     @Autowired
     protected ObjectMapper objectMapper;
 
-    @Autowired
-    protected ModelMapper modelMapper;
+    protected final ModelMapper modelMapper = new ModelMapper();
 
     @Autowired
     protected JwtProvider jwtProvider;
@@ -74,8 +75,16 @@ public class BaseControllerTest {
     @Autowired
     protected VerificationCodeRepository verificationCodeRepository;
 
+    @Autowired
+    protected VerificationCodeRateLimiter verificationCodeRateLimiter;
+
     protected String jwt;
 
+    @BeforeEach
+    void resetVerificationRateLimit() {
+        verificationCodeRateLimiter.clear();
+    }
+
     protected Account createAccount() {
         Account account = Account.builder()
                 .email(appProperties.getTestEmail())
@@ -238,7 +247,7 @@ public class BaseControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(sendCodeRequestDto)))
                 .andDo(print())
-                .andExpect(status().isCreated());
+                .andExpect(status().isAccepted());
 
         String contentAsString = resultActions.andReturn().getResponse().getContentAsString();
         VerifyCodeRequestDto verifyCodeRequestDto = objectMapper.readValue(contentAsString, VerifyCodeRequestDto.class);